@@ -1,3 +1,7 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
 dependencies {
     // add-ons
     implementation(project(":modules:jpa"))
@@ -13,6 +17,12 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:${project.properties["springDocOpenApiVersion"]}")
 
+    // outbox cdc (logical replication)
+    implementation("org.postgresql:postgresql")
+
+    // cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // querydsl
     annotationProcessor("com.querydsl:querydsl-apt::jakarta")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
@@ -22,7 +32,18 @@ dependencies {
     testImplementation(testFixtures(project(":modules:jpa")))
     testImplementation(testFixtures(project(":modules:redis")))
 
+    // jmh - 인터셉터 벤치마크용 MockHttpServletRequest
+    jmhImplementation("org.springframework:spring-test")
+
     //Resilience
     implementation("org.springframework.cloud:spring-cloud-starter-circuitbreaker-resilience4j")
 
 }
+
+jmh {
+    jmhVersion = project.properties["jmhVersion"] as String
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    profilers = listOf("gc")
+}
@@ -0,0 +1,118 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.application.product.ProductQueryUseCase.ProductDetailInfo;
+import com.loopers.application.product.ProductQueryUseCase.ProductSummaryInfo;
+import com.loopers.domain.model.common.PageResult;
+import com.loopers.infrastructure.cache.codec.ProductDetailInfoCodec;
+import com.loopers.infrastructure.cache.codec.ProductSummaryPageCodec;
+import com.loopers.infrastructure.cache.codec.VersionedBinaryRedisSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 값 직렬화 비교: 기본 타입 정보 포함 JSON vs 스키마 기반 바이너리.
+ * 실행: ./gradlew :apps:commerce-api:jmh  (gc 프로파일러로 gc.alloc.rate.norm = op 당 할당 바이트 확인)
+ * payload 크기는 인코딩 벤치마크 결과에 payloadBytes 보조 지표(op 당 인코딩 바이트)로 함께 나온다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CacheValueSerializerBenchmark {
+
+    private GenericJackson2JsonRedisSerializer json;
+    private VersionedBinaryRedisSerializer<ProductDetailInfo> binaryDetail;
+    private VersionedBinaryRedisSerializer<PageResult<ProductSummaryInfo>> binaryPage;
+
+    private ProductDetailInfo detail;
+    private PageResult<ProductSummaryInfo> page;
+
+    private byte[] jsonDetailBytes;
+    private byte[] jsonPageBytes;
+    private byte[] binaryDetailBytes;
+    private byte[] binaryPageBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = CacheConfig.defaultTypingJsonSerializer();
+        binaryDetail = new VersionedBinaryRedisSerializer<>(new ProductDetailInfoCodec());
+        binaryPage = new VersionedBinaryRedisSerializer<>(new ProductSummaryPageCodec());
+
+        detail = new ProductDetailInfo(12_345L, 7L, "Nike", "에어맥스 90 트리플 화이트",
+                139_000, 119_000, true, 42, 1_873, "가볍고 편안한 쿠셔닝의 클래식 러닝화");
+
+        List<ProductSummaryInfo> content = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            content.add(new ProductSummaryInfo(100_000L + i, 7L, "Nike", "에어맥스 90 #" + i,
+                    139_000 + i * 1_000, i % 3 == 0 ? 99_000 : null, i % 3 == 0, 1_000 + i));
+        }
+        page = new PageResult<>(content, 0, 20, 100_000, 5_000);
+
+        jsonDetailBytes = json.serialize(detail);
+        jsonPageBytes = json.serialize(page);
+        binaryDetailBytes = binaryDetail.serialize(detail);
+        binaryPageBytes = binaryPage.serialize(page);
+    }
+
+    /**
+     * 마지막 인코딩 결과 크기를 보고한다. 같은 값을 매번 덮어쓰므로 스레드 하나 기준으로 payload 크기와 같다.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class PayloadSize {
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+
+        byte[] record(byte[] encoded) {
+            payloadBytes = encoded.length;
+            return encoded;
+        }
+    }
+
+    @Benchmark
+    public byte[] encodeDetailJson(PayloadSize size) {
+        return size.record(json.serialize(detail));
+    }
+
+    @Benchmark
+    public byte[] encodeDetailBinary(PayloadSize size) {
+        return size.record(binaryDetail.serialize(detail));
+    }
+
+    @Benchmark
+    public Object decodeDetailJson() {
+        return json.deserialize(jsonDetailBytes);
+    }
+
+    @Benchmark
+    public Object decodeDetailBinary() {
+        return binaryDetail.deserialize(binaryDetailBytes);
+    }
+
+    @Benchmark
+    public byte[] encodePageJson(PayloadSize size) {
+        return size.record(json.serialize(page));
+    }
+
+    @Benchmark
+    public byte[] encodePageBinary(PayloadSize size) {
+        return size.record(binaryPage.serialize(page));
+    }
+
+    @Benchmark
+    public Object decodePageJson() {
+        return json.deserialize(jsonPageBytes);
+    }
+
+    @Benchmark
+    public Object decodePageBinary() {
+        return binaryPage.deserialize(binaryPageBytes);
+    }
+}
@@ -0,0 +1,63 @@
+package com.loopers.infrastructure.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 검증 비교: 이전 방식(매번 MessageDigest 생성, 문자열 결합, Base64 문자열 비교) vs 스레드별 digest 재사용 + 바이트 비교.
+ * 실행: ./gradlew :apps:commerce-api:jmh  (ops/s 와 gc 프로파일러의 gc.alloc.rate.norm = matches 한 번당 할당 바이트 확인)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class Sha256PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "Password1!";
+
+    private Sha256PasswordEncoder encoder;
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encoder = new Sha256PasswordEncoder();
+        encoded = encoder.encrypt(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matchesLegacy() {
+        return legacyMatches(PASSWORD, encoded);
+    }
+
+    @Benchmark
+    public boolean matchesPooled() {
+        return encoder.matches(PASSWORD, encoded);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean matchesPooledContended() {
+        return encoder.matches(PASSWORD, encoded);
+    }
+
+    /**
+     * 변경 전 Sha256PasswordEncoder.matches 와 같은 구현.
+     */
+    private static boolean legacyMatches(String rawPassword, String encodedPassword) {
+        String[] parts = encodedPassword.split(":");
+        if (parts.length != 2) {
+            return false;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((rawPassword + parts[0]).getBytes(StandardCharsets.UTF_8));
+            return parts[1].equals(Base64.getEncoder().encodeToString(hash));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.loopers.interfaces.api.interceptor;
+
+import com.loopers.application.user.AuthenticatedPrincipalCache;
+import com.loopers.application.user.AuthenticationService;
+import com.loopers.application.user.SessionRevocationStore;
+import com.loopers.application.user.SessionService;
+import com.loopers.domain.model.user.*;
+import com.loopers.domain.repository.UserRepository;
+import com.loopers.infrastructure.security.CaffeineAuthenticatedPrincipalCache;
+import com.loopers.infrastructure.security.HmacSessionTokenProvider;
+import com.loopers.infrastructure.security.Sha256PasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 인터셉터 한 번의 비용 비교: 로그인 헤더(캐시 없음 / 인증 캐시 적중) vs 서명된 세션 토큰.
+ * 실행: ./gradlew :apps:commerce-api:jmh  (gc 프로파일러로 gc.alloc.rate.norm = op 당 할당 바이트 확인)
+ * 사용자 조회는 메모리 저장소로 대체하므로 실제 헤더 모드 비용은 여기에 DB 왕복이 더해진다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AuthenticationInterceptorBenchmark {
+
+    private static final String LOGIN_ID = "bench1234";
+    private static final String PASSWORD = "Password1!";
+
+    private AuthenticationInterceptor uncachedInterceptor;
+    private AuthenticationInterceptor cachedInterceptor;
+    private MockHttpServletRequest headerRequest;
+    private MockHttpServletRequest tokenRequest;
+    private MockHttpServletResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Sha256PasswordEncoder passwordEncoder = new Sha256PasswordEncoder();
+        User user = User.reconstitute(new UserData(1L, UserId.of(LOGIN_ID), UserName.of("홍길동"),
+                passwordEncoder.encrypt(PASSWORD), Birthday.of(LocalDate.of(1990, 5, 15)),
+                Email.of("bench@example.com"), 0, LocalDateTime.now()));
+        UserRepository userRepository = new InMemoryUserRepository(user);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        SessionRevocationStore revocationStore = new SessionRevocationStore() {
+            @Override
+            public long currentEpoch(UserId userId) {
+                return 0;
+            }
+
+            @Override
+            public void revoke(UserId userId) {
+            }
+        };
+        AuthenticationService uncached = new AuthenticationService(userRepository, passwordEncoder,
+                new NoOpPrincipalCache(), meterRegistry);
+        AuthenticationService cached = new AuthenticationService(userRepository, passwordEncoder,
+                new CaffeineAuthenticatedPrincipalCache(new RedisTemplate<>(), new RedisMessageListenerContainer(),
+                        meterRegistry, Duration.ofMinutes(10), 1000), meterRegistry);
+        SessionService sessionService = new SessionService(uncached,
+                new HmacSessionTokenProvider("benchmark-session-secret-0123456789abcdef"),
+                revocationStore, Duration.ofHours(1));
+
+        uncachedInterceptor = new AuthenticationInterceptor(uncached, sessionService);
+        cachedInterceptor = new AuthenticationInterceptor(cached, sessionService);
+
+        headerRequest = new MockHttpServletRequest();
+        headerRequest.addHeader("X-Loopers-LoginId", LOGIN_ID);
+        headerRequest.addHeader("X-Loopers-LoginPw", PASSWORD);
+        tokenRequest = new MockHttpServletRequest();
+        tokenRequest.addHeader("Authorization", "Bearer " + sessionService.login(UserId.of(LOGIN_ID), PASSWORD).token());
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public boolean headerUncached() throws Exception {
+        return uncachedInterceptor.preHandle(headerRequest, response, null);
+    }
+
+    @Benchmark
+    public boolean headerCached() throws Exception {
+        return cachedInterceptor.preHandle(headerRequest, response, null);
+    }
+
+    @Benchmark
+    public boolean sessionToken() throws Exception {
+        return uncachedInterceptor.preHandle(tokenRequest, response, null);
+    }
+
+    private record InMemoryUserRepository(User user) implements UserRepository {
+
+        @Override
+        public User save(User member) {
+            return member;
+        }
+
+        @Override
+        public Optional<User> findById(UserId userId) {
+            return user.getUserId().equals(userId) ? Optional.of(user) : Optional.empty();
+        }
+
+        @Override
+        public boolean existsById(UserId userId) {
+            return user.getUserId().equals(userId);
+        }
+    }
+
+    private static final class NoOpPrincipalCache implements AuthenticatedPrincipalCache {
+
+        @Override
+        public long generation() {
+            return 0;
+        }
+
+        @Override
+        public boolean contains(UserId userId, String rawPassword) {
+            return false;
+        }
+
+        @Override
+        public void put(UserId userId, String rawPassword, long generation) {
+        }
+
+        @Override
+        public void invalidate(UserId userId) {
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.loopers.application.coupon;
+
+/**
+ * 선착순 쿠폰 발급 요청을 DB 앞단에서 걸러내는 입장 판정.
+ * commerce-streamer 의 발급 게이트와 같은 Redis 상태를 읽으며, 최종 발급 판정은 여전히 streamer 가 맡는다.
+ */
+public interface CouponIssueAdmission {
+
+    /**
+     * ADMIT 이면 판정과 함께 접수 유저로 기록해 자리를 잡는다. 접수가 커밋되지 못하면 {@link #release} 로 돌려줘야 한다.
+     */
+    Decision check(Long couponId, String userId);
+
+    /**
+     * 쿠폰의 최대 발급 수량을 기억해 둔다. 0 이하면 무제한이다.
+     */
+    void rememberQuota(Long couponId, int maxIssuance);
+
+    /**
+     * 판정 없이 접수된 요청(Redis 장애 등)의 유저를 기록해 같은 유저의 재요청을 막는다.
+     */
+    void markRequested(Long couponId, String userId);
+
+    /**
+     * check 에서 잡은 자리를 돌려준다.
+     */
+    void release(Long couponId, String userId);
+
+    enum Decision {
+        ADMIT,
+        DUPLICATE,
+        SOLD_OUT,
+        QUOTA_UNKNOWN
+    }
+}
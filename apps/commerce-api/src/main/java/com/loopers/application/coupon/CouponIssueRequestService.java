@@ -11,35 +11,56 @@ import com.loopers.infrastructure.outbox.OutboxJpaEntity;
 import com.loopers.infrastructure.outbox.OutboxJpaRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * 선착순 쿠폰 발급 요청을 접수한다.
+ * 이미 발급/접수된 유저와 수량이 소진된 쿠폰은 Redis 입장 판정만으로 바로 거절하고, 통과한 요청만 DB 와 Outbox 에 기록한다.
+ * 입장 판정이 통과시키면서 잡은 자리는 접수 트랜잭션이 커밋되지 못하면(예외, 롤백) 같은 트랜잭션 동기화에서 돌려준다.
+ * Redis 를 읽지 못하면 판정 없이 접수하며, 최종 발급 여부는 streamer 의 발급 게이트가 정한다.
+ */
 @Service
 @Transactional
 public class CouponIssueRequestService implements RequestCouponIssueUseCase {
 
+    private static final Logger log = LoggerFactory.getLogger(CouponIssueRequestService.class);
     private static final String COUPON_ISSUE_REQUESTS = "coupon-issue-requests";
 
     private final CouponRepository couponRepository;
     private final CouponIssueRequestJpaRepository issueRequestRepository;
     private final OutboxJpaRepository outboxRepository;
+    private final CouponIssueAdmission couponIssueAdmission;
+    private final CouponIssueResultSubscription resultSubscription;
     private final ObjectMapper objectMapper;
 
     public CouponIssueRequestService(CouponRepository couponRepository,
                                      CouponIssueRequestJpaRepository issueRequestRepository,
                                      OutboxJpaRepository outboxRepository,
+                                     CouponIssueAdmission couponIssueAdmission,
+                                     CouponIssueResultSubscription resultSubscription,
                                      ObjectMapper objectMapper) {
         this.couponRepository = couponRepository;
         this.issueRequestRepository = issueRequestRepository;
         this.outboxRepository = outboxRepository;
+        this.couponIssueAdmission = couponIssueAdmission;
+        this.resultSubscription = resultSubscription;
         this.objectMapper = objectMapper;
     }
 
     @Override
     public Long requestIssue(UserId userId, Long couponId) {
+        CouponIssueAdmission.Decision decision = admit(couponId, userId.getValue());
+        rejectIfNotAdmitted(decision);
+
         Coupon coupon = couponRepository.findById(couponId)
                 .orElseThrow(() -> new CoreException(ErrorType.COUPON_NOT_FOUND));
 
@@ -47,17 +68,24 @@ public class CouponIssueRequestService implements RequestCouponIssueUseCase {
             throw new CoreException(ErrorType.COUPON_NOT_AVAILABLE);
         }
 
+        Integer maxIssuance = coupon.getIssuancePolicy().getMaxIssuanceValue();
+        if (decision == CouponIssueAdmission.Decision.QUOTA_UNKNOWN) {
+            rememberQuota(couponId, maxIssuance != null ? maxIssuance : -1);
+            // 수량을 채운 뒤 다시 판정해 자리를 잡는다. 그래도 모르면(Redis 장애) 판정 없이 접수한다
+            decision = admit(couponId, userId.getValue());
+            rejectIfNotAdmitted(decision);
+        }
+
         CouponIssueRequestJpaEntity request = issueRequestRepository.save(
                 new CouponIssueRequestJpaEntity(couponId, userId.getValue()));
 
-        Integer maxIssuance = coupon.getIssuancePolicy().getMaxIssuanceValue();
-
         try {
             String payload = objectMapper.writeValueAsString(Map.of(
                     "requestId", request.getId(),
                     "couponId", couponId,
                     "userId", userId.getValue(),
                     "maxIssuance", maxIssuance != null ? maxIssuance : -1,
+                    "couponExpiredAt", coupon.getExpiredAt().toString(),
                     "requestedAt", LocalDateTime.now().toString()
             ));
             outboxRepository.save(new OutboxJpaEntity(
@@ -67,6 +95,9 @@ public class CouponIssueRequestService implements RequestCouponIssueUseCase {
             throw new IllegalStateException("쿠폰 발급 요청 직렬화 실패", e);
         }
 
+        if (decision == CouponIssueAdmission.Decision.QUOTA_UNKNOWN) {
+            markRequestedAfterCommit(couponId, userId.getValue());
+        }
         return request.getId();
     }
 
@@ -78,4 +109,101 @@ public class CouponIssueRequestService implements RequestCouponIssueUseCase {
                 .map(CouponIssueRequestJpaEntity::getStatus)
                 .orElse("NOT_FOUND");
     }
+
+    /**
+     * 먼저 구독한 뒤 요청을 읽으므로, 구독 직전에 확정된 결과도 놓치지 않는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CompletableFuture<String> awaitIssueResult(UserId userId, Long couponId, Long requestId) {
+        CompletableFuture<String> result = resultSubscription.subscribe(requestId);
+        CouponIssueRequestJpaEntity request = issueRequestRepository.findById(requestId)
+                .filter(found -> found.getCouponId().equals(couponId) && found.getUserId().equals(userId.getValue()))
+                .orElse(null);
+        if (request == null) {
+            result.cancel(false);
+            throw new CoreException(ErrorType.COUPON_ISSUE_REQUEST_NOT_FOUND);
+        }
+        if (!"PENDING".equals(request.getStatus())) {
+            result.complete(request.getStatus());
+        }
+        return result;
+    }
+
+    private CouponIssueAdmission.Decision admit(Long couponId, String userId) {
+        CouponIssueAdmission.Decision decision;
+        try {
+            decision = couponIssueAdmission.check(couponId, userId);
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 발급 입장 판정 실패, 판정 없이 접수 - couponId: {}, error: {}", couponId, e.getMessage());
+            return CouponIssueAdmission.Decision.QUOTA_UNKNOWN;
+        }
+        if (decision == CouponIssueAdmission.Decision.ADMIT) {
+            releaseUnlessCommitted(couponId, userId);
+        }
+        return decision;
+    }
+
+    private void rejectIfNotAdmitted(CouponIssueAdmission.Decision decision) {
+        if (decision == CouponIssueAdmission.Decision.DUPLICATE) {
+            throw new CoreException(ErrorType.COUPON_ALREADY_REQUESTED);
+        }
+        if (decision == CouponIssueAdmission.Decision.SOLD_OUT) {
+            throw new CoreException(ErrorType.COUPON_EXCEEDED);
+        }
+    }
+
+    /**
+     * 판정 직후 등록해, 이후 쿠폰 조회/검증/저장 어디에서 실패하든 트랜잭션이 끝날 때 자리를 돌려준다.
+     */
+    private void releaseUnlessCommitted(Long couponId, String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(couponId, userId);
+                }
+            }
+        });
+    }
+
+    private void release(Long couponId, String userId) {
+        try {
+            couponIssueAdmission.release(couponId, userId);
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 발급 접수 자리 반환 실패 - couponId: {}, userId: {}, error: {}", couponId, userId, e.getMessage());
+        }
+    }
+
+    private void rememberQuota(Long couponId, int maxIssuance) {
+        try {
+            couponIssueAdmission.rememberQuota(couponId, maxIssuance);
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 발급 수량 기록 실패 - couponId: {}, error: {}", couponId, e.getMessage());
+        }
+    }
+
+    private void markRequestedAfterCommit(Long couponId, String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markRequested(couponId, userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markRequested(couponId, userId);
+            }
+        });
+    }
+
+    private void markRequested(Long couponId, String userId) {
+        try {
+            couponIssueAdmission.markRequested(couponId, userId);
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 발급 접수 기록 실패 - couponId: {}, userId: {}, error: {}", couponId, userId, e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,12 @@
+package com.loopers.application.coupon;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * streamer 가 확정한 쿠폰 발급 결과를 기다린다.
+ * 반환된 Future 는 결과 상태(SUCCESS/REJECTED)로 완료되며, 대기를 그만둘 때는 호출 측이 cancel 한다.
+ */
+public interface CouponIssueResultSubscription {
+
+    CompletableFuture<String> subscribe(Long requestId);
+}
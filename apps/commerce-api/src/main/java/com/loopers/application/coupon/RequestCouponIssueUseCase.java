@@ -2,9 +2,16 @@ package com.loopers.application.coupon;
 
 import com.loopers.domain.model.user.UserId;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface RequestCouponIssueUseCase {
 
     Long requestIssue(UserId userId, Long couponId);
 
     String getIssueStatus(UserId userId, Long couponId);
+
+    /**
+     * 본인의 발급 요청 결과를 기다린다. 이미 확정된 요청이면 바로 완료된 Future 를 반환한다.
+     */
+    CompletableFuture<String> awaitIssueResult(UserId userId, Long couponId, Long requestId);
 }
@@ -0,0 +1,35 @@
+package com.loopers.application.like;
+
+import java.util.Map;
+
+/**
+ * 상품별 좋아요 수 변화량을 모아 두는 write-behind 버퍼.
+ * 이벤트마다 products 행을 갱신하지 않고, {@link LikeCountFlusher} 가 주기적으로 합산값을 한 번에 반영한다.
+ */
+public interface LikeCountBuffer {
+
+    void add(Long productId, int delta);
+
+    /**
+     * 반영할 변화량을 가져온다. 이전 주기에서 반영을 끝내지 못한 묶음이 있으면 그것을 먼저 돌려준다.
+     */
+    PendingLikeCounts claim();
+
+    /**
+     * DB 반영이 끝난 묶음을 버퍼에서 제거한다.
+     */
+    void complete();
+
+    record PendingLikeCounts(
+            Map<Long, Long> deltas,
+            Long oldestAddedAtMillis
+    ) {
+        public static PendingLikeCounts empty() {
+            return new PendingLikeCounts(Map.of(), null);
+        }
+
+        public boolean isEmpty() {
+            return deltas.isEmpty();
+        }
+    }
+}
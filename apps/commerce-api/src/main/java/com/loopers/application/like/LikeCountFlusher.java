@@ -0,0 +1,100 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.model.like.event.LikeCountsFlushedEvent;
+import com.loopers.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 좋아요 수 write-behind 플러셔.
+ * 버퍼에 모인 상품별 변화량을 짧은 주기로 한 트랜잭션에 반영한다.
+ * 반영 도중 프로세스가 죽으면 버퍼에 묶음이 남아 있으므로 다음 주기(다른 인스턴스 포함)에서 이어서 반영한다.
+ */
+@Component
+public class LikeCountFlusher {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeCountFlusher.class);
+
+    private final LikeCountBuffer likeCountBuffer;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Timer flushLagTimer;
+    private final Counter flushedProductsCounter;
+
+    public LikeCountFlusher(LikeCountBuffer likeCountBuffer, ProductRepository productRepository,
+                            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.likeCountBuffer = likeCountBuffer;
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.flushLagTimer = Timer.builder("like.count.flush.lag")
+                .description("가장 오래된 좋아요 변화량이 버퍼에 적재된 뒤 DB 에 반영되기까지 걸린 시간")
+                .register(meterRegistry);
+        this.flushedProductsCounter = Counter.builder("like.count.flush.products")
+                .description("플러시로 like_count 가 갱신된 상품 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 플러시 실패, 다음 주기에 재시도 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재까지 적재된 변화량을 반영하고 갱신된 상품 수를 반환한다.
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            LikeCountBuffer.PendingLikeCounts pending = likeCountBuffer.claim();
+            if (pending.isEmpty()) {
+                return 0;
+            }
+
+            Map<Long, Long> deltas = new HashMap<>();
+            pending.deltas().forEach((productId, delta) -> {
+                if (delta != 0) {
+                    deltas.put(productId, delta);
+                }
+            });
+            if (!deltas.isEmpty()) {
+                productRepository.applyLikeCountDeltas(deltas);
+            }
+            likeCountBuffer.complete();
+
+            recordLag(pending.oldestAddedAtMillis());
+            flushedProductsCounter.increment(deltas.size());
+            if (!deltas.isEmpty()) {
+                eventPublisher.publishEvent(new LikeCountsFlushedEvent(List.copyOf(deltas.keySet())));
+            }
+            log.debug("좋아요 수 플러시 완료 - {}개 상품", deltas.size());
+            return deltas.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void recordLag(Long oldestAddedAtMillis) {
+        if (oldestAddedAtMillis == null) {
+            return;
+        }
+        long lagMillis = Math.max(0, System.currentTimeMillis() - oldestAddedAtMillis);
+        flushLagTimer.record(Duration.ofMillis(lagMillis));
+    }
+}
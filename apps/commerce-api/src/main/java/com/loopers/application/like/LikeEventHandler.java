@@ -1,48 +1,72 @@
 package com.loopers.application.like;
 
+import com.loopers.domain.model.like.event.LikeCountsFlushedEvent;
 import com.loopers.domain.model.like.event.ProductLikedEvent;
 import com.loopers.domain.model.like.event.ProductUnlikedEvent;
 import com.loopers.domain.repository.ProductRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * 좋아요 집계 핸들러.
  * AFTER_COMMIT으로 처리하여 집계 실패와 무관하게 좋아요 자체는 성공한다.
- * 각 메서드에 @Transactional을 선언하여 독립된 트랜잭션에서 count를 업데이트한다.
+ * 변화량은 {@link LikeCountBuffer} 에 적재하고 {@link LikeCountFlusher} 가 묶어서 반영한다.
+ * 버퍼에 적재할 수 없으면 기존처럼 해당 상품의 like_count 를 바로 갱신한다.
+ * AFTER_COMMIT 시점에는 원래 트랜잭션이 이미 커밋되어 참여할 수 없으므로, 직접 갱신은 새 트랜잭션(REQUIRES_NEW)에서 실행한다.
  */
 @Component
 public class LikeEventHandler {
 
     private static final Logger log = LoggerFactory.getLogger(LikeEventHandler.class);
 
+    private final LikeCountBuffer likeCountBuffer;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNew;
 
-    public LikeEventHandler(ProductRepository productRepository) {
+    public LikeEventHandler(LikeCountBuffer likeCountBuffer, ProductRepository productRepository,
+                            ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
+        this.likeCountBuffer = likeCountBuffer;
         this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
-    @Transactional
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(ProductLikedEvent event) {
-        try {
-            productRepository.incrementLikeCount(event.productId());
-        } catch (RuntimeException e) {
-            log.warn("좋아요 집계 실패 - productId: {}, error: {}", event.productId(), e.getMessage());
-        }
+        accumulate(event.productId(), 1);
     }
 
-    @Transactional
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(ProductUnlikedEvent event) {
+        accumulate(event.productId(), -1);
+    }
+
+    private void accumulate(Long productId, int delta) {
+        try {
+            likeCountBuffer.add(productId, delta);
+            return;
+        } catch (RuntimeException e) {
+            log.warn("좋아요 집계 버퍼 적재 실패, DB 직접 반영 - productId: {}, error: {}", productId, e.getMessage());
+        }
+
         try {
-            productRepository.decrementLikeCount(event.productId());
+            requiresNew.executeWithoutResult(status ->
+                    productRepository.applyLikeCountDeltas(Map.of(productId, (long) delta)));
+            eventPublisher.publishEvent(new LikeCountsFlushedEvent(List.of(productId)));
         } catch (RuntimeException e) {
-            log.warn("좋아요 취소 집계 실패 - productId: {}, error: {}", event.productId(), e.getMessage());
+            log.warn("좋아요 집계 실패 - productId: {}, delta: {}, error: {}", productId, delta, e.getMessage());
         }
     }
 }
@@ -1,5 +1,7 @@
 package com.loopers.application.order;
 
+import com.loopers.domain.model.common.CursorResult;
+import com.loopers.domain.model.common.PageResult;
 import com.loopers.domain.model.order.Order;
 import com.loopers.domain.model.order.OrderItem;
 import com.loopers.domain.model.user.UserId;
@@ -11,37 +13,74 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @Transactional(readOnly = true)
 public class OrderQueryService implements OrderQueryUseCase {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_ADMIN_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
+    private final OrderSummaryReader orderSummaryReader;
 
-    public OrderQueryService(OrderRepository orderRepository) {
+    public OrderQueryService(OrderRepository orderRepository, OrderSummaryReader orderSummaryReader) {
         this.orderRepository = orderRepository;
+        this.orderSummaryReader = orderSummaryReader;
     }
 
+    /**
+     * 목록 조회는 주문 애그리거트를 복원하지 않고 요약 컬럼만 읽는다.
+     */
     @Override
     public List<OrderSummary> getMyOrders(UserId userId) {
-        List<Order> orders = orderRepository.findAllByUserId(userId);
-        return toSummaries(orders);
+        return orderSummaryReader.findAllByUserId(userId);
     }
 
     @Override
     public List<OrderSummary> getMyOrders(UserId userId, LocalDate startAt, LocalDate endAt) {
-        List<Order> orders = orderRepository.findAllByUserIdAndDateRange(
+        return orderSummaryReader.findAllByUserIdAndDateRange(
                 userId,
                 startAt.atStartOfDay(),
                 endAt.atTime(LocalTime.MAX)
         );
-        return toSummaries(orders);
     }
 
     @Override
-    public List<OrderSummary> getAllOrders() {
-        List<Order> orders = orderRepository.findAll();
-        return toSummaries(orders);
+    public CursorResult<OrderSummary> getMyOrdersByCursor(UserId userId, LocalDate startAt, LocalDate endAt,
+                                                          String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        boolean ranged = startAt != null && endAt != null;
+        return orderSummaryReader.findByUserIdAfter(
+                userId,
+                ranged ? startAt.atStartOfDay() : null,
+                ranged ? endAt.atTime(LocalTime.MAX) : null,
+                cursor,
+                size
+        );
+    }
+
+    @Override
+    public PageResult<OrderSummary> getAllOrders(OrderSearchCondition condition, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상이어야 합니다.");
+        }
+        if (size < 1 || size > MAX_ADMIN_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_ADMIN_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return orderSummaryReader.findAll(condition, page, size);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션 안에서 실행되어야 JDBC 드라이버가 fetch size 단위로 나눠 읽는다.
+     * 트랜잭션 밖(autocommit)에서는 PostgreSQL 드라이버가 결과 전체를 한 번에 적재한다.
+     */
+    @Override
+    public void exportOrders(OrderSearchCondition condition, Consumer<OrderExportRow> sink) {
+        orderSummaryReader.streamAll(condition, sink);
     }
 
     @Override
@@ -59,17 +98,6 @@ public class OrderQueryService implements OrderQueryUseCase {
         return toOrderDetail(order);
     }
 
-    private List<OrderSummary> toSummaries(List<Order> orders) {
-        return orders.stream()
-                .map(order -> new OrderSummary(
-                        order.getId(),
-                        order.getStatus().name(),
-                        order.getPaymentAmount().getValue(),
-                        order.getCreatedAt()
-                ))
-                .toList();
-    }
-
     private OrderDetail toOrderDetail(Order order) {
         List<OrderItemDetail> itemDetails = order.getItems().stream()
                 .map(this::toOrderItemDetail)
@@ -1,10 +1,13 @@
 package com.loopers.application.order;
 
+import com.loopers.domain.model.common.CursorResult;
+import com.loopers.domain.model.common.PageResult;
 import com.loopers.domain.model.user.UserId;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface OrderQueryUseCase {
 
@@ -12,7 +15,15 @@ public interface OrderQueryUseCase {
 
     List<OrderSummary> getMyOrders(UserId userId, LocalDate startAt, LocalDate endAt);
 
-    List<OrderSummary> getAllOrders();
+    CursorResult<OrderSummary> getMyOrdersByCursor(UserId userId, LocalDate startAt, LocalDate endAt,
+                                                   String cursor, int size);
+
+    PageResult<OrderSummary> getAllOrders(OrderSearchCondition condition, int page, int size);
+
+    /**
+     * 조건에 맞는 주문을 한 건씩 sink 로 넘긴다. 결과를 모아두지 않으므로 건수와 무관하게 메모리 사용량이 일정하다.
+     */
+    void exportOrders(OrderSearchCondition condition, Consumer<OrderExportRow> sink);
 
     OrderDetail getOrderDetail(Long orderId);
 
@@ -25,6 +36,17 @@ public interface OrderQueryUseCase {
             LocalDateTime createdAt
     ) {}
 
+    record OrderExportRow(
+            Long id,
+            String userId,
+            String status,
+            String paymentMethod,
+            int totalAmount,
+            int discountAmount,
+            int paymentAmount,
+            LocalDateTime createdAt
+    ) {}
+
     record OrderDetail(
             Long id,
             String receiverName,
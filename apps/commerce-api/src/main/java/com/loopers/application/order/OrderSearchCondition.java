@@ -0,0 +1,40 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.model.order.OrderStatus;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 관리자 주문 목록/내보내기 조회 조건. 모든 조건은 선택이며 null 이면 적용하지 않는다.
+ */
+public record OrderSearchCondition(
+        OrderStatus status,
+        LocalDateTime startAt,
+        LocalDateTime endAt
+) {
+    public static OrderSearchCondition of(String status, LocalDate startAt, LocalDate endAt) {
+        if (startAt != null && endAt != null && startAt.isAfter(endAt)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        return new OrderSearchCondition(
+                parseStatus(status),
+                startAt != null ? startAt.atStartOfDay() : null,
+                endAt != null ? endAt.atTime(LocalTime.MAX) : null
+        );
+    }
+
+    private static OrderStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return OrderStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "지원하지 않는 주문 상태입니다: " + status);
+        }
+    }
+}
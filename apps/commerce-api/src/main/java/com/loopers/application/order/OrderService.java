@@ -5,6 +5,7 @@ import com.loopers.domain.model.coupon.Coupon;
 import com.loopers.domain.model.order.*;
 import com.loopers.domain.model.order.event.OrderCreatedEvent;
 import com.loopers.domain.model.product.Product;
+import com.loopers.domain.model.product.StockDeduction;
 import com.loopers.domain.model.user.UserId;
 import com.loopers.domain.model.userCoupon.UserCoupon;
 import com.loopers.domain.repository.CouponRepository;
@@ -19,6 +20,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -42,27 +46,12 @@ public class OrderService implements CreateOrderUseCase, CancelOrderUseCase, Upd
 
     @Override
     public CreateOrderResult createOrder(UserId userId, OrderCommand command) {
-        // 1. 재고 확인 및 차감 (비관적 락 - productId 순으로 정렬하여 데드락 방지)
+        // 1. 재고 차감 (조건부 UPDATE 배치 - productId 순으로 정렬하여 행 잠금 순서를 고정)
         List<CreateOrderUseCase.OrderItemCommand> sortedItems = command.items().stream()
                 .sorted(Comparator.comparingLong(CreateOrderUseCase.OrderItemCommand::productId))
                 .toList();
 
-        List<OrderLine> orderLines = sortedItems.stream()
-                .map(itemCommand -> {
-                    Product product = productRepository.findActiveByIdWithLock(itemCommand.productId())
-                            .orElseThrow(() -> new CoreException(ErrorType.PRODUCT_NOT_FOUND));
-
-                    Product decreased = product.decreaseStock(itemCommand.quantity());
-                    productRepository.save(decreased);
-
-                    return new OrderLine(
-                            product.getId(),
-                            product.getName().getValue(),
-                            Money.of(product.getPrice().getValue()),
-                            itemCommand.quantity()
-                    );
-                })
-                .toList();
+        List<OrderLine> orderLines = reserveStocks(sortedItems);
 
         // 2. 쿠폰 유효성 검증 및 사용 처리
         Money discountAmount = Money.zero();
@@ -106,6 +95,55 @@ public class OrderService implements CreateOrderUseCase, CancelOrderUseCase, Upd
         return new CreateOrderResult(order.getId(), (long) order.getPaymentAmount().getValue());
     }
 
+    private List<OrderLine> reserveStocks(List<CreateOrderUseCase.OrderItemCommand> sortedItems) {
+        List<StockDeduction> deductions = sortedItems.stream()
+                .map(item -> new StockDeduction(item.productId(), item.quantity()))
+                .toList();
+        List<Long> productIds = deductions.stream()
+                .map(StockDeduction::productId)
+                .distinct()
+                .toList();
+
+        List<StockDeduction> shortfalls = productRepository.decreaseStocks(deductions);
+        Map<Long, Product> products = productRepository.findAllActiveByIds(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        if (!shortfalls.isEmpty()) {
+            throw toShortfallException(shortfalls, products);
+        }
+
+        return sortedItems.stream()
+                .map(item -> {
+                    Product product = products.get(item.productId());
+                    return new OrderLine(
+                            product.getId(),
+                            product.getName().getValue(),
+                            Money.of(product.getPrice().getValue()),
+                            item.quantity()
+                    );
+                })
+                .toList();
+    }
+
+    /**
+     * 차감되지 않은 라인 중 존재하지 않는 상품이 있으면 상품 없음, 그 외에는 라인별 재고 부족 내역으로 실패시킨다.
+     * 예외로 트랜잭션이 롤백되므로 같은 배치에서 차감된 다른 라인도 함께 복구된다.
+     */
+    private RuntimeException toShortfallException(List<StockDeduction> shortfalls, Map<Long, Product> products) {
+        boolean productMissing = shortfalls.stream()
+                .anyMatch(shortfall -> !products.containsKey(shortfall.productId()));
+        if (productMissing) {
+            return new CoreException(ErrorType.PRODUCT_NOT_FOUND);
+        }
+
+        String detail = shortfalls.stream()
+                .map(shortfall -> "상품 " + shortfall.productId()
+                        + " (현재 재고: " + products.get(shortfall.productId()).getStock().getValue()
+                        + ", 요청 수량: " + shortfall.quantity() + ")")
+                .collect(Collectors.joining(", "));
+        return new IllegalStateException("재고가 부족합니다. " + detail);
+    }
+
     private Money processCoupon(UserId userId, Long userCouponId, List<OrderLine> orderLines) {
         // 비관적 락으로 쿠폰 조회 (동시 사용 방지)
         UserCoupon userCoupon = userCouponRepository.findByIdWithLock(userCouponId)
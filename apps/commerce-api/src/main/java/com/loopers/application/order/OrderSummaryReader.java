@@ -0,0 +1,36 @@
+package com.loopers.application.order;
+
+import com.loopers.application.order.OrderQueryUseCase.OrderExportRow;
+import com.loopers.application.order.OrderQueryUseCase.OrderSummary;
+import com.loopers.domain.model.common.CursorResult;
+import com.loopers.domain.model.common.PageResult;
+import com.loopers.domain.model.user.UserId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 주문 목록 화면용 요약 조회.
+ * 주문 애그리거트를 복원하지 않고 요약 컬럼만 읽으며, 주문 항목과 스냅샷은 조회하지 않는다.
+ * 목록 조회는 최신순(createdAt DESC, id DESC), 내보내기는 id 순으로 정렬된다.
+ */
+public interface OrderSummaryReader {
+
+    List<OrderSummary> findAllByUserId(UserId userId);
+
+    List<OrderSummary> findAllByUserIdAndDateRange(UserId userId, LocalDateTime startAt, LocalDateTime endAt);
+
+    /**
+     * 커서 이후 구간을 size 건 조회한다. startAt/endAt 이 null 이면 기간 조건 없이 조회한다.
+     */
+    CursorResult<OrderSummary> findByUserIdAfter(UserId userId, LocalDateTime startAt, LocalDateTime endAt,
+                                                 String cursor, int size);
+
+    PageResult<OrderSummary> findAll(OrderSearchCondition condition, int page, int size);
+
+    /**
+     * 조건에 맞는 주문을 forward-only 커서로 읽으며 한 행씩 consumer 로 넘긴다.
+     */
+    void streamAll(OrderSearchCondition condition, Consumer<OrderExportRow> consumer);
+}
@@ -0,0 +1,44 @@
+package com.loopers.application.order;
+
+import com.loopers.application.product.HotProductStockGate;
+import com.loopers.domain.model.order.event.OrderCancelledEvent;
+import com.loopers.domain.model.product.StockDeduction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 주문 취소·결제 실패로 DB 재고가 복구되면 같은 수량을 재고 게이트에도 되돌린다.
+ * 재고 복구({@link OrderCancelledEventHandler})가 커밋된 뒤에만 반영해 게이트가 DB 보다 많아지지 않게 한다.
+ */
+@Component
+public class StockGateReconcileHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(StockGateReconcileHandler.class);
+
+    private final HotProductStockGate hotProductStockGate;
+
+    public StockGateReconcileHandler(HotProductStockGate hotProductStockGate) {
+        this.hotProductStockGate = hotProductStockGate;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(OrderCancelledEvent event) {
+        List<StockDeduction> restored = event.cancelledItems().stream()
+                .map(item -> new StockDeduction(item.productId(), item.quantity()))
+                .toList();
+        if (restored.isEmpty()) {
+            return;
+        }
+
+        try {
+            hotProductStockGate.release(restored);
+        } catch (RuntimeException e) {
+            log.warn("재고 게이트 복구 실패 - orderId: {}, error: {}", event.orderId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.loopers.application.order;
+
+import com.loopers.application.product.HotProductStockGate;
+import com.loopers.domain.model.product.StockDeduction;
+import com.loopers.domain.model.user.UserId;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 주문 생성 앞단의 재고 게이트.
+ * 트랜잭션을 열기 전에 Redis 게이트에서 재고를 선점하므로, 품절된 한정 수량 상품 주문은 DB 커넥션을 빌리지 않고 거절된다.
+ * 게이트가 열리지 않은 상품이나 Redis 장애 시에는 그대로 {@link OrderService} 로 넘기며, 최종 재고 판정은 DB 가 한다.
+ */
+@Service
+@Primary
+public class StockGatedOrderService implements CreateOrderUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(StockGatedOrderService.class);
+
+    private final OrderService orderService;
+    private final HotProductStockGate hotProductStockGate;
+
+    public StockGatedOrderService(OrderService orderService, HotProductStockGate hotProductStockGate) {
+        this.orderService = orderService;
+        this.hotProductStockGate = hotProductStockGate;
+    }
+
+    @Override
+    public CreateOrderResult createOrder(UserId userId, OrderCommand command) {
+        List<StockDeduction> deductions = command.items().stream()
+                .map(item -> new StockDeduction(item.productId(), item.quantity()))
+                .toList();
+
+        boolean acquired = acquire(deductions);
+        try {
+            return orderService.createOrder(userId, command);
+        } catch (RuntimeException e) {
+            if (acquired) {
+                release(deductions);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CreateOrderResult getOrderPaymentInfo(UserId userId, Long orderId) {
+        return orderService.getOrderPaymentInfo(userId, orderId);
+    }
+
+    private boolean acquire(List<StockDeduction> deductions) {
+        List<Long> soldOutProductIds;
+        try {
+            soldOutProductIds = hotProductStockGate.tryAcquire(deductions);
+        } catch (RuntimeException e) {
+            log.warn("재고 게이트 조회 실패, DB 재고로 판정 - error: {}", e.getMessage());
+            return false;
+        }
+
+        if (!soldOutProductIds.isEmpty()) {
+            throw new CoreException(ErrorType.PRODUCT_SOLD_OUT,
+                    "품절된 상품입니다. productIds: " + soldOutProductIds);
+        }
+        return true;
+    }
+
+    private void release(List<StockDeduction> deductions) {
+        try {
+            hotProductStockGate.release(deductions);
+        } catch (RuntimeException e) {
+            log.warn("재고 게이트 반환 실패 - error: {}", e.getMessage());
+        }
+    }
+}
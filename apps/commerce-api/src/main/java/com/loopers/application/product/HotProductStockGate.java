@@ -0,0 +1,32 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.model.product.StockDeduction;
+
+import java.util.List;
+
+/**
+ * 한정 수량 상품의 재고를 DB 앞단에서 선점하는 게이트.
+ * 게이트가 열린 상품만 검사하며, DB 의 조건부 재고 차감은 그대로 최종 판정을 맡는다.
+ */
+public interface HotProductStockGate {
+
+    /**
+     * 게이트가 열린 상품의 수량을 모두 선점한다.
+     * 하나라도 부족하면 아무것도 선점하지 않고 부족한 상품 ID 목록을 반환한다.
+     */
+    List<Long> tryAcquire(List<StockDeduction> deductions);
+
+    /**
+     * 선점했던 수량 또는 DB 에서 복구된 재고를 게이트에 되돌린다. 게이트가 닫힌 상품은 무시한다.
+     */
+    void release(List<StockDeduction> deductions);
+
+    void open(Long productId, int stock);
+
+    /**
+     * 게이트가 열려 있을 때만 재고 값을 덮어쓴다.
+     */
+    void refresh(Long productId, int stock);
+
+    void close(Long productId);
+}
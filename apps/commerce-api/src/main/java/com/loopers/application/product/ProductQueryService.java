@@ -1,6 +1,7 @@
 package com.loopers.application.product;
 
 import com.loopers.domain.model.brand.Brand;
+import com.loopers.domain.model.common.CursorResult;
 import com.loopers.domain.model.common.PageResult;
 import com.loopers.domain.model.product.Product;
 import com.loopers.domain.repository.BrandRepository;
@@ -19,6 +20,8 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ProductQueryService implements ProductQueryUseCase {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
     private final BrandRepository brandRepository;
 
@@ -54,16 +57,32 @@ public class ProductQueryService implements ProductQueryUseCase {
     @Cacheable(value = CacheConfig.PRODUCT_LIST, key = "'brand:' + #brandId + ':sort:' + #sort + ':page:' + #page + ':size:' + #size")
     public PageResult<ProductSummaryInfo> getProducts(Long brandId, String sort, int page, int size) {
         PageResult<Product> products = productRepository.findAllActive(brandId, sort, page, size);
+        Map<Long, String> brandNameMap = findBrandNames(products.content());
+        return products.map(product -> toSummaryInfo(product, brandNameMap));
+    }
 
-        List<Long> brandIds = products.content().stream()
+    @Override
+    public CursorResult<ProductSummaryInfo> getProductsByCursor(Long brandId, String sort, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        CursorResult<Product> products = productRepository.findAllActiveByCursor(brandId, sort, cursor, size);
+        Map<Long, String> brandNameMap = findBrandNames(products.content());
+        return products.map(product -> toSummaryInfo(product, brandNameMap));
+    }
+
+    private Map<Long, String> findBrandNames(List<Product> products) {
+        List<Long> brandIds = products.stream()
                 .map(Product::getBrandId)
                 .distinct()
                 .toList();
 
-        Map<Long, String> brandNameMap = brandRepository.findAllByIds(brandIds).stream()
+        return brandRepository.findAllByIds(brandIds).stream()
                 .collect(Collectors.toMap(Brand::getId, b -> b.getName().getValue()));
+    }
 
-        return products.map(product -> new ProductSummaryInfo(
+    private ProductSummaryInfo toSummaryInfo(Product product, Map<Long, String> brandNameMap) {
+        return new ProductSummaryInfo(
                 product.getId(),
                 product.getBrandId(),
                 brandNameMap.getOrDefault(product.getBrandId(), ""),
@@ -72,6 +91,6 @@ public class ProductQueryService implements ProductQueryUseCase {
                 product.getSalePrice() != null ? product.getSalePrice().getValue() : null,
                 product.isOnSale(),
                 product.getLikeCount()
-        ));
+        );
     }
 }
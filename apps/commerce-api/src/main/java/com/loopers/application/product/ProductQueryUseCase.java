@@ -1,5 +1,6 @@
 package com.loopers.application.product;
 
+import com.loopers.domain.model.common.CursorResult;
 import com.loopers.domain.model.common.PageResult;
 
 public interface ProductQueryUseCase {
@@ -8,6 +9,8 @@ public interface ProductQueryUseCase {
 
     PageResult<ProductSummaryInfo> getProducts(Long brandId, String sort, int page, int size);
 
+    CursorResult<ProductSummaryInfo> getProductsByCursor(Long brandId, String sort, String cursor, int size);
+
     record ProductDetailInfo(
             Long id,
             Long brandId,
@@ -20,19 +20,22 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 
 @Service
 @Transactional
-public class ProductService implements CreateProductUseCase, UpdateProductUseCase, DeleteProductUseCase {
+public class ProductService implements CreateProductUseCase, UpdateProductUseCase, DeleteProductUseCase,
+        StockGateUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(ProductService.class);
 
     private final ProductRepository productRepository;
     private final BrandRepository brandRepository;
     private final CacheManager cacheManager;
+    private final HotProductStockGate hotProductStockGate;
 
     public ProductService(ProductRepository productRepository, BrandRepository brandRepository,
-                          CacheManager cacheManager) {
+                          CacheManager cacheManager, HotProductStockGate hotProductStockGate) {
         this.productRepository = productRepository;
         this.brandRepository = brandRepository;
         this.cacheManager = cacheManager;
+        this.hotProductStockGate = hotProductStockGate;
     }
 
     @Override
@@ -58,6 +61,7 @@ public class ProductService implements CreateProductUseCase, UpdateProductUseCas
 
         evictProductAfterCommit(command.productId());
         evictProductListAfterCommit();
+        refreshStockGateAfterCommit(command.productId(), command.stock());
     }
 
     @Override
@@ -68,6 +72,24 @@ public class ProductService implements CreateProductUseCase, UpdateProductUseCas
 
         evictProductAfterCommit(productId);
         evictProductListAfterCommit();
+        closeStockGateAfterCommit(productId);
+    }
+
+    /**
+     * 한정 수량 판매 전에 호출해 현재 DB 재고로 Redis 게이트를 채운다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void openStockGate(Long productId) {
+        Product product = findProduct(productId);
+        hotProductStockGate.open(productId, product.getStock().getValue());
+        log.info("재고 게이트 오픈 - productId: {}, stock: {}", productId, product.getStock().getValue());
+    }
+
+    @Override
+    public void closeStockGate(Long productId) {
+        hotProductStockGate.close(productId);
+        log.info("재고 게이트 종료 - productId: {}", productId);
     }
 
     private Product findProduct(Long productId) {
@@ -94,6 +116,40 @@ public class ProductService implements CreateProductUseCase, UpdateProductUseCas
         });
     }
 
+    private void refreshStockGateAfterCommit(Long productId, int stock) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            hotProductStockGate.refresh(productId, stock);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    hotProductStockGate.refresh(productId, stock);
+                } catch (RuntimeException e) {
+                    log.warn("재고 게이트 갱신 실패 - productId: {}, error: {}", productId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void closeStockGateAfterCommit(Long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            hotProductStockGate.close(productId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    hotProductStockGate.close(productId);
+                } catch (RuntimeException e) {
+                    log.warn("재고 게이트 종료 실패 - productId: {}, error: {}", productId, e.getMessage());
+                }
+            }
+        });
+    }
+
     private void evictProductListAfterCommit() {
         if (!TransactionSynchronizationManager.isSynchronizationActive()) {
             Cache cache = cacheManager.getCache(CacheConfig.PRODUCT_LIST);
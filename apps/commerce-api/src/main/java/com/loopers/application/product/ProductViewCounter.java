@@ -0,0 +1,9 @@
+package com.loopers.application.product;
+
+/**
+ * 상품 조회수 집계 포트. 요청 경로에서 호출되므로 메모리 누적만 하고 바로 반환해야 한다.
+ */
+public interface ProductViewCounter {
+
+    void increment(Long productId);
+}
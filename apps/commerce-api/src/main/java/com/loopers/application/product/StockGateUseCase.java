@@ -0,0 +1,8 @@
+package com.loopers.application.product;
+
+public interface StockGateUseCase {
+
+    void openStockGate(Long productId);
+
+    void closeStockGate(Long productId);
+}
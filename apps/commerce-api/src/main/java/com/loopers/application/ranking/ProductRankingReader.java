@@ -0,0 +1,19 @@
+package com.loopers.application.ranking;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 랭킹 저장소 조회 포트. 순위는 1부터 시작한다.
+ */
+public interface ProductRankingReader {
+
+    List<RankedProduct> findTop(RankingWindow window, LocalDateTime at, long offset, int size);
+
+    long count(RankingWindow window, LocalDateTime at);
+
+    Optional<Long> findRank(RankingWindow window, LocalDateTime at, Long productId);
+
+    record RankedProduct(Long productId, long rank, double score) {}
+}
@@ -0,0 +1,97 @@
+package com.loopers.application.ranking;
+
+import com.loopers.application.product.ProductQueryUseCase.ProductSummaryInfo;
+import com.loopers.domain.model.brand.Brand;
+import com.loopers.domain.model.common.PageResult;
+import com.loopers.domain.model.product.Product;
+import com.loopers.domain.repository.BrandRepository;
+import com.loopers.domain.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 랭킹 저장소에서 순위 구간을 읽고, 해당 상품만 한 번에 조회해 요약 정보를 붙인다.
+ * 삭제된 상품은 응답에서 빠지므로 한 페이지의 항목 수가 size 보다 적을 수 있다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class RankingService implements RankingUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingService.class);
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ProductRankingReader rankingReader;
+    private final ProductRepository productRepository;
+    private final BrandRepository brandRepository;
+
+    public RankingService(ProductRankingReader rankingReader,
+                          ProductRepository productRepository,
+                          BrandRepository brandRepository) {
+        this.rankingReader = rankingReader;
+        this.productRepository = productRepository;
+        this.brandRepository = brandRepository;
+    }
+
+    @Override
+    public PageResult<RankingInfo> getRankings(String window, LocalDateTime at, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상이어야 합니다.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        RankingWindow rankingWindow = RankingWindow.from(window);
+
+        List<ProductRankingReader.RankedProduct> ranked =
+                rankingReader.findTop(rankingWindow, at, (long) page * size, size);
+        long total = rankingReader.count(rankingWindow, at);
+        int totalPages = (int) ((total + size - 1) / size);
+
+        Map<Long, Product> products = productRepository.findAllActiveByIds(
+                        ranked.stream().map(ProductRankingReader.RankedProduct::productId).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<Long, String> brandNames = brandRepository.findAllByIds(
+                        products.values().stream().map(Product::getBrandId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Brand::getId, brand -> brand.getName().getValue()));
+
+        List<RankingInfo> content = ranked.stream()
+                .filter(entry -> products.containsKey(entry.productId()))
+                .map(entry -> new RankingInfo(entry.rank(), entry.score(),
+                        toSummaryInfo(products.get(entry.productId()), brandNames)))
+                .toList();
+        return new PageResult<>(content, page, size, total, totalPages);
+    }
+
+    @Override
+    public Long getCurrentRank(Long productId) {
+        try {
+            return rankingReader.findRank(RankingWindow.DAILY, LocalDateTime.now(), productId).orElse(null);
+        } catch (RuntimeException e) {
+            log.debug("상품 순위 조회 실패 - productId: {}, error: {}", productId, e.getMessage());
+            return null;
+        }
+    }
+
+    private ProductSummaryInfo toSummaryInfo(Product product, Map<Long, String> brandNames) {
+        return new ProductSummaryInfo(
+                product.getId(),
+                product.getBrandId(),
+                brandNames.getOrDefault(product.getBrandId(), ""),
+                product.getName().getValue(),
+                product.getPrice().getValue(),
+                product.getSalePrice() != null ? product.getSalePrice().getValue() : null,
+                product.isOnSale(),
+                product.getLikeCount()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.loopers.application.ranking;
+
+import com.loopers.application.product.ProductQueryUseCase.ProductSummaryInfo;
+import com.loopers.domain.model.common.PageResult;
+
+import java.time.LocalDateTime;
+
+public interface RankingUseCase {
+
+    PageResult<RankingInfo> getRankings(String window, LocalDateTime at, int page, int size);
+
+    /**
+     * 현재 일간 순위. 순위가 없거나 랭킹 저장소를 읽지 못하면 null 을 반환한다.
+     */
+    Long getCurrentRank(Long productId);
+
+    record RankingInfo(
+            long rank,
+            double score,
+            ProductSummaryInfo product
+    ) {}
+}
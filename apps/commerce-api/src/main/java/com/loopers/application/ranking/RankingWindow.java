@@ -0,0 +1,24 @@
+package com.loopers.application.ranking;
+
+import java.util.Locale;
+
+/**
+ * HOURLY/DAILY 는 실시간 ZSET, WEEKLY/MONTHLY 는 배치가 적재한 기간 테이블에서 읽는다.
+ */
+public enum RankingWindow {
+    HOURLY,
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    public static RankingWindow from(String value) {
+        if (value == null || value.isBlank()) {
+            return DAILY;
+        }
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 랭킹 기간입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.loopers.application.user;
+
+import com.loopers.domain.model.user.UserId;
+
+/**
+ * 최근에 검증에 성공한 자격 증명(loginId, 비밀번호)을 짧게 기억해, 반복 요청의 사용자 조회와 비밀번호 해시 계산을 건너뛴다.
+ * 비밀번호 원문은 저장하지 않고 키 기반 해시만 보관한다.
+ */
+public interface AuthenticatedPrincipalCache {
+
+    /**
+     * 현재 무효화 세대. 검증 전에 읽어 두었다가 {@link #put} 에 넘긴다.
+     */
+    long generation();
+
+    boolean contains(UserId userId, String rawPassword);
+
+    /**
+     * 검증하는 동안 무효화가 있었다면(세대가 바뀌었다면) 기억하지 않는다.
+     */
+    void put(UserId userId, String rawPassword, long generation);
+
+    /**
+     * 모든 Pod 에서 해당 유저의 기억된 자격 증명을 지운다.
+     */
+    void invalidate(UserId userId);
+}
@@ -5,26 +5,60 @@ import com.loopers.domain.model.user.User;
 import com.loopers.domain.model.user.UserId;
 import com.loopers.domain.repository.UserRepository;
 import com.loopers.domain.service.PasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근에 검증한 자격 증명은 {@link AuthenticatedPrincipalCache} 로 바로 통과시키고, 처음 보는 자격 증명만 DB 와 해시로 검증한다.
+ * 인증 소요 시간은 auth.authenticate{cache=hit|miss} 로 남긴다.
+ */
 @Service
 public class AuthenticationService implements AuthenticationUseCase {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final Timer hitTimer;
+    private final Timer missTimer;
 
-    public AuthenticationService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthenticationService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                 AuthenticatedPrincipalCache principalCache, MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
+        this.hitTimer = authTimer(meterRegistry, "hit");
+        this.missTimer = authTimer(meterRegistry, "miss");
     }
    private static final String AUTH_FAILURE_MESSAGE = "아이디 또는 비밀번호가 올바르지 않습니다.";
 
     @Override
     public void authenticate(UserId userId, String rawPassword) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException(AUTH_FAILURE_MESSAGE));
+        long startNanos = System.nanoTime();
+        if (principalCache.contains(userId, rawPassword)) {
+            hitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
 
-        if (!passwordEncoder.matches(rawPassword, user.getEncodedPassword())) {
-            throw new IllegalArgumentException(AUTH_FAILURE_MESSAGE);
+        long generation = principalCache.generation();
+        try {
+            User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException(AUTH_FAILURE_MESSAGE));
+
+            if (!passwordEncoder.matches(rawPassword, user.getEncodedPassword())) {
+                throw new IllegalArgumentException(AUTH_FAILURE_MESSAGE);
+            }
+            principalCache.put(userId, rawPassword, generation);
+        } finally {
+            missTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
         }
     }
 
+    private Timer authTimer(MeterRegistry meterRegistry, String cache) {
+        return Timer.builder("auth.authenticate")
+                .description("요청 인증 소요 시간")
+                .tag("cache", cache)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,12 @@
+package com.loopers.application.user;
+
+import com.loopers.domain.model.user.UserId;
+
+import java.time.LocalDateTime;
+
+public interface LoginUseCase {
+
+    SessionToken login(UserId userId, String rawPassword);
+
+    record SessionToken(String token, LocalDateTime expiresAt) {}
+}
@@ -0,0 +1,11 @@
+package com.loopers.application.user;
+
+import com.loopers.domain.model.user.UserId;
+
+public interface SessionAuthenticationUseCase {
+
+    /**
+     * 서명, 만료, 폐기 세대를 확인하고 토큰의 사용자를 반환한다. 올바르지 않으면 IllegalArgumentException.
+     */
+    UserId authenticate(String token);
+}
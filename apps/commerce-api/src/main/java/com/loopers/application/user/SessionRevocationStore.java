@@ -0,0 +1,24 @@
+package com.loopers.application.user;
+
+import com.loopers.domain.model.user.UserId;
+
+/**
+ * 유저별 세션 폐기 세대. 토큰에 담긴 세대가 현재 세대보다 작으면 폐기된 토큰이다.
+ */
+public interface SessionRevocationStore {
+
+    /**
+     * 요청마다 호출되므로 I/O 없이 메모리에서 읽는다. 폐기한 적 없는 유저는 0.
+     */
+    long currentEpoch(UserId userId);
+
+    /**
+     * 토큰을 발급할 때 호출한다. 폐기 메시지가 아직 도착하지 않은 Pod 에서도 최신 세대로 발급하도록 원본 저장소에서 읽는다.
+     */
+    long loadEpoch(UserId userId);
+
+    /**
+     * 세대를 올려 지금까지 발급된 해당 유저의 토큰을 모두 폐기한다.
+     */
+    void revoke(UserId userId);
+}
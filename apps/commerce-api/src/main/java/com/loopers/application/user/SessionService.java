@@ -0,0 +1,67 @@
+package com.loopers.application.user;
+
+import com.loopers.application.user.SessionTokenProvider.SessionClaims;
+import com.loopers.domain.model.user.UserId;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 로그인 시 한 번만 비밀번호를 검증하고 서명된 세션 토큰을 발급한다.
+ * 이후 요청은 토큰의 서명, 만료 시각, 폐기 세대만 확인하므로 DB 와 Redis 를 거치지 않는다.
+ * 발급 시에는 폐기 세대를 Redis 에서 읽어, 폐기 메시지를 아직 받지 못한 Pod 이 이전 세대로 토큰을 발급하지 않게 한다.
+ */
+@Service
+public class SessionService implements LoginUseCase, SessionAuthenticationUseCase {
+
+    private static final String INVALID_SESSION_MESSAGE = "세션이 만료되었거나 올바르지 않습니다.";
+
+    private final AuthenticationUseCase authenticationUseCase;
+    private final SessionTokenProvider tokenProvider;
+    private final SessionRevocationStore revocationStore;
+    private final Duration ttl;
+
+    public SessionService(AuthenticationUseCase authenticationUseCase,
+                          SessionTokenProvider tokenProvider,
+                          SessionRevocationStore revocationStore,
+                          @Value("${auth.session.ttl:1h}") Duration ttl) {
+        this.authenticationUseCase = authenticationUseCase;
+        this.tokenProvider = tokenProvider;
+        this.revocationStore = revocationStore;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public SessionToken login(UserId userId, String rawPassword) {
+        try {
+            authenticationUseCase.authenticate(userId, rawPassword);
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.UNAUTHORIZED, e.getMessage());
+        }
+
+        Instant expiresAt = Instant.now().plus(ttl).truncatedTo(ChronoUnit.SECONDS);
+        String token = tokenProvider.issue(new SessionClaims(
+                userId, expiresAt.getEpochSecond(), revocationStore.loadEpoch(userId)));
+        return new SessionToken(token, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+    }
+
+    @Override
+    public UserId authenticate(String token) {
+        SessionClaims claims = tokenProvider.verify(token)
+                .orElseThrow(() -> new IllegalArgumentException(INVALID_SESSION_MESSAGE));
+        if (claims.expiresAtEpochSecond() <= Instant.now().getEpochSecond()) {
+            throw new IllegalArgumentException(INVALID_SESSION_MESSAGE);
+        }
+        if (claims.revocationEpoch() < revocationStore.currentEpoch(claims.userId())) {
+            throw new IllegalArgumentException(INVALID_SESSION_MESSAGE);
+        }
+        return claims.userId();
+    }
+}
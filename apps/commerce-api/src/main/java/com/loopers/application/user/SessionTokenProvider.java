@@ -0,0 +1,17 @@
+package com.loopers.application.user;
+
+import com.loopers.domain.model.user.UserId;
+
+import java.util.Optional;
+
+/**
+ * 세션 토큰을 서명하고 검증한다. 검증은 서명과 형식만 확인하며, 만료와 폐기 여부는 호출하는 쪽이 판단한다.
+ */
+public interface SessionTokenProvider {
+
+    String issue(SessionClaims claims);
+
+    Optional<SessionClaims> verify(String token);
+
+    record SessionClaims(UserId userId, long expiresAtEpochSecond, long revocationEpoch) {}
+}
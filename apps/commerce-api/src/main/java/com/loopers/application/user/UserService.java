@@ -9,6 +9,8 @@ import com.loopers.domain.service.PasswordEncoder;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 
@@ -17,10 +19,15 @@ public class UserService implements RegisterUseCase, PasswordUpdateUseCase, User
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final SessionRevocationStore sessionRevocationStore;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       AuthenticatedPrincipalCache principalCache, SessionRevocationStore sessionRevocationStore) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
+        this.sessionRevocationStore = sessionRevocationStore;
     }
 
     @Override
@@ -50,6 +57,7 @@ public class UserService implements RegisterUseCase, PasswordUpdateUseCase, User
         User user = findUser(userId);
         User updatedUser = user.changePassword(currentRawPassword, newRawPassword, passwordEncoder);
         userRepository.save(updatedUser);
+        invalidateCredentialsAfterCommit(userId);
     }
 
     @Override
@@ -64,6 +72,28 @@ public class UserService implements RegisterUseCase, PasswordUpdateUseCase, User
         );
     }
 
+    /**
+     * 커밋 이후에 지워야, 커밋 전에 이전 비밀번호로 검증된 요청이 캐시를 다시 채우지 못한다.
+     * 이전 비밀번호로 발급된 세션 토큰도 함께 폐기한다.
+     */
+    private void invalidateCredentialsAfterCommit(UserId userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateCredentials(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateCredentials(userId);
+            }
+        });
+    }
+
+    private void invalidateCredentials(UserId userId) {
+        principalCache.invalidate(userId);
+        sessionRevocationStore.revoke(userId);
+    }
+
     private User findUser(UserId userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
@@ -0,0 +1,20 @@
+package com.loopers.domain.model.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지 결과. 전체 건수를 세지 않으며, 다음 페이지가 없으면 nextCursor 는 null 이다.
+ */
+public record CursorResult<T>(
+        List<T> content, int size, String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorResult<R> map(Function<T, R> mapper) {
+        List<R> mapped = content.stream().map(mapper).toList();
+        return new CursorResult<>(mapped, size, nextCursor);
+    }
+}
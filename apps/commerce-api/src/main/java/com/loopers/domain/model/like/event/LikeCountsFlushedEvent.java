@@ -0,0 +1,11 @@
+package com.loopers.domain.model.like.event;
+
+import java.util.List;
+
+/**
+ * 누적된 좋아요 수 변화량이 products.like_count 에 반영된 뒤 발행된다.
+ */
+public record LikeCountsFlushedEvent(
+        List<Long> productIds
+) {
+}
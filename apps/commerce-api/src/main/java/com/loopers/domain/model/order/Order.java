@@ -8,8 +8,10 @@ import lombok.Getter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Getter
 public class Order extends AggregateRoot {
@@ -103,7 +105,8 @@ public class Order extends AggregateRoot {
             throw new IllegalStateException("결제 대기 상태에서만 결제 완료 처리가 가능합니다. 현재 상태: " + status.getDescription());
         }
         Order completed = withStatus(OrderStatus.PAYMENT_COMPLETED);
-        completed.registerEvent(new PaymentCompletedEvent(this.id, this.userId, this.getPaymentAmount().getValue()));
+        completed.registerEvent(new PaymentCompletedEvent(this.id, this.userId, this.getPaymentAmount().getValue(),
+                toPaidItems()));
         return completed;
     }
 
@@ -131,6 +134,35 @@ public class Order extends AggregateRoot {
                 this.userCouponId, newStatus, this.createdAt, LocalDateTime.now());
     }
 
+    /**
+     * 주문 할인액을 항목 금액 비율로 배분한다. 버림으로 남는 금액은 버린 몫이 큰 항목부터 1원씩 더해 합계를 맞춘다.
+     */
+    private List<PaymentCompletedEvent.PaidItem> toPaidItems() {
+        long totalAmount = getTotalAmount().getValue();
+        int discountAmount = getDiscountAmount().getValue();
+        int[] shares = new int[items.size()];
+        long[] remainders = new long[items.size()];
+
+        int allocated = 0;
+        for (int i = 0; i < items.size() && totalAmount > 0; i++) {
+            long weighted = (long) discountAmount * items.get(i).calculateAmount().getValue();
+            shares[i] = (int) (weighted / totalAmount);
+            remainders[i] = weighted % totalAmount;
+            allocated += shares[i];
+        }
+        List<Integer> byRemainder = IntStream.range(0, items.size()).boxed()
+                .sorted(Comparator.comparingLong((Integer i) -> remainders[i]).reversed())
+                .toList();
+        for (int k = 0; k < discountAmount - allocated && totalAmount > 0; k++) {
+            shares[byRemainder.get(k % items.size())]++;
+        }
+
+        return IntStream.range(0, items.size())
+                .mapToObj(i -> new PaymentCompletedEvent.PaidItem(items.get(i).getProductId(),
+                        items.get(i).getQuantity(), items.get(i).getUnitPrice().getValue(), shares[i]))
+                .toList();
+    }
+
     private static Money calculateTotalAmount(List<OrderItem> items) {
         return items.stream()
                 .map(OrderItem::calculateAmount)
@@ -4,15 +4,22 @@ import com.loopers.domain.model.common.DomainEvent;
 import com.loopers.domain.model.user.UserId;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public record PaymentCompletedEvent(
         Long orderId,
         UserId userId,
         int paymentAmount,
+        List<PaidItem> items,
         LocalDateTime occurredAt
 ) implements DomainEvent {
 
-    public PaymentCompletedEvent(Long orderId, UserId userId, int paymentAmount) {
-        this(orderId, userId, paymentAmount, LocalDateTime.now());
+    /**
+     * 결제된 주문 항목. discountShare 는 주문 할인액 중 이 항목에 배분된 금액이다.
+     */
+    public record PaidItem(Long productId, int quantity, int unitPrice, int discountShare) {}
+
+    public PaymentCompletedEvent(Long orderId, UserId userId, int paymentAmount, List<PaidItem> items) {
+        this(orderId, userId, paymentAmount, List.copyOf(items), LocalDateTime.now());
     }
 }
@@ -0,0 +1,15 @@
+package com.loopers.domain.model.product;
+
+/**
+ * 주문 한 라인의 재고 차감 요청.
+ */
+public record StockDeduction(
+        Long productId,
+        int quantity
+) {
+    public StockDeduction {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("차감 수량은 1 이상이어야 합니다.");
+        }
+    }
+}
@@ -21,7 +21,5 @@ public interface OrderRepository {
 
     List<Order> findAllByUserIdAndDateRange(UserId userId, LocalDateTime startAt, LocalDateTime endAt);
 
-    List<Order> findAll();
-
     List<Order> findByStatusAndCreatedAtBefore(OrderStatus status, LocalDateTime before, PageRequest pageRequest);
 }
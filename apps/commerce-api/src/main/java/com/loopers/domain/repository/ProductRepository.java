@@ -1,9 +1,12 @@
 package com.loopers.domain.repository;
 
+import com.loopers.domain.model.common.CursorResult;
 import com.loopers.domain.model.common.PageResult;
 import com.loopers.domain.model.product.Product;
+import com.loopers.domain.model.product.StockDeduction;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository {
@@ -16,11 +19,22 @@ public interface ProductRepository {
 
     Optional<Product> findActiveByIdWithLock(Long id);
 
+    List<Product> findAllActiveByIds(List<Long> ids);
+
+    /**
+     * 라인별 조건부 UPDATE(stock_quantity >= 수량)를 한 번의 배치로 실행해 재고를 차감한다.
+     * 상품이 없거나 재고가 부족해 차감되지 않은 라인을 반환하며, 롤백은 호출 측 트랜잭션이 책임진다.
+     */
+    List<StockDeduction> decreaseStocks(List<StockDeduction> deductions);
+
     PageResult<Product> findAllActive(Long brandId, String sort, int page, int size);
 
-    List<Product> findAllByBrandId(Long brandId);
+    CursorResult<Product> findAllActiveByCursor(Long brandId, String sort, String cursor, int size);
 
-    void incrementLikeCount(Long productId);
+    List<Product> findAllByBrandId(Long brandId);
 
-    void decrementLikeCount(Long productId);
+    /**
+     * 상품별 좋아요 수 변화량을 한 트랜잭션에서 반영한다. like_count 는 0 미만으로 내려가지 않는다.
+     */
+    void applyLikeCountDeltas(Map<Long, Long> likeCountDeltas);
 }
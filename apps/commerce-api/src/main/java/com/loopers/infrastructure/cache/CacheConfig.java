@@ -6,7 +6,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.infrastructure.cache.codec.BrandInfoListCodec;
+import com.loopers.infrastructure.cache.codec.CacheRecordCodec;
+import com.loopers.infrastructure.cache.codec.ProductDetailInfoCodec;
+import com.loopers.infrastructure.cache.codec.ProductSummaryPageCodec;
+import com.loopers.infrastructure.cache.codec.VersionedBinaryRedisSerializer;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
@@ -16,6 +23,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -38,39 +48,68 @@ public class CacheConfig implements CachingConfigurer {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        ObjectMapper redisObjectMapper = new ObjectMapper();
-        redisObjectMapper.registerModule(new JavaTimeModule());
-        redisObjectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        redisObjectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-        redisObjectMapper.activateDefaultTyping(
-                BasicPolymorphicTypeValidator.builder()
-                        .allowIfSubType("com.loopers.")
-                        .allowIfSubType("java.util.")
-                        .build(),
-                ObjectMapper.DefaultTyping.EVERYTHING,
-                JsonTypeInfo.As.PROPERTY
-        );
-
-        GenericJackson2JsonRedisSerializer jsonSerializer =
-                new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+                                     RedisMessageListenerContainer listenerContainer) {
+        GenericJackson2JsonRedisSerializer jsonSerializer = defaultTypingJsonSerializer();
 
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jsonSerializer))
                 .disableCachingNullValues();
 
+        // 상품/브랜드 캐시는 @class 타입 정보가 없는 스키마 기반 바이너리 포맷으로 저장
         Map<String, RedisCacheConfiguration> cacheConfigs = Map.of(
-                PRODUCT_DETAIL, defaultConfig.entryTtl(Duration.ofMinutes(5)),
-                PRODUCT_LIST, defaultConfig.entryTtl(Duration.ofMinutes(1)),
+                PRODUCT_DETAIL, defaultConfig.entryTtl(Duration.ofMinutes(5))
+                        .serializeValuesWith(binary(new ProductDetailInfoCodec())),
+                PRODUCT_LIST, defaultConfig.entryTtl(Duration.ofMinutes(1))
+                        .serializeValuesWith(binary(new ProductSummaryPageCodec())),
                 BRAND_LIST, defaultConfig.entryTtl(Duration.ofMinutes(10))
+                        .serializeValuesWith(binary(new BrandInfoListCodec()))
         );
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig.entryTtl(Duration.ofMinutes(5)))
                 .withInitialCacheConfigurations(cacheConfigs)
                 .enableStatistics()
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        // L1 TTL 은 Pod 간 무효화 메시지 유실 시 허용하는 최대 stale 시간
+        Map<String, NearCacheSpec> nearCacheSpecs = Map.of(
+                PRODUCT_DETAIL, new NearCacheSpec(10_000, Duration.ofSeconds(30)),
+                PRODUCT_LIST, new NearCacheSpec(1_000, Duration.ofSeconds(10)),
+                BRAND_LIST, new NearCacheSpec(100, Duration.ofSeconds(60))
+        );
+
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(redisCacheManager, nearCacheSpecs,
+                new NearCacheInvalidationPublisher(masterRedisTemplate), meterRegistry);
+        listenerContainer.addMessageListener(new NearCacheInvalidationListener(cacheManager),
+                new ChannelTopic(NearCacheInvalidationPublisher.CHANNEL));
+        return cacheManager;
+    }
+
+    /**
+     * 바이너리 코덱이 없는 캐시에 사용하는 기본 직렬화. 모든 객체에 @class 타입 정보를 함께 저장한다.
+     */
+    static GenericJackson2JsonRedisSerializer defaultTypingJsonSerializer() {
+        ObjectMapper redisObjectMapper = new ObjectMapper();
+        redisObjectMapper.registerModule(new JavaTimeModule());
+        redisObjectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        redisObjectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        redisObjectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.loopers.")
+                        .allowIfSubType("java.util.")
+                        .build(),
+                ObjectMapper.DefaultTyping.EVERYTHING,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+    }
+
+    private static <T> RedisSerializationContext.SerializationPair<T> binary(CacheRecordCodec<T> codec) {
+        return RedisSerializationContext.SerializationPair.fromSerializer(new VersionedBinaryRedisSerializer<>(codec));
     }
 
     @Override
@@ -0,0 +1,41 @@
+package com.loopers.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 Pod(자기 자신 포함)이 발행한 무효화 메시지를 받아 로컬 L1 캐시만 비운다.
+ * L2(Redis)는 발행한 쪽에서 이미 삭제했으므로 여기서는 건드리지 않는다.
+ */
+public class NearCacheInvalidationListener implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(NearCacheInvalidationListener.class);
+
+    private final TwoTierCacheManager cacheManager;
+
+    public NearCacheInvalidationListener(TwoTierCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + NearCacheInvalidationPublisher.DELIMITER, 3);
+        if (parts.length != 3) {
+            log.warn("잘못된 L1 캐시 무효화 메시지 - message: {}", body);
+            return;
+        }
+
+        String operation = parts[0];
+        String cacheName = parts[1];
+        switch (operation) {
+            case NearCacheInvalidationPublisher.EVICT -> cacheManager.evictLocal(cacheName, parts[2]);
+            case NearCacheInvalidationPublisher.CLEAR -> cacheManager.clearLocal(cacheName);
+            default -> log.warn("알 수 없는 L1 캐시 무효화 연산: {}", operation);
+        }
+    }
+}
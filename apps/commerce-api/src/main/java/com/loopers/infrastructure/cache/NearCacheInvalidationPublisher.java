@@ -0,0 +1,41 @@
+package com.loopers.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * L1 캐시 무효화 메시지를 Redis Pub/Sub 으로 다른 Pod 에 전파한다.
+ * 메시지 형식: {@code EVICT|cacheName|key} 또는 {@code CLEAR|cacheName|}
+ */
+public class NearCacheInvalidationPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(NearCacheInvalidationPublisher.class);
+
+    public static final String CHANNEL = "cache:near:invalidate";
+    static final String EVICT = "EVICT";
+    static final String CLEAR = "CLEAR";
+    static final String DELIMITER = "|";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public NearCacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(EVICT + DELIMITER + cacheName + DELIMITER + key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(CLEAR + DELIMITER + cacheName + DELIMITER);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("L1 캐시 무효화 전파 실패 - message: {}, error: {}", message, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.loopers.infrastructure.cache;
+
+import java.time.Duration;
+
+/**
+ * 로컬(L1) 캐시의 크기/TTL 설정.
+ * L1 TTL 은 Pub/Sub 무효화 메시지가 유실되었을 때 허용하는 최대 stale 시간이 된다.
+ */
+public record NearCacheSpec(
+        long maximumSize,
+        Duration ttl
+) {}
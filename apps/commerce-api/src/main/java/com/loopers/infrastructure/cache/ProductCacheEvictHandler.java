@@ -1,12 +1,12 @@
 package com.loopers.infrastructure.cache;
 
 import com.loopers.domain.model.brand.event.BrandProductsDeletedEvent;
-import com.loopers.domain.model.like.event.ProductLikedEvent;
-import com.loopers.domain.model.like.event.ProductUnlikedEvent;
+import com.loopers.domain.model.like.event.LikeCountsFlushedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -22,14 +22,12 @@ public class ProductCacheEvictHandler {
         this.cacheManager = cacheManager;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handleLiked(ProductLikedEvent event) {
-        evictProductDetail(event.productId());
-    }
-
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handleUnliked(ProductUnlikedEvent event) {
-        evictProductDetail(event.productId());
+    /**
+     * 좋아요 수는 write-behind 로 반영되므로 좋아요 시점이 아니라 플러시 이후에 무효화한다.
+     */
+    @EventListener
+    public void handleLikeCountsFlushed(LikeCountsFlushedEvent event) {
+        event.productIds().forEach(this::evictProductDetail);
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
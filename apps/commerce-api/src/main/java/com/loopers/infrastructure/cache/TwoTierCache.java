@@ -0,0 +1,159 @@
+package com.loopers.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬 Caffeine(L1) + Redis(L2) 2단 캐시.
+ *
+ * <p>조회는 L1 → L2 순서로 하고, L2 에서 찾은 값은 L1 에 채운다.
+ * 저장은 L2 가 성공한 경우에만 L1 에 반영한다. Redis 장애 시에는 Pod 간 무효화도 전파되지 않으므로
+ * L1 만 단독으로 값을 들고 있지 않도록 하기 위함이다.
+ * 삭제는 L1 → L2 → Pub/Sub 전파 순서로 수행한다.</p>
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final NearCacheInvalidationPublisher invalidationPublisher;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                        Cache remote,
+                        NearCacheInvalidationPublisher invalidationPublisher) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return new SimpleValueWrapper(cached);
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            local.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치 - cache: " + name + ", required: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        T value = remote.get(key, valueLoader);
+        if (value != null) {
+            local.put(localKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        if (value != null) {
+            local.put(toLocalKey(key), value);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        local.invalidate(toLocalKey(key));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+        local.invalidate(localKey);
+        try {
+            remote.evict(key);
+        } finally {
+            invalidationPublisher.publishEvict(name, localKey);
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = toLocalKey(key);
+        local.invalidate(localKey);
+        try {
+            return remote.evictIfPresent(key);
+        } finally {
+            invalidationPublisher.publishEvict(name, localKey);
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        try {
+            remote.clear();
+        } finally {
+            invalidationPublisher.publishClear(name);
+        }
+    }
+
+    @Override
+    public boolean invalidate() {
+        local.invalidateAll();
+        try {
+            return remote.invalidate();
+        } finally {
+            invalidationPublisher.publishClear(name);
+        }
+    }
+
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    /**
+     * Pub/Sub 메시지로 키를 주고받으므로 L1 은 RedisCache 와 동일하게 문자열 키를 사용한다.
+     */
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,77 @@
+package com.loopers.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link RedisCacheManager} 앞단에 로컬 L1 캐시를 두는 CacheManager.
+ * L1 설정이 있는 캐시만 {@link TwoTierCache} 로 감싸고, 나머지는 Redis 캐시를 그대로 반환한다.
+ * 티어별 hit/miss/eviction 지표는 {@code tier} 태그(l1, l2)로 구분해 노출한다.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final RedisCacheManager remoteCacheManager;
+    private final Map<String, TwoTierCache> caches = new HashMap<>();
+
+    public TwoTierCacheManager(RedisCacheManager remoteCacheManager,
+                               Map<String, NearCacheSpec> nearCacheSpecs,
+                               NearCacheInvalidationPublisher invalidationPublisher,
+                               MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+
+        nearCacheSpecs.forEach((cacheName, spec) -> {
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                    .maximumSize(spec.maximumSize())
+                    .expireAfterWrite(spec.ttl())
+                    .recordStats()
+                    .build();
+            Cache remote = remoteCacheManager.getCache(cacheName);
+
+            CaffeineCacheMetrics.monitor(meterRegistry, local, cacheName, Tags.of("tier", "l1"));
+            if (remote instanceof RedisCache redisCache) {
+                new RedisCacheMetrics(redisCache, Tags.of("tier", "l2")).bindTo(meterRegistry);
+            }
+
+            caches.put(cacheName, new TwoTierCache(cacheName, local, remote, invalidationPublisher));
+        });
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        return remoteCacheManager.getCache(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    void evictLocal(String cacheName, String key) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    void clearLocal(String cacheName) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.clearLocal();
+        }
+    }
+}
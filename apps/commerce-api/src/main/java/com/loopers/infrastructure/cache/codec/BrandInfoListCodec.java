@@ -0,0 +1,43 @@
+package com.loopers.infrastructure.cache.codec;
+
+import com.loopers.application.brand.BrandQueryUseCase.BrandInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BrandInfoListCodec implements CacheRecordCodec<List<BrandInfo>> {
+
+    @Override
+    public byte codecId() {
+        return 3;
+    }
+
+    @Override
+    public byte schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public void write(List<BrandInfo> value, CacheRecordWriter writer) {
+        writer.writeInt(value.size());
+        for (BrandInfo brand : value) {
+            writer.writeNullableLong(brand.id());
+            writer.writeString(brand.name());
+            writer.writeString(brand.description());
+        }
+    }
+
+    @Override
+    public List<BrandInfo> read(CacheRecordReader reader) {
+        int count = reader.readInt();
+        List<BrandInfo> brands = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            brands.add(new BrandInfo(
+                    reader.readNullableLong(),
+                    reader.readString(),
+                    reader.readString()
+            ));
+        }
+        return List.copyOf(brands);
+    }
+}
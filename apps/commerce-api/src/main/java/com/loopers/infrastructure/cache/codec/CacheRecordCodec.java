@@ -0,0 +1,17 @@
+package com.loopers.infrastructure.cache.codec;
+
+/**
+ * 캐시 레코드 하나의 바이너리 스키마.
+ * 필드 구성이 바뀌면 {@link #schemaVersion()} 을 올려야 하며, 이전 버전으로 저장된 값은 캐시 miss 로 처리된다.
+ */
+public interface CacheRecordCodec<T> {
+
+    /** 코덱 종류 식별자. 캐시마다 다른 값을 사용한다. */
+    byte codecId();
+
+    byte schemaVersion();
+
+    void write(T value, CacheRecordWriter writer);
+
+    T read(CacheRecordReader reader);
+}
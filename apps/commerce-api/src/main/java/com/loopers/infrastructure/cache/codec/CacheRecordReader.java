@@ -0,0 +1,69 @@
+package com.loopers.infrastructure.cache.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link CacheRecordWriter} 로 기록한 바이트를 같은 순서로 읽는다.
+ * 데이터가 손상되었거나 잘린 경우 {@link IllegalStateException} 을 던진다.
+ */
+public class CacheRecordReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public CacheRecordReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public byte readByte() {
+        if (position >= buffer.length) {
+            throw new IllegalStateException("캐시 레코드가 잘렸습니다.");
+        }
+        return buffer[position++];
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public long readLong() {
+        long zigzag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift >= 64) {
+                throw new IllegalStateException("잘못된 varint 입니다.");
+            }
+            b = readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    public int readInt() {
+        return Math.toIntExact(readLong());
+    }
+
+    public Long readNullableLong() {
+        return readBoolean() ? readLong() : null;
+    }
+
+    public Integer readNullableInt() {
+        return readBoolean() ? readInt() : null;
+    }
+
+    public String readString() {
+        int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (position + length > buffer.length) {
+            throw new IllegalStateException("캐시 레코드가 잘렸습니다.");
+        }
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+}
@@ -0,0 +1,46 @@
+package com.loopers.infrastructure.cache.codec;
+
+import com.loopers.application.product.ProductQueryUseCase.ProductDetailInfo;
+
+public class ProductDetailInfoCodec implements CacheRecordCodec<ProductDetailInfo> {
+
+    @Override
+    public byte codecId() {
+        return 1;
+    }
+
+    @Override
+    public byte schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public void write(ProductDetailInfo value, CacheRecordWriter writer) {
+        writer.writeNullableLong(value.id());
+        writer.writeNullableLong(value.brandId());
+        writer.writeString(value.brandName());
+        writer.writeString(value.name());
+        writer.writeInt(value.price());
+        writer.writeNullableInt(value.salePrice());
+        writer.writeBoolean(value.onSale());
+        writer.writeInt(value.stock());
+        writer.writeInt(value.likeCount());
+        writer.writeString(value.description());
+    }
+
+    @Override
+    public ProductDetailInfo read(CacheRecordReader reader) {
+        return new ProductDetailInfo(
+                reader.readNullableLong(),
+                reader.readNullableLong(),
+                reader.readString(),
+                reader.readString(),
+                reader.readInt(),
+                reader.readNullableInt(),
+                reader.readBoolean(),
+                reader.readInt(),
+                reader.readInt(),
+                reader.readString()
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.loopers.infrastructure.cache.codec;
+
+import com.loopers.application.product.ProductQueryUseCase.ProductSummaryInfo;
+import com.loopers.domain.model.common.PageResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProductSummaryPageCodec implements CacheRecordCodec<PageResult<ProductSummaryInfo>> {
+
+    @Override
+    public byte codecId() {
+        return 2;
+    }
+
+    @Override
+    public byte schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public void write(PageResult<ProductSummaryInfo> value, CacheRecordWriter writer) {
+        writer.writeInt(value.page());
+        writer.writeInt(value.size());
+        writer.writeLong(value.totalElements());
+        writer.writeInt(value.totalPages());
+        writer.writeInt(value.content().size());
+        for (ProductSummaryInfo item : value.content()) {
+            writer.writeNullableLong(item.id());
+            writer.writeNullableLong(item.brandId());
+            writer.writeString(item.brandName());
+            writer.writeString(item.name());
+            writer.writeInt(item.price());
+            writer.writeNullableInt(item.salePrice());
+            writer.writeBoolean(item.onSale());
+            writer.writeInt(item.likeCount());
+        }
+    }
+
+    @Override
+    public PageResult<ProductSummaryInfo> read(CacheRecordReader reader) {
+        int page = reader.readInt();
+        int size = reader.readInt();
+        long totalElements = reader.readLong();
+        int totalPages = reader.readInt();
+        int count = reader.readInt();
+
+        List<ProductSummaryInfo> content = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            content.add(new ProductSummaryInfo(
+                    reader.readNullableLong(),
+                    reader.readNullableLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readInt(),
+                    reader.readNullableInt(),
+                    reader.readBoolean(),
+                    reader.readInt()
+            ));
+        }
+        return new PageResult<>(List.copyOf(content), page, size, totalElements, totalPages);
+    }
+}
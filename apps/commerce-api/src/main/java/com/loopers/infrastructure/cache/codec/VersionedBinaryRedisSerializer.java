@@ -0,0 +1,55 @@
+package com.loopers.infrastructure.cache.codec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * {@link CacheRecordCodec} 을 RedisSerializer 로 감싼다.
+ * 값 앞에 [magic, codecId, schemaVersion] 3 byte 헤더를 붙이고,
+ * 헤더가 맞지 않는 값(배포 전 JSON 포맷, 이전 스키마 버전)은 null 을 반환해 캐시 miss 로 처리한다.
+ */
+public class VersionedBinaryRedisSerializer<T> implements RedisSerializer<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(VersionedBinaryRedisSerializer.class);
+
+    static final byte MAGIC = (byte) 0xCB;
+    static final int HEADER_SIZE = 3;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final CacheRecordCodec<T> codec;
+
+    public VersionedBinaryRedisSerializer(CacheRecordCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        CacheRecordWriter writer = new CacheRecordWriter(INITIAL_CAPACITY);
+        writer.writeByte(MAGIC);
+        writer.writeByte(codec.codecId());
+        writer.writeByte(codec.schemaVersion());
+        codec.write(value, writer);
+        return writer.toByteArray();
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < HEADER_SIZE) {
+            return null;
+        }
+        if (bytes[0] != MAGIC || bytes[1] != codec.codecId() || bytes[2] != codec.schemaVersion()) {
+            log.debug("캐시 스키마 불일치로 무시 - codecId: {}, version: {}", codec.codecId(), codec.schemaVersion());
+            return null;
+        }
+        try {
+            return codec.read(new CacheRecordReader(bytes, HEADER_SIZE));
+        } catch (RuntimeException e) {
+            throw new SerializationException("캐시 레코드 역직렬화 실패 - codecId: " + codec.codecId(), e);
+        }
+    }
+}
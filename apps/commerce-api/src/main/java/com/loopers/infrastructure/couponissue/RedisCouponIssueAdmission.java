@@ -0,0 +1,103 @@
+package com.loopers.infrastructure.couponissue;
+
+import com.loopers.application.coupon.CouponIssueAdmission;
+import com.loopers.config.redis.RedisConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * streamer 가 기록하는 발급 유저 Set(coupon:issue:users:{couponId})과
+ * API 가 기록하는 접수 유저 Set, 쿠폰별 최대 수량을 Lua 스크립트 한 번으로 읽어 판정한다.
+ * <ul>
+ *     <li>이미 발급되었거나 접수된 유저 → DUPLICATE</li>
+ *     <li>발급 수가 수량에 도달했거나, 접수 수가 수량의 OVERBOOK_FACTOR 배에 도달 → SOLD_OUT</li>
+ *     <li>수량을 아직 모름 → QUOTA_UNKNOWN (DB 에서 쿠폰을 읽어 rememberQuota 로 채운다)</li>
+ *     <li>그 외 → ADMIT, 같은 스크립트 안에서 접수 유저 Set 에 SADD 해 자리를 잡는다</li>
+ * </ul>
+ * 수량 확인과 기록이 한 스크립트라, 동시에 들어온 요청이 함께 상한을 통과해 초과 접수되지 않는다.
+ * 접수 유저는 각각 서로 다른 유저이므로, 수량의 두 배를 넘어 접수된 요청은 앞선 요청이 대부분 실패하지 않는 한 당첨될 수 없다.
+ */
+@Component
+public class RedisCouponIssueAdmission implements CouponIssueAdmission {
+
+    private static final String ISSUED_USERS_KEY_PREFIX = "coupon:issue:users:";
+    private static final String REQUESTED_USERS_KEY_PREFIX = "coupon:issue:requested:";
+    private static final String QUOTA_KEY_PREFIX = "coupon:issue:quota:";
+    private static final int OVERBOOK_FACTOR = 2;
+    private static final Duration QUOTA_TTL = Duration.ofMinutes(10);
+    private static final Duration REQUESTED_TTL = Duration.ofDays(1);
+
+    private static final RedisScript<Long> CHECK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 or redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                return 1
+            end
+            local quota = redis.call('GET', KEYS[3])
+            if not quota then
+                return 3
+            end
+            quota = tonumber(quota)
+            if quota > 0 and (redis.call('SCARD', KEYS[1]) >= quota
+                    or redis.call('SCARD', KEYS[2]) >= quota * tonumber(ARGV[2])) then
+                return 2
+            end
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<Decision, Counter> decisionCounters = new EnumMap<>(Decision.class);
+
+    public RedisCouponIssueAdmission(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+                                     MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        for (Decision decision : Decision.values()) {
+            decisionCounters.put(decision, Counter.builder("coupon.issue.admission")
+                    .description("선착순 쿠폰 발급 요청 입장 판정 수")
+                    .tag("decision", decision.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public Decision check(Long couponId, String userId) {
+        Long code = redisTemplate.execute(CHECK_SCRIPT,
+                List.of(ISSUED_USERS_KEY_PREFIX + couponId, REQUESTED_USERS_KEY_PREFIX + couponId, QUOTA_KEY_PREFIX + couponId),
+                userId, String.valueOf(OVERBOOK_FACTOR), String.valueOf(REQUESTED_TTL.toSeconds()));
+        Decision decision = code == null ? Decision.QUOTA_UNKNOWN : switch (code.intValue()) {
+            case 0 -> Decision.ADMIT;
+            case 1 -> Decision.DUPLICATE;
+            case 2 -> Decision.SOLD_OUT;
+            default -> Decision.QUOTA_UNKNOWN;
+        };
+        decisionCounters.get(decision).increment();
+        return decision;
+    }
+
+    @Override
+    public void rememberQuota(Long couponId, int maxIssuance) {
+        redisTemplate.opsForValue().set(QUOTA_KEY_PREFIX + couponId, String.valueOf(maxIssuance), QUOTA_TTL);
+    }
+
+    @Override
+    public void markRequested(Long couponId, String userId) {
+        String key = REQUESTED_USERS_KEY_PREFIX + couponId;
+        redisTemplate.opsForSet().add(key, userId);
+        redisTemplate.expire(key, REQUESTED_TTL);
+    }
+
+    @Override
+    public void release(Long couponId, String userId) {
+        redisTemplate.opsForSet().remove(REQUESTED_USERS_KEY_PREFIX + couponId, userId);
+    }
+}
@@ -0,0 +1,104 @@
+package com.loopers.infrastructure.couponissue;
+
+import com.loopers.application.coupon.CouponIssueResultSubscription;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * streamer 가 발행하는 발급 결과(coupon:issue:result)를 구독해, 이 Pod 에서 대기 중인 요청만 깨운다.
+ * 메시지 형식: {@code requestId|status|rejectReason}
+ * 대기 수는 coupon.issue.result.waiting, 대기 시간은 coupon.issue.result.wait{outcome=notified|cancelled} 로 남긴다.
+ */
+@Component
+public class RedisCouponIssueResultSubscription implements CouponIssueResultSubscription, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisCouponIssueResultSubscription.class);
+
+    static final String CHANNEL = "coupon:issue:result";
+    private static final String DELIMITER = "|";
+
+    private final Map<Long, List<CompletableFuture<String>>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer notifiedTimer;
+    private final Timer cancelledTimer;
+
+    public RedisCouponIssueResultSubscription(RedisMessageListenerContainer listenerContainer,
+                                              MeterRegistry meterRegistry) {
+        Gauge.builder("coupon.issue.result.waiting", waiting, AtomicInteger::get)
+                .description("발급 결과를 기다리는 연결 수")
+                .register(meterRegistry);
+        this.notifiedTimer = waitTimer(meterRegistry, "notified");
+        this.cancelledTimer = waitTimer(meterRegistry, "cancelled");
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public CompletableFuture<String> subscribe(Long requestId) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        long startNanos = System.nanoTime();
+        waiters.compute(requestId, (id, futures) -> {
+            List<CompletableFuture<String>> registered = futures != null ? futures : new CopyOnWriteArrayList<>();
+            registered.add(result);
+            return registered;
+        });
+        waiting.incrementAndGet();
+        result.whenComplete((status, error) -> {
+            waiters.computeIfPresent(requestId, (id, futures) -> {
+                futures.remove(result);
+                return futures.isEmpty() ? null : futures;
+            });
+            waiting.decrementAndGet();
+            Timer timer = error == null ? notifiedTimer : cancelledTimer;
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        });
+        return result;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + DELIMITER, 3);
+        if (parts.length < 2) {
+            log.warn("잘못된 쿠폰 발급 결과 메시지 - message: {}", body);
+            return;
+        }
+        Long requestId;
+        try {
+            requestId = Long.valueOf(parts[0]);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 쿠폰 발급 결과 메시지 - message: {}", body);
+            return;
+        }
+        List<CompletableFuture<String>> futures = waiters.get(requestId);
+        if (futures == null) {
+            return;
+        }
+        for (CompletableFuture<String> future : futures) {
+            future.complete(parts[1]);
+        }
+    }
+
+    private Timer waitTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("coupon.issue.result.wait")
+                .description("발급 결과 대기 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,111 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.application.like.LikeCountBuffer;
+import com.loopers.config.redis.RedisConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis Hash 기반 좋아요 수 버퍼.
+ * <p>
+ * 적재는 pending Hash 에 HINCRBY 로 합산하고, 플러시는 pending 을 flushing 으로 RENAME 해 묶음을 확정한다.
+ * flushing 은 DB 반영이 끝나야 삭제되므로 반영 도중 프로세스가 죽어도 다음 claim 에서 같은 묶음을 다시 받는다.
+ * 여러 인스턴스가 같은 묶음을 동시에 반영하지 않도록 claim 은 플러시 락을 잡은 경우에만 묶음을 돌려준다.
+ * 락 보유 인스턴스가 죽으면 락 TTL 이 지난 뒤 다른 인스턴스가 남은 묶음을 이어받는다.
+ * DB 커밋 직후 complete 전에 죽는 경우에 한해 해당 묶음이 한 번 더 반영될 수 있다.
+ */
+@Component
+public class RedisLikeCountBuffer implements LikeCountBuffer {
+
+    static final String PENDING_KEY = "like:count:pending";
+    static final String PENDING_SINCE_KEY = "like:count:pending:since";
+    static final String FLUSHING_KEY = "like:count:flushing";
+    static final String FLUSHING_SINCE_KEY = "like:count:flushing:since";
+    static final String FLUSH_LOCK_KEY = "like:count:flush:lock";
+    private static final long FLUSH_LOCK_TTL_MILLIS = 30_000;
+
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('SET', KEYS[2], ARGV[3], 'NX')
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[5])
+            if owner and owner ~= ARGV[1] then
+                return {}
+            end
+            redis.call('SET', KEYS[5], ARGV[1], 'PX', ARGV[2])
+            if redis.call('EXISTS', KEYS[3]) == 0 then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    redis.call('DEL', KEYS[5])
+                    return {}
+                end
+                redis.call('RENAME', KEYS[1], KEYS[3])
+                local pendingSince = redis.call('GET', KEYS[2])
+                redis.call('DEL', KEYS[2])
+                if pendingSince then
+                    redis.call('SET', KEYS[4], pendingSince)
+                end
+            end
+            local entries = redis.call('HGETALL', KEYS[3])
+            table.insert(entries, 1, redis.call('GET', KEYS[4]) or '')
+            return entries
+            """, List.class);
+
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[3]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String ownerId = UUID.randomUUID().toString();
+
+    public RedisLikeCountBuffer(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void add(Long productId, int delta) {
+        redisTemplate.execute(ADD_SCRIPT, List.of(PENDING_KEY, PENDING_SINCE_KEY),
+                String.valueOf(productId), String.valueOf(delta), String.valueOf(System.currentTimeMillis()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PendingLikeCounts claim() {
+        List<Object> entries = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(PENDING_KEY, PENDING_SINCE_KEY, FLUSHING_KEY, FLUSHING_SINCE_KEY, FLUSH_LOCK_KEY),
+                ownerId, String.valueOf(FLUSH_LOCK_TTL_MILLIS));
+        if (entries == null || entries.isEmpty()) {
+            return PendingLikeCounts.empty();
+        }
+
+        String since = String.valueOf(entries.get(0));
+        Map<Long, Long> deltas = new HashMap<>();
+        for (int i = 1; i + 1 < entries.size(); i += 2) {
+            deltas.put(Long.valueOf(String.valueOf(entries.get(i))), Long.valueOf(String.valueOf(entries.get(i + 1))));
+        }
+        if (deltas.isEmpty()) {
+            complete();
+            return PendingLikeCounts.empty();
+        }
+        return new PendingLikeCounts(deltas, since.isEmpty() ? null : Long.valueOf(since));
+    }
+
+    @Override
+    public void complete() {
+        redisTemplate.execute(COMPLETE_SCRIPT, List.of(FLUSHING_KEY, FLUSHING_SINCE_KEY, FLUSH_LOCK_KEY), ownerId);
+    }
+}
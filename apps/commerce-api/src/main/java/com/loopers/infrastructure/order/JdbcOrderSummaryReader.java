@@ -0,0 +1,192 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.application.order.OrderQueryUseCase.OrderExportRow;
+import com.loopers.application.order.OrderQueryUseCase.OrderSummary;
+import com.loopers.application.order.OrderSearchCondition;
+import com.loopers.application.order.OrderSummaryReader;
+import com.loopers.domain.model.common.CursorResult;
+import com.loopers.domain.model.common.PageResult;
+import com.loopers.domain.model.user.UserId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * orders 테이블의 컬럼만 읽는 주문 목록 조회. order_items / order_snapshots 는 조인하지 않는다.
+ * 내 주문 목록은 (user_id, created_at DESC, id DESC) 인덱스(V10), 관리자 목록은 (created_at DESC, id DESC) 인덱스(V11) 범위 스캔으로 끝난다.
+ * 커서 조회는 (created_at, id) 행 비교로 이전 페이지 이후 구간만 읽고 COUNT 쿼리는 실행하지 않는다.
+ * 관리자 내보내기는 forward-only 커서를 fetch size 단위로 읽어, 전체 건수와 무관하게 메모리에 한 묶음만 올린다.
+ * JPA 는 created_at 을 UTC 로 저장하므로(jpa.yml hibernate.jdbc.time_zone), 읽고 바인딩할 때 JVM 시간대와 UTC 사이를 직접 변환한다.
+ */
+@Component
+public class JdbcOrderSummaryReader implements OrderSummaryReader {
+
+    private static final String SELECT_SUMMARY =
+            "SELECT o.id, o.status, o.payment_amount, o.created_at FROM orders o WHERE o.user_id = ?";
+    private static final String DATE_RANGE = " AND o.created_at BETWEEN ? AND ?";
+    private static final String AFTER_CURSOR = " AND (o.created_at, o.id) < (?, ?)";
+    private static final String ORDER_BY_LATEST = " ORDER BY o.created_at DESC, o.id DESC";
+    private static final String SELECT_EXPORT = "SELECT o.id, o.user_id, o.status, o.payment_method,"
+            + " o.total_amount, o.discount_amount, o.payment_amount, o.created_at FROM orders o WHERE 1 = 1";
+
+    private static final RowMapper<OrderSummary> SUMMARY_MAPPER = (rs, rowNum) -> new OrderSummary(
+            rs.getLong("id"),
+            rs.getString("status"),
+            rs.getInt("payment_amount"),
+            fromUtc(rs, "created_at")
+    );
+
+    private static final RowMapper<OrderExportRow> EXPORT_MAPPER = (rs, rowNum) -> new OrderExportRow(
+            rs.getLong("id"),
+            rs.getString("user_id"),
+            rs.getString("status"),
+            rs.getString("payment_method"),
+            rs.getInt("total_amount"),
+            rs.getInt("discount_amount"),
+            rs.getInt("payment_amount"),
+            fromUtc(rs, "created_at")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int exportFetchSize;
+
+    public JdbcOrderSummaryReader(JdbcTemplate jdbcTemplate,
+                                  @Value("${order.export.fetch-size:1000}") int exportFetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    @Override
+    public List<OrderSummary> findAllByUserId(UserId userId) {
+        return jdbcTemplate.query(SELECT_SUMMARY + ORDER_BY_LATEST, SUMMARY_MAPPER, userId.getValue());
+    }
+
+    @Override
+    public List<OrderSummary> findAllByUserIdAndDateRange(UserId userId, LocalDateTime startAt, LocalDateTime endAt) {
+        return jdbcTemplate.query(SELECT_SUMMARY + DATE_RANGE + ORDER_BY_LATEST, SUMMARY_MAPPER,
+                userId.getValue(), toUtc(startAt), toUtc(endAt));
+    }
+
+    @Override
+    public CursorResult<OrderSummary> findByUserIdAfter(UserId userId, LocalDateTime startAt, LocalDateTime endAt,
+                                                        String cursor, int size) {
+        OrderCursor after = cursor != null ? OrderCursor.decode(cursor) : null;
+
+        StringBuilder sql = new StringBuilder(SELECT_SUMMARY);
+        List<Object> args = new ArrayList<>();
+        args.add(userId.getValue());
+        if (startAt != null && endAt != null) {
+            sql.append(DATE_RANGE);
+            args.add(toUtc(startAt));
+            args.add(toUtc(endAt));
+        }
+        if (after != null) {
+            sql.append(AFTER_CURSOR);
+            args.add(toUtc(after.createdAt()));
+            args.add(after.id());
+        }
+        sql.append(ORDER_BY_LATEST).append(" LIMIT ?");
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 1건 더 조회
+        args.add(size + 1);
+
+        List<OrderSummary> rows = jdbcTemplate.query(sql.toString(), SUMMARY_MAPPER, args.toArray());
+        boolean hasNext = rows.size() > size;
+        List<OrderSummary> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderSummary last = content.get(content.size() - 1);
+            nextCursor = new OrderCursor(last.createdAt(), last.id()).encode();
+        }
+        return new CursorResult<>(content, size, nextCursor);
+    }
+
+    @Override
+    public PageResult<OrderSummary> findAll(OrderSearchCondition condition, int page, int size) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        appendCondition(where, args, condition);
+
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders o" + where, Long.class, args.toArray());
+        long totalElements = total != null ? total : 0;
+
+        List<Object> pageArgs = new ArrayList<>(args);
+        pageArgs.add(size);
+        pageArgs.add((long) page * size);
+        List<OrderSummary> content = jdbcTemplate.query(
+                "SELECT o.id, o.status, o.payment_amount, o.created_at FROM orders o" + where
+                        + ORDER_BY_LATEST + " LIMIT ? OFFSET ?",
+                SUMMARY_MAPPER, pageArgs.toArray());
+
+        int totalPages = (int) ((totalElements + size - 1) / size);
+        return new PageResult<>(content, page, size, totalElements, totalPages);
+    }
+
+    /**
+     * PostgreSQL 드라이버는 autocommit 이 꺼진 연결에서만 fetch size 를 지켜 커서로 읽으므로, 호출 측 트랜잭션 안에서 실행되어야 한다.
+     * consumer 가 예외를 던지면(클라이언트 연결 끊김 등) 조회를 중단하고 커서를 닫는다.
+     */
+    @Override
+    public void streamAll(OrderSearchCondition condition, Consumer<OrderExportRow> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT_EXPORT);
+        List<Object> args = new ArrayList<>();
+        appendCondition(sql, args, condition);
+        sql.append(" ORDER BY o.id");
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(exportFetchSize);
+            new ArgumentPreparedStatementSetter(args.toArray()).setValues(ps);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(EXPORT_MAPPER.mapRow(rs, rs.getRow())));
+    }
+
+    private void appendCondition(StringBuilder sql, List<Object> args, OrderSearchCondition condition) {
+        if (condition.status() != null) {
+            sql.append(" AND o.status = ?");
+            args.add(condition.status().name());
+        }
+        if (condition.startAt() != null) {
+            sql.append(" AND o.created_at >= ?");
+            args.add(toUtc(condition.startAt()));
+        }
+        if (condition.endAt() != null) {
+            sql.append(" AND o.created_at <= ?");
+            args.add(toUtc(condition.endAt()));
+        }
+    }
+
+    /**
+     * UTC 로 저장된 시각을 JVM 시간대 기준 시각으로 읽는다. getTimestamp 는 JVM 시간대로 해석하므로 쓰지 않는다.
+     */
+    private static LocalDateTime fromUtc(ResultSet rs, String column) throws SQLException {
+        return rs.getObject(column, LocalDateTime.class)
+                .atOffset(ZoneOffset.UTC)
+                .atZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+    }
+
+    /**
+     * JVM 시간대 기준 시각을 저장 형식(UTC)으로 바꾼다. LocalDateTime 은 드라이버가 변환 없이 그대로 보낸다.
+     */
+    private static LocalDateTime toUtc(LocalDateTime local) {
+        return local.atZone(ZoneId.systemDefault())
+                .withZoneSameInstant(ZoneOffset.UTC)
+                .toLocalDateTime();
+    }
+}
@@ -10,7 +10,10 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_created_id", columnList = "userId, createdAt DESC, id DESC"),
+        @Index(name = "idx_orders_created_id", columnList = "createdAt DESC, id DESC")
+})
 public class OrderJpaEntity {
 
     @Id
@@ -52,13 +52,6 @@ public class OrderRepositoryImpl implements OrderRepository {
                 .toList();
     }
 
-    @Override
-    public List<Order> findAll() {
-        return orderJpaRepository.findAll().stream()
-                .map(this::toDomain)
-                .toList();
-    }
-
     @Override
     public List<Order> findByStatusAndCreatedAtBefore(OrderStatus status, LocalDateTime before, PageRequest pageRequest) {
         return orderJpaRepository.findByStatusAndCreatedAtBefore(status.name(), before).stream()
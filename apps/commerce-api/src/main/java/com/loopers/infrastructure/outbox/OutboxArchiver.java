@@ -0,0 +1,90 @@
+package com.loopers.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 보관 기간이 지난 PUBLISHED Outbox 행을 정리하고, 테이블 크기와 PENDING 건수를 지표로 노출한다.
+ * <p>
+ * 삭제는 CHUNK_SIZE 건씩 별도 트랜잭션으로 나눠 실행하므로 락은 한 청크 동안만 유지된다.
+ * 청크 대상은 SKIP LOCKED 로 고르기 때문에 다른 인스턴스의 아카이버와 겹쳐도 서로 기다리지 않는다.
+ */
+@Component
+public class OutboxArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxArchiver.class);
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_CHUNKS_PER_RUN = 100;
+
+    private final OutboxJpaRepository outboxRepository;
+    private final Counter archivedCounter;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong tableSizeBytes = new AtomicLong();
+
+    public OutboxArchiver(OutboxJpaRepository outboxRepository, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.archivedCounter = Counter.builder("outbox.archived")
+                .description("보관 기간이 지나 삭제된 PUBLISHED Outbox 행 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending", pendingCount, AtomicLong::get)
+                .description("발행 대기 중인 Outbox 행 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.table.size", tableSizeBytes, AtomicLong::get)
+                .description("outbox_events 테이블과 인덱스의 전체 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void scheduledArchive() {
+        try {
+            archive();
+        } catch (RuntimeException e) {
+            log.warn("Outbox 정리 실패, 다음 주기에 재시도 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 PUBLISHED 행을 청크 단위로 삭제하고 삭제한 건수를 반환한다.
+     */
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(RETENTION);
+        int total = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            int deleted = outboxRepository.deletePublishedBefore(cutoff, CHUNK_SIZE);
+            total += deleted;
+            archivedCounter.increment(deleted);
+            if (deleted < CHUNK_SIZE) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Outbox 정리 완료 - 삭제: {}건, 기준 시각: {}", total, cutoff);
+        }
+        return total;
+    }
+
+    /**
+     * 스크레이프마다 DB 를 조회하지 않도록 주기적으로 값을 갱신해 두고 게이지는 그 값을 읽는다.
+     */
+    @Scheduled(fixedDelay = 15_000)
+    public void refreshMetrics() {
+        try {
+            pendingCount.set(outboxRepository.countPending());
+            tableSizeBytes.set(outboxRepository.tableSizeBytes());
+        } catch (RuntimeException e) {
+            log.warn("Outbox 지표 갱신 실패 - error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 묶음을 (topic, partitionKey) 레인으로 나눠 비동기로 발행한다.
+ * <p>
+ * - 모든 레인의 send 를 먼저 띄운 뒤 한꺼번에 결과를 기다리며, 동시에 대기 중인 send 수는 {@link #MAX_IN_FLIGHT} 로 제한한다.
+ * - 같은 키는 같은 파티션으로 가고 멱등 프로듀서가 파티션 내 순서를 지키므로, 레인 안의 순서가 유지된다.
+ * - 레인에서 실패가 나면 그 이후 이벤트는 성공으로 치지 않아 다음 주기에 순서대로 다시 보낸다.
+ * - 실패한 레인은 지수 백오프 동안 건너뛰어, 한 레인의 장애가 다른 레인을 막지 않게 한다.
+ *   백오프 중인 레인은 {@link OutboxClaimer} 가 임대를 풀고 가져오지 않으므로, 묶음 자리를 차지하지 않는다.
+ */
+@Component
+public class OutboxBatchSender {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxBatchSender.class);
+    private static final int MAX_IN_FLIGHT = 1000;
+    private static final long SEND_TIMEOUT_MILLIS = 10_000;
+    private static final long INITIAL_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+    private final Map<Lane, LaneBackoff> backoffs = new ConcurrentHashMap<>();
+
+    public OutboxBatchSender(KafkaTemplate<Object, Object> kafkaTemplate, ObjectMapper objectMapper) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 묶음을 발행하고 Kafka 가 확인 응답한 이벤트 ID 를 반환한다.
+     */
+    public List<Long> send(List<OutboxRecord> records) {
+        Map<Lane, List<InFlightSend>> lanes = new LinkedHashMap<>();
+        for (Map.Entry<Lane, List<OutboxRecord>> lane : groupByLane(records).entrySet()) {
+            if (isBackingOff(lane.getKey())) {
+                continue;
+            }
+            lanes.put(lane.getKey(), dispatch(lane.getValue()));
+        }
+
+        long deadline = System.currentTimeMillis() + SEND_TIMEOUT_MILLIS;
+        List<Long> publishedIds = new ArrayList<>();
+        lanes.forEach((lane, sends) -> {
+            List<Long> laneIds = awaitLane(lane, sends, deadline);
+            publishedIds.addAll(laneIds);
+            if (laneIds.size() < sends.size()) {
+                backoffs.computeIfAbsent(lane, key -> new LaneBackoff()).fail();
+            } else {
+                backoffs.remove(lane);
+            }
+        });
+        return publishedIds;
+    }
+
+    /**
+     * 지금 백오프 중인 레인. 임대 조회에서 제외할 대상으로 쓴다.
+     * 백오프가 끝난 지 오래된 레인(다른 인스턴스가 가져가 다시 오지 않는 레인)은 이때 정리한다.
+     */
+    Set<Lane> backingOffLanes() {
+        Set<Lane> lanes = new HashSet<>();
+        backoffs.forEach((lane, backoff) -> {
+            if (backoff.isBackingOff()) {
+                lanes.add(lane);
+            } else if (backoff.isStale()) {
+                backoffs.remove(lane, backoff);
+            }
+        });
+        return lanes;
+    }
+
+    private Map<Lane, List<OutboxRecord>> groupByLane(List<OutboxRecord> records) {
+        Map<Lane, List<OutboxRecord>> lanes = new LinkedHashMap<>();
+        for (OutboxRecord record : records) {
+            lanes.computeIfAbsent(new Lane(record.topic(), record.partitionKey()), key -> new ArrayList<>())
+                    .add(record);
+        }
+        return lanes;
+    }
+
+    private List<InFlightSend> dispatch(List<OutboxRecord> laneRecords) {
+        List<InFlightSend> sends = new ArrayList<>(laneRecords.size());
+        for (OutboxRecord record : laneRecords) {
+            CompletableFuture<SendResult<Object, Object>> future;
+            try {
+                inFlight.acquire();
+                future = kafkaTemplate.send(record.topic(), record.partitionKey(), buildMessage(record));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                sends.add(new InFlightSend(record, CompletableFuture.failedFuture(e)));
+                break;
+            } catch (Exception e) {
+                inFlight.release();
+                sends.add(new InFlightSend(record, CompletableFuture.failedFuture(e)));
+                break;
+            }
+            future.whenComplete((result, error) -> inFlight.release());
+            sends.add(new InFlightSend(record, future));
+        }
+        return sends;
+    }
+
+    private List<Long> awaitLane(Lane lane, List<InFlightSend> sends, long deadline) {
+        List<Long> publishedIds = new ArrayList<>(sends.size());
+        for (InFlightSend send : sends) {
+            try {
+                long remaining = Math.max(0, deadline - System.currentTimeMillis());
+                send.future().get(remaining, TimeUnit.MILLISECONDS);
+                publishedIds.add(send.record().id());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return publishedIds;
+            } catch (Exception e) {
+                log.warn("Outbox 이벤트 발행 실패 - eventId: {}, topic: {}, key: {}, error: {}",
+                        send.record().id(), lane.topic(), lane.partitionKey(), e.getMessage());
+                return publishedIds;
+            }
+        }
+        return publishedIds;
+    }
+
+    private boolean isBackingOff(Lane lane) {
+        LaneBackoff backoff = backoffs.get(lane);
+        return backoff != null && backoff.isBackingOff();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> buildMessage(OutboxRecord record) throws JsonProcessingException {
+        Map<String, Object> payload = objectMapper.readValue(record.payload(), Map.class);
+        Map<String, Object> message = new HashMap<>(payload);
+        message.put("eventId", record.id());
+        message.put("eventType", record.eventType());
+        return message;
+    }
+
+    record Lane(String topic, String partitionKey) {}
+
+    private record InFlightSend(OutboxRecord record, CompletableFuture<SendResult<Object, Object>> future) {}
+
+    private static class LaneBackoff {
+        private long delayMillis;
+        private long retryAtMillis;
+
+        synchronized void fail() {
+            delayMillis = delayMillis == 0 ? INITIAL_BACKOFF_MILLIS : Math.min(delayMillis * 2, MAX_BACKOFF_MILLIS);
+            retryAtMillis = System.currentTimeMillis() + delayMillis;
+        }
+
+        synchronized boolean isBackingOff() {
+            return System.currentTimeMillis() < retryAtMillis;
+        }
+
+        synchronized boolean isStale() {
+            return System.currentTimeMillis() > retryAtMillis + MAX_BACKOFF_MILLIS;
+        }
+    }
+}
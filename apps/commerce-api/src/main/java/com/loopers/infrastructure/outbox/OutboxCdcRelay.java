@@ -0,0 +1,265 @@
+package com.loopers.infrastructure.outbox;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.PGReplicationStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox_events 의 INSERT 를 논리 복제(pgoutput)로 받아 커밋 직후 Kafka 로 발행한다. (outbox.relay.mode=cdc)
+ * <p>
+ * 트랜잭션 단위로 발행하고, 모두 발행된 뒤에만 슬롯의 LSN 을 확정하므로 중단되면 확정 지점부터 다시 받는다.
+ * 발행 완료 처리는 폴링 모드와 같은 {@link OutboxJpaRepository#markPublished} 를 사용한다.
+ * 여러 인스턴스 중 advisory lock 을 잡은 하나만 백로그 발행과 스트리밍을 하고, 나머지는 락을 다시 시도하며 대기한다.
+ * 락을 잡은 뒤 슬롯 생성 이전에 쌓인 PENDING 이벤트를 {@link OutboxClaimer} 로 먼저 발행하고, 스트리밍 중에도 주기적으로 다시 훑는다.
+ * (발행 실패로 백오프에 들어간 레인의 행은 스트림으로 다시 오지 않으므로, 백오프가 끝난 뒤 이 주기 발행으로만 나간다)
+ * 스트림으로 받은 행도 같은 임대({@link OutboxClaimer#claimStreamed})를 거친 뒤 보내므로, 한 행은 한 곳에서만 발행된다.
+ * <p>
+ * DB 는 wal_level=logical 이어야 하며, CDC 모드를 그만 쓸 때는 WAL 이 쌓이지 않도록 슬롯을 삭제해야 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.mode", havingValue = "cdc")
+public class OutboxCdcRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxCdcRelay.class);
+
+    static final String SLOT_NAME = "outbox_relay_slot";
+    static final String PUBLICATION_NAME = "outbox_relay_pub";
+    private static final int BACKLOG_BATCH_SIZE = 500;
+    private static final long IDLE_SLEEP_MILLIS = 5;
+    private static final long RETRY_SLEEP_MILLIS = 1000;
+    private static final long BACKLOG_SWEEP_MILLIS = 1000;
+    private static final long RECONNECT_SLEEP_MILLIS = 5000;
+
+    private final OutboxClaimer outboxClaimer;
+    private final OutboxJpaRepository outboxRepository;
+    private final OutboxBatchSender outboxBatchSender;
+    private final JdbcTemplate jdbcTemplate;
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+    private final String owner = "cdc-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private volatile boolean running;
+    private Thread worker;
+    private long nextBacklogSweepAt;
+
+    public OutboxCdcRelay(OutboxClaimer outboxClaimer,
+                          OutboxJpaRepository outboxRepository,
+                          OutboxBatchSender outboxBatchSender,
+                          JdbcTemplate jdbcTemplate,
+                          @Value("${datasource.postgres-jpa.main.jdbc-url}") String jdbcUrl,
+                          @Value("${datasource.postgres-jpa.main.username}") String username,
+                          @Value("${datasource.postgres-jpa.main.password}") String password) {
+        this.outboxClaimer = outboxClaimer;
+        this.outboxRepository = outboxRepository;
+        this.outboxBatchSender = outboxBatchSender;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "outbox-cdc-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection lockConnection = DriverManager.getConnection(jdbcUrl, username, password)) {
+                if (!tryLock(lockConnection)) {
+                    if (!sleep(RECONNECT_SLEEP_MILLIS)) {
+                        return;
+                    }
+                    continue;
+                }
+                ensureSlot();
+                drainBacklog();
+                stream();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Outbox CDC 스트리밍 중단, {}ms 후 재연결 - error: {}", RECONNECT_SLEEP_MILLIS, e.getMessage());
+                if (!sleep(RECONNECT_SLEEP_MILLIS)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 세션 수준 advisory lock 이므로 연결이 닫히면(스트리밍 중단, 인스턴스 종료) 자동으로 풀려 다른 인스턴스가 이어받는다.
+     */
+    private boolean tryLock(Connection connection) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(hashtext(?))")) {
+            statement.setString(1, SLOT_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void ensureSlot() {
+        Integer publications = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_publication WHERE pubname = ?", Integer.class, PUBLICATION_NAME);
+        if (publications == null || publications == 0) {
+            jdbcTemplate.execute("CREATE PUBLICATION " + PUBLICATION_NAME
+                    + " FOR TABLE " + PgOutputDecoder.TABLE_NAME + " WITH (publish = 'insert')");
+        }
+        Integer slots = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_replication_slots WHERE slot_name = ?", Integer.class, SLOT_NAME);
+        if (slots == null || slots == 0) {
+            jdbcTemplate.queryForList("SELECT pg_create_logical_replication_slot(?, 'pgoutput')", SLOT_NAME);
+            log.info("Outbox CDC 복제 슬롯 생성 - slot: {}", SLOT_NAME);
+        }
+    }
+
+    /**
+     * 슬롯이 생기기 전이나 발행 도중 중단되어 남은 PENDING 이벤트, 백오프로 임대가 풀린 레인의 이벤트를 폴링 모드와 같은 방식으로 발행한다.
+     * 여기서 발행된 행은 PUBLISHED 가 되므로 스트림으로 다시 받아도 {@link OutboxClaimer#claimStreamed} 에서 걸러진다.
+     */
+    private void drainBacklog() {
+        nextBacklogSweepAt = System.currentTimeMillis() + BACKLOG_SWEEP_MILLIS;
+        while (running) {
+            List<OutboxRecord> pending = outboxClaimer.claim(owner, BACKLOG_BATCH_SIZE, outboxBatchSender.backingOffLanes()).stream()
+                    .map(OutboxRecord::from)
+                    .toList();
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<Long> publishedIds = outboxBatchSender.send(pending);
+            if (publishedIds.isEmpty()) {
+                return;
+            }
+            outboxRepository.markPublished(publishedIds, LocalDateTime.now());
+        }
+    }
+
+    private void stream() throws Exception {
+        Properties props = new Properties();
+        PGProperty.USER.set(props, username);
+        PGProperty.PASSWORD.set(props, password);
+        PGProperty.ASSUME_MIN_SERVER_VERSION.set(props, "10");
+        PGProperty.REPLICATION.set(props, "database");
+        PGProperty.PREFER_QUERY_MODE.set(props, "simple");
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, props)) {
+            PGReplicationStream stream = connection.unwrap(PGConnection.class)
+                    .getReplicationAPI()
+                    .replicationStream()
+                    .logical()
+                    .withSlotName(SLOT_NAME)
+                    .withSlotOption("proto_version", 1)
+                    .withSlotOption("publication_names", PUBLICATION_NAME)
+                    .withStatusInterval(10, TimeUnit.SECONDS)
+                    .start();
+            log.info("Outbox CDC 스트리밍 시작 - slot: {}", SLOT_NAME);
+
+            PgOutputDecoder decoder = new PgOutputDecoder();
+            while (running) {
+                if (System.currentTimeMillis() >= nextBacklogSweepAt) {
+                    drainBacklog();
+                }
+                ByteBuffer message = stream.readPending();
+                if (message == null) {
+                    Thread.sleep(IDLE_SLEEP_MILLIS);
+                    continue;
+                }
+                var commit = decoder.decode(message);
+                if (commit.isEmpty()) {
+                    continue;
+                }
+                if (!publish(commit.get().records())) {
+                    return;
+                }
+                stream.setAppliedLSN(commit.get().endLsn());
+                stream.setFlushedLSN(commit.get().endLsn());
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션의 이벤트가 모두 발행될 때까지 실패분만 재시도한다. 다음 트랜잭션으로 넘어가지 않으므로 키별 순서가 유지된다.
+     * 매번 임대를 거쳐 이미 발행된 행은 빼고, 같은 레인의 앞선 PENDING 행이 남았거나 다른 인스턴스가 임대 중인 행은 기다린다.
+     * 기다리는 동안 백로그를 다시 훑어, 백오프가 끝난 앞선 행이 먼저 발행되게 한다.
+     * 중지되어 끝내지 못하면 false 를 반환하고, 남은 이벤트는 PENDING 으로 남아 재시작 시 다시 발행된다.
+     */
+    private boolean publish(List<OutboxRecord> records) throws InterruptedException {
+        List<OutboxRecord> remaining = records;
+        while (!remaining.isEmpty()) {
+            OutboxClaimer.StreamedClaim claim = outboxClaimer.claimStreamed(owner,
+                    remaining.stream().map(OutboxRecord::id).toList());
+            Set<Long> leased = new HashSet<>(claim.leased());
+            Set<Long> waiting = new HashSet<>(claim.waiting());
+
+            Set<Long> published = new HashSet<>();
+            List<OutboxRecord> toSend = remaining.stream().filter(record -> leased.contains(record.id())).toList();
+            if (!toSend.isEmpty()) {
+                List<Long> publishedIds = outboxBatchSender.send(toSend);
+                if (!publishedIds.isEmpty()) {
+                    outboxRepository.markPublished(publishedIds, LocalDateTime.now());
+                    published.addAll(publishedIds);
+                }
+            }
+            remaining = remaining.stream()
+                    .filter(record -> waiting.contains(record.id())
+                            || (leased.contains(record.id()) && !published.contains(record.id())))
+                    .toList();
+            if (!remaining.isEmpty()) {
+                if (!running) {
+                    return false;
+                }
+                Thread.sleep(RETRY_SLEEP_MILLIS);
+                drainBacklog();
+            }
+        }
+        return true;
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
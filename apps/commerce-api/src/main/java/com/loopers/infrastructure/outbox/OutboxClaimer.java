@@ -0,0 +1,222 @@
+package com.loopers.infrastructure.outbox;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 여러 인스턴스의 릴레이가 PENDING 이벤트를 나눠 가져가도록 레인 단위로 임대(lease)한다.
+ * <p>
+ * 레인((topic, partitionKey))의 가장 앞선 PENDING 행(head)을 FOR UPDATE SKIP LOCKED 로 잡은 인스턴스가
+ * 그 레인의 PENDING 행 전체를 임대한다. head 가 임대 중이면 다른 인스턴스는 그 레인을 가져가지 않으므로
+ * 같은 키의 이벤트는 항상 한 인스턴스가 순서대로 보낸다.
+ * 임대가 만료된 행은 다른 인스턴스가 다시 가져가므로, 발행 도중 죽은 인스턴스의 이벤트도 재시도된다.
+ * <p>
+ * 발행 실패로 백오프 중인 레인은 임대를 풀어 두고 새로 가져오지도 않는다. 한 묶음에는 레인당 {@link #MAX_ROWS_PER_LANE} 건까지만 담아,
+ * 밀린 행이 많은 레인이 묶음을 독차지해 다른 레인이 굶지 않게 한다.
+ */
+@Component
+public class OutboxClaimer {
+
+    private static final long LEASE_SECONDS = 30;
+    private static final int MAX_NEW_LANES = 200;
+    private static final int MAX_ROWS_PER_LANE = 50;
+
+    private static final String FIND_FREE_HEADS_SQL = """
+            SELECT o.topic, o.partition_key FROM outbox_events o
+             WHERE o.status = 'PENDING'
+               AND (o.lease_expires_at IS NULL OR o.lease_expires_at < :now)
+               AND NOT EXISTS (
+                   SELECT 1 FROM outbox_events e
+                    WHERE e.status = 'PENDING'
+                      AND e.topic = o.topic
+                      AND e.partition_key = o.partition_key
+                      AND e.id < o.id)
+             ORDER BY o.id
+             LIMIT :limit
+             FOR UPDATE OF o SKIP LOCKED
+            """;
+
+    private static final String RENEW_OWN_LEASES_SQL = """
+            UPDATE outbox_events SET lease_expires_at = :expiresAt
+             WHERE status = 'PENDING' AND lease_owner = :owner
+            """;
+
+    private static final String FIND_LEASED_SQL = """
+            SELECT o.* FROM outbox_events o
+              JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY topic, partition_key ORDER BY id) AS lane_seq
+                      FROM outbox_events
+                     WHERE status = 'PENDING' AND lease_owner = :owner) leased ON leased.id = o.id
+             WHERE leased.lane_seq <= :perLane
+             ORDER BY o.id
+             LIMIT :limit
+            """;
+
+    private static final String FIND_STREAMED_SQL = """
+            SELECT o.id, o.topic, o.partition_key,
+                   COALESCE(o.lease_owner <> :owner AND o.lease_expires_at >= :now, FALSE)
+                   OR EXISTS (
+                       SELECT 1 FROM outbox_events e
+                        WHERE e.status = 'PENDING'
+                          AND e.topic = o.topic
+                          AND e.partition_key = o.partition_key
+                          AND e.id < o.id
+                          AND e.id NOT IN (:ids)) AS blocked
+              FROM outbox_events o
+             WHERE o.id IN (:ids) AND o.status = 'PENDING'
+             ORDER BY o.id
+               FOR UPDATE OF o
+            """;
+
+    private static final String LEASE_ROWS_SQL = """
+            UPDATE outbox_events SET lease_owner = :owner, lease_expires_at = :expiresAt
+             WHERE id IN (:ids)
+            """;
+
+    private final EntityManager entityManager;
+
+    public OutboxClaimer(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Transactional
+    public List<OutboxJpaEntity> claim(String owner, int batchSize) {
+        return claim(owner, batchSize, Set.of());
+    }
+
+    /**
+     * 백오프 중인 레인의 임대를 풀고, 새로 비어 있는 레인을 임대하고, 이미 임대 중인 행의 만료 시각을 연장한 뒤
+     * 이 인스턴스 몫을 id 순으로 반환한다.
+     */
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<OutboxJpaEntity> claim(String owner, int batchSize, Set<OutboxBatchSender.Lane> backingOffLanes) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusSeconds(LEASE_SECONDS);
+
+        if (!backingOffLanes.isEmpty()) {
+            releaseLanes(new ArrayList<>(backingOffLanes), owner);
+        }
+
+        List<Object[]> freeHeads = ((List<Object[]>) entityManager.createNativeQuery(FIND_FREE_HEADS_SQL)
+                .setParameter("now", now)
+                .setParameter("limit", MAX_NEW_LANES)
+                .getResultList())
+                .stream()
+                .filter(head -> !backingOffLanes.contains(
+                        new OutboxBatchSender.Lane((String) head[0], (String) head[1])))
+                .toList();
+        if (!freeHeads.isEmpty()) {
+            leaseLanes(freeHeads, owner, now, expiresAt);
+        }
+
+        entityManager.createNativeQuery(RENEW_OWN_LEASES_SQL)
+                .setParameter("owner", owner)
+                .setParameter("expiresAt", expiresAt)
+                .executeUpdate();
+
+        return entityManager.createNativeQuery(FIND_LEASED_SQL, OutboxJpaEntity.class)
+                .setParameter("owner", owner)
+                .setParameter("perLane", MAX_ROWS_PER_LANE)
+                .setParameter("limit", batchSize)
+                .getResultList();
+    }
+
+    /**
+     * CDC 스트림으로 받은 행을 발행하기 전에 임대한다. 스트림과 백로그 발행이 같은 임대를 거치므로 한 행은 한 인스턴스만 발행한다.
+     * 이미 발행된 행은 어느 쪽에도 담기지 않는다. 같은 레인에 이번 묶음 밖의 앞선 PENDING 행이 남아 있으면
+     * 임대 상태와 무관하게(백오프로 임대가 풀린 행 포함) 순서를 지키기 위해 대기 목록에 담고, 다른 인스턴스가 임대 중인 행도 대기한다.
+     */
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public StreamedClaim claimStreamed(String owner, List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = entityManager.createNativeQuery(FIND_STREAMED_SQL)
+                .setParameter("owner", owner)
+                .setParameter("now", now)
+                .setParameter("ids", ids)
+                .getResultList();
+
+        List<Long> leased = new ArrayList<>();
+        List<Long> waiting = new ArrayList<>();
+        Set<OutboxBatchSender.Lane> blockedLanes = new HashSet<>();
+        for (Object[] row : rows) {
+            Long id = ((Number) row[0]).longValue();
+            OutboxBatchSender.Lane lane = new OutboxBatchSender.Lane((String) row[1], (String) row[2]);
+            if (Boolean.TRUE.equals(row[3]) || blockedLanes.contains(lane)) {
+                // 같은 묶음 안에서도 앞선 행이 대기하면 그 뒤 행은 먼저 나갈 수 없다
+                blockedLanes.add(lane);
+                waiting.add(id);
+            } else {
+                leased.add(id);
+            }
+        }
+        if (!leased.isEmpty()) {
+            entityManager.createNativeQuery(LEASE_ROWS_SQL)
+                    .setParameter("owner", owner)
+                    .setParameter("expiresAt", now.plusSeconds(LEASE_SECONDS))
+                    .setParameter("ids", leased)
+                    .executeUpdate();
+        }
+        return new StreamedClaim(leased, waiting);
+    }
+
+    /**
+     * @param leased  이 인스턴스가 임대해 바로 발행할 행
+     * @param waiting 같은 레인의 앞선 행이 발행되거나 다른 인스턴스의 임대가 끝나기를 기다려야 하는 행
+     */
+    public record StreamedClaim(List<Long> leased, List<Long> waiting) {
+    }
+
+    /**
+     * 백오프 중인 레인의 임대를 반납해 다른 인스턴스가 가져갈 수 있게 한다.
+     */
+    private void releaseLanes(List<OutboxBatchSender.Lane> lanes, String owner) {
+        StringBuilder sql = new StringBuilder("""
+                UPDATE outbox_events SET lease_owner = NULL, lease_expires_at = NULL
+                 WHERE status = 'PENDING'
+                   AND lease_owner = :owner
+                   AND (topic, partition_key) IN (""");
+        for (int i = 0; i < lanes.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(:topic").append(i).append(", :key").append(i).append(')');
+        }
+        sql.append(')');
+
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("owner", owner);
+        for (int i = 0; i < lanes.size(); i++) {
+            query.setParameter("topic" + i, lanes.get(i).topic());
+            query.setParameter("key" + i, lanes.get(i).partitionKey());
+        }
+        query.executeUpdate();
+    }
+
+    private void leaseLanes(List<Object[]> heads, String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        StringBuilder sql = new StringBuilder("""
+                UPDATE outbox_events SET lease_owner = :owner, lease_expires_at = :expiresAt
+                 WHERE status = 'PENDING'
+                   AND (lease_expires_at IS NULL OR lease_expires_at < :now)
+                   AND (topic, partition_key) IN (""");
+        for (int i = 0; i < heads.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(:topic").append(i).append(", :key").append(i).append(')');
+        }
+        sql.append(')');
+
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("owner", owner)
+                .setParameter("expiresAt", expiresAt)
+                .setParameter("now", now);
+        for (int i = 0; i < heads.size(); i++) {
+            query.setParameter("topic" + i, heads.get(i)[0]);
+            query.setParameter("key" + i, heads.get(i)[1]);
+        }
+        query.executeUpdate();
+    }
+}
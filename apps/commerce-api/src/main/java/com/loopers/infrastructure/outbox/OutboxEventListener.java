@@ -64,6 +64,13 @@ public class OutboxEventListener {
                 Map.of("orderId", event.orderId(),
                         "userId", event.userId().getValue(),
                         "paymentAmount", event.paymentAmount(),
+                        "items", event.items().stream()
+                                .map(item -> Map.of(
+                                        "productId", item.productId(),
+                                        "quantity", item.quantity(),
+                                        "unitPrice", item.unitPrice(),
+                                        "discountShare", item.discountShare()))
+                                .toList(),
                         "occurredAt", event.occurredAt().toString()));
     }
 
@@ -1,65 +1,65 @@
 package com.loopers.infrastructure.outbox;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
+import java.util.UUID;
 
 /**
  * Outbox 테이블의 PENDING 이벤트를 폴링하여 Kafka로 발행한다.
- * 발행 성공 시 PUBLISHED로 상태를 변경한다.
+ * 발행은 {@link OutboxBatchSender} 가 레인별로 비동기 처리하고, 성공한 이벤트는 UPDATE 한 번으로 PUBLISHED 처리한다.
+ * Kafka 응답을 기다리는 동안에는 트랜잭션을 열지 않는다.
+ * outbox.relay.mode=polling(기본값)일 때 사용하며, cdc 모드에서는 {@link OutboxCdcRelay} 가 대신 발행한다.
+ * 여러 인스턴스가 동시에 폴링해도 {@link OutboxClaimer} 가 레인 단위로 임대하므로 같은 이벤트를 중복 발행하지 않는다.
  * 실패 시 다음 폴링에서 자동 재시도 (At Least Once 보장).
  */
 @Component
+@ConditionalOnProperty(name = "outbox.relay.mode", havingValue = "polling", matchIfMissing = true)
 public class OutboxEventPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(OutboxEventPublisher.class);
 
+    private static final int BATCH_SIZE = 500;
+
+    private final OutboxClaimer outboxClaimer;
     private final OutboxJpaRepository outboxRepository;
-    private final KafkaTemplate<Object, Object> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final OutboxBatchSender outboxBatchSender;
+    private final String owner;
 
-    public OutboxEventPublisher(OutboxJpaRepository outboxRepository,
-                                KafkaTemplate<Object, Object> kafkaTemplate,
-                                ObjectMapper objectMapper) {
+    public OutboxEventPublisher(OutboxClaimer outboxClaimer,
+                                OutboxJpaRepository outboxRepository,
+                                OutboxBatchSender outboxBatchSender) {
+        this.outboxClaimer = outboxClaimer;
         this.outboxRepository = outboxRepository;
-        this.kafkaTemplate = kafkaTemplate;
-        this.objectMapper = objectMapper;
+        this.outboxBatchSender = outboxBatchSender;
+        this.owner = resolveOwner();
     }
 
     @Scheduled(fixedDelay = 1000)
-    @Transactional
     public void publishPendingEvents() {
-        List<OutboxJpaEntity> pendingEvents =
-                outboxRepository.findTop100ByStatusOrderByCreatedAtAsc("PENDING");
+        List<OutboxRecord> pendingEvents = outboxClaimer.claim(owner, BATCH_SIZE, outboxBatchSender.backingOffLanes()).stream()
+                .map(OutboxRecord::from)
+                .toList();
+        if (pendingEvents.isEmpty()) {
+            return;
+        }
 
-        for (OutboxJpaEntity event : pendingEvents) {
-            try {
-                Map<String, Object> message = buildMessage(event);
-                kafkaTemplate.send(event.getTopic(), event.getPartitionKey(), message).get();
-                event.markPublished();
-            } catch (Exception e) {
-                log.warn("Outbox 이벤트 발행 실패 - eventId: {}, topic: {}, error: {}",
-                        event.getId(), event.getTopic(), e.getMessage());
-                break;
-            }
+        List<Long> publishedIds = outboxBatchSender.send(pendingEvents);
+        if (!publishedIds.isEmpty()) {
+            outboxRepository.markPublished(publishedIds, LocalDateTime.now());
+        }
+        if (publishedIds.size() < pendingEvents.size()) {
+            log.info("Outbox 발행 일부 보류 - 대상: {}건, 발행: {}건", pendingEvents.size(), publishedIds.size());
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> buildMessage(OutboxJpaEntity event) throws JsonProcessingException {
-        Map<String, Object> payload = objectMapper.readValue(event.getPayload(), Map.class);
-        Map<String, Object> message = new HashMap<>(payload);
-        message.put("eventId", event.getId());
-        message.put("eventType", event.getEventType());
-        return message;
+    private static String resolveOwner() {
+        String host = System.getenv().getOrDefault("HOSTNAME", "local");
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
     }
 }
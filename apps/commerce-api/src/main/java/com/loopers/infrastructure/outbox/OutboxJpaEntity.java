@@ -5,11 +5,12 @@ import lombok.Getter;
 
 import java.time.LocalDateTime;
 
+/**
+ * 인덱스는 모두 status 조건이 붙은 partial index 라 JPA 로 표현할 수 없어 V8 마이그레이션에서만 관리한다.
+ */
 @Entity
 @Getter
-@Table(name = "outbox_events", indexes = {
-        @Index(name = "idx_outbox_status", columnList = "status")
-})
+@Table(name = "outbox_events")
 public class OutboxJpaEntity {
 
     @Id
@@ -42,6 +43,10 @@ public class OutboxJpaEntity {
 
     private LocalDateTime publishedAt;
 
+    private String leaseOwner;
+
+    private LocalDateTime leaseExpiresAt;
+
     protected OutboxJpaEntity() {}
 
     public OutboxJpaEntity(String aggregateType, String aggregateId, String eventType,
@@ -55,9 +60,4 @@ public class OutboxJpaEntity {
         this.status = "PENDING";
         this.createdAt = LocalDateTime.now();
     }
-
-    public void markPublished() {
-        this.status = "PUBLISHED";
-        this.publishedAt = LocalDateTime.now();
-    }
 }
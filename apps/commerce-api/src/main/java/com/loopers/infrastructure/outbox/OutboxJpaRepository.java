@@ -1,10 +1,37 @@
 package com.loopers.infrastructure.outbox;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Collection;
 
 public interface OutboxJpaRepository extends JpaRepository<OutboxJpaEntity, Long> {
 
-    List<OutboxJpaEntity> findTop100ByStatusOrderByCreatedAtAsc(String status);
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxJpaEntity o SET o.status = 'PUBLISHED', o.publishedAt = :publishedAt, " +
+            "o.leaseOwner = null, o.leaseExpiresAt = null " +
+            "WHERE o.id IN :ids AND o.status = 'PENDING'")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * 보관 기간이 지난 PUBLISHED 행을 오래된 순으로 최대 limit 건 삭제한다. 한 번 호출이 하나의 짧은 트랜잭션이다.
+     * published_at 순으로 잘라야 idx_outbox_published_at(V8) 을 순서대로 읽고 멈추며, id 순이면 범위 전체를 정렬한다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM outbox_events WHERE id IN (" +
+            "SELECT id FROM outbox_events WHERE status = 'PUBLISHED' AND published_at < :cutoff " +
+            "ORDER BY published_at LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Query(value = "SELECT count(*) FROM outbox_events WHERE status = 'PENDING'", nativeQuery = true)
+    long countPending();
+
+    @Query(value = "SELECT pg_total_relation_size('outbox_events')", nativeQuery = true)
+    long tableSizeBytes();
 }
@@ -0,0 +1,17 @@
+package com.loopers.infrastructure.outbox;
+
+/**
+ * 릴레이가 Kafka 로 보낼 Outbox 한 건.
+ */
+public record OutboxRecord(
+        Long id,
+        String eventType,
+        String topic,
+        String partitionKey,
+        String payload
+) {
+    public static OutboxRecord from(OutboxJpaEntity entity) {
+        return new OutboxRecord(entity.getId(), entity.getEventType(), entity.getTopic(),
+                entity.getPartitionKey(), entity.getPayload());
+    }
+}
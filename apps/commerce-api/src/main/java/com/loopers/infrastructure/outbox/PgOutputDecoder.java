@@ -0,0 +1,101 @@
+package com.loopers.infrastructure.outbox;
+
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * pgoutput(proto_version 1) 메시지에서 outbox_events INSERT 를 트랜잭션 단위로 모은다.
+ * Relation 메시지로 컬럼 순서를 기억해 두고, Commit 메시지를 받으면 그 트랜잭션의 PENDING 이벤트를 반환한다.
+ * 발행 대상이 INSERT 뿐이므로 그 외 메시지(Origin, Type, Truncate 등)는 무시한다.
+ */
+class PgOutputDecoder {
+
+    static final String TABLE_NAME = "outbox_events";
+
+    private final Map<Integer, List<String>> columnsByRelation = new HashMap<>();
+    private final Map<Integer, String> tableByRelation = new HashMap<>();
+    private final List<OutboxRecord> currentTransaction = new ArrayList<>();
+
+    record Commit(LogSequenceNumber endLsn, List<OutboxRecord> records) {}
+
+    Optional<Commit> decode(ByteBuffer buffer) {
+        char type = (char) buffer.get();
+        switch (type) {
+            case 'B' -> currentTransaction.clear();
+            case 'R' -> readRelation(buffer);
+            case 'I' -> readInsert(buffer);
+            case 'C' -> {
+                buffer.get();       // flags
+                buffer.getLong();   // commit LSN
+                LogSequenceNumber endLsn = LogSequenceNumber.valueOf(buffer.getLong());
+                List<OutboxRecord> records = List.copyOf(currentTransaction);
+                currentTransaction.clear();
+                return Optional.of(new Commit(endLsn, records));
+            }
+            default -> {
+                // 발행 대상이 아닌 메시지
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void readRelation(ByteBuffer buffer) {
+        int relationId = buffer.getInt();
+        readString(buffer);                     // namespace
+        String table = readString(buffer);
+        buffer.get();                           // replica identity
+        short columnCount = buffer.getShort();
+        List<String> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            buffer.get();                       // flags
+            columns.add(readString(buffer));
+            buffer.getInt();                    // type oid
+            buffer.getInt();                    // type modifier
+        }
+        tableByRelation.put(relationId, table);
+        columnsByRelation.put(relationId, columns);
+    }
+
+    private void readInsert(ByteBuffer buffer) {
+        int relationId = buffer.getInt();
+        buffer.get();                           // 'N'
+        short columnCount = buffer.getShort();
+        List<String> columns = columnsByRelation.get(relationId);
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < columnCount; i++) {
+            char kind = (char) buffer.get();
+            if (kind == 't') {
+                byte[] value = new byte[buffer.getInt()];
+                buffer.get(value);
+                row.put(columns.get(i), new String(value, StandardCharsets.UTF_8));
+            }
+        }
+
+        if (!TABLE_NAME.equals(tableByRelation.get(relationId)) || !"PENDING".equals(row.get("status"))) {
+            return;
+        }
+        currentTransaction.add(new OutboxRecord(
+                Long.valueOf(row.get("id")),
+                row.get("event_type"),
+                row.get("topic"),
+                row.get("partition_key"),
+                row.get("payload")));
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int start = buffer.position();
+        while (buffer.get() != 0) {
+            // null 종료 문자까지 이동
+        }
+        byte[] bytes = new byte[buffer.position() - start - 1];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
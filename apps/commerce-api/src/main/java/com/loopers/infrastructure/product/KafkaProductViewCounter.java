@@ -0,0 +1,100 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.application.product.ProductViewCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 조회수를 프로세스 메모리에 상품별로 모아 두었다가 주기적으로 상품당 메시지 하나(PRODUCT_VIEWED, count)로 발행한다.
+ * <p>
+ * 조회수는 근사치로 충분하므로 Outbox 를 거치지 않고 Kafka 로 바로 보낸다.
+ * 비정상 종료 시 유실은 최대 한 주기(flush-interval-ms) 분량이며, 정상 종료 시에는 남은 값을 발행한다.
+ * 발행에 실패한 값은 다음 주기에 다시 합산해 보낸다.
+ * 주기마다 상품별 LongAdder 를 sumThenReset 으로 비우므로, 발행 도중 들어온 조회는 같은 LongAdder 에 남아 다음 주기에 발행된다.
+ * 상품별 LongAdder 는 지우지 않고 재사용한다. 지우는 순간 이미 꺼내 간 스레드의 증가분이 사라지기 때문이다.
+ * 메시지마다 eventId 를 붙여, 같은 메시지가 다시 전달되어도 streamer 의 event_handled 중복 확인으로 한 번만 반영된다.
+ * eventId 는 Outbox id(양수 시퀀스)와 겹치지 않도록 음수 난수를 쓴다.
+ * sample-rate 가 1 보다 작으면 그 비율만 누적하고 발행 시 역수를 곱해 보정한다.
+ */
+@Component
+public class KafkaProductViewCounter implements ProductViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(KafkaProductViewCounter.class);
+    private static final String CATALOG_EVENTS = "catalog-events";
+
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final double sampleRate;
+    private final ConcurrentHashMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+    private volatile LocalDateTime windowStartedAt = LocalDateTime.now();
+
+    public KafkaProductViewCounter(KafkaTemplate<Object, Object> kafkaTemplate,
+                                   @Value("${product.view-counter.sample-rate:1.0}") double sampleRate) {
+        if (sampleRate <= 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("조회수 샘플링 비율은 0 초과 1 이하여야 합니다.");
+        }
+        this.kafkaTemplate = kafkaTemplate;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void increment(Long productId) {
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        counts.computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${product.view-counter.flush-interval-ms:5000}")
+    public void flush() {
+        LocalDateTime windowStart = windowStartedAt;
+        LocalDateTime windowEnd = LocalDateTime.now();
+        windowStartedAt = windowEnd;
+
+        for (Map.Entry<Long, LongAdder> entry : counts.entrySet()) {
+            Long productId = entry.getKey();
+            long sampled = entry.getValue().sumThenReset();
+            if (sampled == 0) {
+                continue;
+            }
+            long count = Math.round(sampled / sampleRate);
+            try {
+                kafkaTemplate.send(CATALOG_EVENTS, String.valueOf(productId), Map.of(
+                                "eventId", ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE,
+                                "eventType", "PRODUCT_VIEWED",
+                                "productId", productId,
+                                "count", count,
+                                "windowStart", windowStart.toString(),
+                                "windowEnd", windowEnd.toString()))
+                        .whenComplete((result, error) -> {
+                            if (error != null) {
+                                restore(productId, sampled);
+                            }
+                        });
+            } catch (RuntimeException e) {
+                restore(productId, sampled);
+                log.warn("조회수 발행 실패, 다음 주기에 재시도 - productId: {}, error: {}", productId, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        kafkaTemplate.flush();
+    }
+
+    private void restore(Long productId, long sampled) {
+        counts.computeIfAbsent(productId, id -> new LongAdder()).add(sampled);
+    }
+}
@@ -0,0 +1,40 @@
+package com.loopers.infrastructure.product;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 마지막으로 조회한 행의 (정렬값, id) 를 담은 불투명 커서.
+ * 정렬 기준을 함께 인코딩해 다른 정렬로 발급된 커서가 섞여 들어오면 거부한다.
+ */
+record ProductCursor(
+        ProductCursorSort sort,
+        Object sortValue,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+    private static final String INVALID_CURSOR_MESSAGE = "잘못된 커서입니다.";
+
+    static ProductCursor of(ProductCursorSort sort, ProductJpaEntity last) {
+        return new ProductCursor(sort, sort.sortValue(last), last.getId());
+    }
+
+    String encode() {
+        String raw = sort.name() + DELIMITER + sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ProductCursor decode(String token, ProductCursorSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3 || !expectedSort.name().equals(parts[0])) {
+                throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+            }
+            return new ProductCursor(expectedSort, expectedSort.parseSortValue(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE, e);
+        }
+    }
+}
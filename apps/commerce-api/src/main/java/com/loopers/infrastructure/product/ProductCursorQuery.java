@@ -0,0 +1,48 @@
+package com.loopers.infrastructure.product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상품 목록 keyset 조회.
+ * (정렬값, id) 행 비교로 커서 이후 구간만 인덱스 범위 스캔하고, COUNT 쿼리는 실행하지 않는다.
+ * WHERE 절의 deleted_at IS NULL 은 partial index(V6) 조건과 일치해야 인덱스를 탄다.
+ */
+@Component
+class ProductCursorQuery {
+
+    private final EntityManager entityManager;
+
+    ProductCursorQuery(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @SuppressWarnings("unchecked")
+    List<ProductJpaEntity> findActiveAfter(Long brandId, ProductCursorSort sort, ProductCursor cursor, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM products p WHERE p.deleted_at IS NULL");
+        if (brandId != null) {
+            sql.append(" AND p.brand_id = :brandId");
+        }
+        if (cursor != null) {
+            sql.append(" AND (p.").append(sort.column()).append(", p.id) ")
+                    .append(sort.comparator()).append(" (:sortValue, :lastId)");
+        }
+        sql.append(" ORDER BY p.").append(sort.column()).append(' ').append(sort.direction())
+                .append(", p.id ").append(sort.direction())
+                .append(" LIMIT :limit");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), ProductJpaEntity.class);
+        if (brandId != null) {
+            query.setParameter("brandId", brandId);
+        }
+        if (cursor != null) {
+            query.setParameter("sortValue", cursor.sortValue());
+            query.setParameter("lastId", cursor.id());
+        }
+        query.setParameter("limit", limit);
+        return query.getResultList();
+    }
+}
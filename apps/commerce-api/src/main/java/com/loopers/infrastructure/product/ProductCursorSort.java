@@ -0,0 +1,92 @@
+package com.loopers.infrastructure.product;
+
+import java.time.LocalDateTime;
+
+/**
+ * 커서 페이징에서 사용하는 정렬 기준.
+ * 동일한 정렬 값을 가진 상품 사이의 순서를 고정하기 위해 항상 id 를 같은 방향의 보조 정렬로 사용한다.
+ */
+enum ProductCursorSort {
+
+    LATEST("created_at", true) {
+        @Override
+        Object sortValue(ProductJpaEntity entity) {
+            return entity.getCreatedAt();
+        }
+
+        @Override
+        Object parseSortValue(String raw) {
+            return LocalDateTime.parse(raw);
+        }
+    },
+    PRICE_ASC("price", false) {
+        @Override
+        Object sortValue(ProductJpaEntity entity) {
+            return entity.getPrice();
+        }
+
+        @Override
+        Object parseSortValue(String raw) {
+            return Integer.parseInt(raw);
+        }
+    },
+    PRICE_DESC("price", true) {
+        @Override
+        Object sortValue(ProductJpaEntity entity) {
+            return entity.getPrice();
+        }
+
+        @Override
+        Object parseSortValue(String raw) {
+            return Integer.parseInt(raw);
+        }
+    },
+    LIKES_DESC("like_count", true) {
+        @Override
+        Object sortValue(ProductJpaEntity entity) {
+            return entity.getLikeCount();
+        }
+
+        @Override
+        Object parseSortValue(String raw) {
+            return Integer.parseInt(raw);
+        }
+    };
+
+    private final String column;
+    private final boolean descending;
+
+    ProductCursorSort(String column, boolean descending) {
+        this.column = column;
+        this.descending = descending;
+    }
+
+    static ProductCursorSort from(String sort) {
+        if (sort == null) {
+            return LATEST;
+        }
+        return switch (sort) {
+            case "price_asc" -> PRICE_ASC;
+            case "price_desc" -> PRICE_DESC;
+            case "likes_desc" -> LIKES_DESC;
+            default -> LATEST;
+        };
+    }
+
+    abstract Object sortValue(ProductJpaEntity entity);
+
+    abstract Object parseSortValue(String raw);
+
+    String column() {
+        return column;
+    }
+
+    /** (정렬값, id) 행 비교 연산자. 내림차순이면 커서보다 작은 행이 다음 페이지다. */
+    String comparator() {
+        return descending ? "<" : ">";
+    }
+
+    String direction() {
+        return descending ? "DESC" : "ASC";
+    }
+}
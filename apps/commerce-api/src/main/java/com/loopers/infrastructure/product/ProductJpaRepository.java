@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,15 +21,15 @@ public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, Lo
 
     List<ProductJpaEntity> findAllByBrandIdAndDeletedAtIsNull(Long brandId);
 
+    List<ProductJpaEntity> findAllByIdInAndDeletedAtIsNull(Collection<Long> ids);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM ProductJpaEntity p WHERE p.id = :id")
     Optional<ProductJpaEntity> findByIdForUpdate(@Param("id") Long id);
 
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE ProductJpaEntity p SET p.likeCount = p.likeCount + 1 WHERE p.id = :productId")
-    void incrementLikeCount(@Param("productId") Long productId);
-
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE ProductJpaEntity p SET p.likeCount = p.likeCount - 1 WHERE p.id = :productId AND p.likeCount > 0")
-    int decrementLikeCount(@Param("productId") Long productId);
+    @Query("UPDATE ProductJpaEntity p SET p.likeCount = " +
+            "CASE WHEN p.likeCount + :delta < 0 THEN 0 ELSE p.likeCount + :delta END " +
+            "WHERE p.id = :productId")
+    int addLikeCount(@Param("productId") Long productId, @Param("delta") int delta);
 }
@@ -1,5 +1,6 @@
 package com.loopers.infrastructure.product;
 
+import com.loopers.domain.model.common.CursorResult;
 import com.loopers.domain.model.common.PageResult;
 import com.loopers.domain.model.product.*;
 import com.loopers.domain.repository.ProductRepository;
@@ -7,17 +8,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 @Repository
 public class ProductRepositoryImpl implements ProductRepository {
 
     private final ProductJpaRepository productJpaRepository;
+    private final ProductCursorQuery productCursorQuery;
+    private final ProductStockBatchUpdate productStockBatchUpdate;
 
-    public ProductRepositoryImpl(ProductJpaRepository productJpaRepository) {
+    public ProductRepositoryImpl(ProductJpaRepository productJpaRepository, ProductCursorQuery productCursorQuery,
+                                 ProductStockBatchUpdate productStockBatchUpdate) {
         this.productJpaRepository = productJpaRepository;
+        this.productCursorQuery = productCursorQuery;
+        this.productStockBatchUpdate = productStockBatchUpdate;
     }
 
     @Override
@@ -45,6 +55,25 @@ public class ProductRepositoryImpl implements ProductRepository {
                 .filter(p -> !p.isDeleted());
     }
 
+    @Override
+    public List<Product> findAllActiveByIds(List<Long> ids) {
+        return productJpaRepository.findAllByIdInAndDeletedAtIsNull(ids).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<StockDeduction> decreaseStocks(List<StockDeduction> deductions) {
+        int[] updatedRows = productStockBatchUpdate.decrease(deductions);
+        List<StockDeduction> shortfalls = new ArrayList<>();
+        for (int i = 0; i < deductions.size(); i++) {
+            if (updatedRows[i] == 0) {
+                shortfalls.add(deductions.get(i));
+            }
+        }
+        return shortfalls;
+    }
+
     @Override
     public PageResult<Product> findAllActive(Long brandId, String sort, int page, int size) {
         Sort sorting = resolveSort(sort);
@@ -62,6 +91,23 @@ public class ProductRepositoryImpl implements ProductRepository {
                 jpaPage.getTotalElements(), jpaPage.getTotalPages());
     }
 
+    @Override
+    public CursorResult<Product> findAllActiveByCursor(Long brandId, String sort, String cursor, int size) {
+        ProductCursorSort cursorSort = ProductCursorSort.from(sort);
+        ProductCursor after = cursor != null ? ProductCursor.decode(cursor, cursorSort) : null;
+
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 1건 더 조회
+        List<ProductJpaEntity> rows = productCursorQuery.findActiveAfter(brandId, cursorSort, after, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<ProductJpaEntity> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext
+                ? ProductCursor.of(cursorSort, pageRows.get(pageRows.size() - 1)).encode()
+                : null;
+        List<Product> content = pageRows.stream().map(this::toDomain).toList();
+        return new CursorResult<>(content, size, nextCursor);
+    }
+
     @Override
     public List<Product> findAllByBrandId(Long brandId) {
         return productJpaRepository.findAllByBrandIdAndDeletedAtIsNull(brandId).stream()
@@ -81,14 +127,14 @@ public class ProductRepositoryImpl implements ProductRepository {
         };
     }
 
+    /**
+     * 여러 인스턴스가 동시에 반영해도 행 잠금 순서가 같도록 productId 순으로 갱신한다.
+     */
     @Override
-    public void incrementLikeCount(Long productId) {
-        productJpaRepository.incrementLikeCount(productId);
-    }
-
-    @Override
-    public void decrementLikeCount(Long productId) {
-        productJpaRepository.decrementLikeCount(productId);
+    @Transactional
+    public void applyLikeCountDeltas(Map<Long, Long> likeCountDeltas) {
+        new TreeMap<>(likeCountDeltas).forEach((productId, delta) ->
+                productJpaRepository.addLikeCount(productId, Math.toIntExact(delta)));
     }
 
     private ProductJpaEntity toEntity(Product product) {
@@ -0,0 +1,42 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.model.product.StockDeduction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여러 상품의 재고를 조건부 UPDATE 한 번의 JDBC 배치로 차감한다.
+ * 각 문장은 stock_quantity >= 요청 수량일 때만 반영되므로 잠금 조회 없이도 재고가 음수가 되지 않는다.
+ * 현재 트랜잭션의 커넥션을 그대로 사용하므로 호출 측 트랜잭션이 롤백되면 차감도 함께 롤백된다.
+ */
+@Component
+class ProductStockBatchUpdate {
+
+    private static final String DECREASE_SQL = """
+            UPDATE products
+               SET stock_quantity = stock_quantity - ?, updated_at = ?
+             WHERE id = ? AND deleted_at IS NULL AND stock_quantity >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ProductStockBatchUpdate(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 라인 순서대로 차감하고, 라인별 반영 행 수(0 또는 1)를 반환한다.
+     */
+    int[] decrease(List<StockDeduction> deductions) {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.batchUpdate(DECREASE_SQL, deductions, deductions.size(), (ps, deduction) -> {
+            ps.setInt(1, deduction.quantity());
+            ps.setObject(2, now);
+            ps.setLong(3, deduction.productId());
+            ps.setInt(4, deduction.quantity());
+        })[0];
+    }
+}
@@ -0,0 +1,119 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.application.product.HotProductStockGate;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.model.product.StockDeduction;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Redis 카운터 기반 재고 게이트.
+ * 상품별 키(stock:gate:{productId})가 있을 때만 게이트가 열린 것으로 본다.
+ * 검사와 차감을 Lua 스크립트 하나로 실행하므로 여러 라인을 원자적으로 선점한다.
+ */
+@Component
+public class RedisHotProductStockGate implements HotProductStockGate {
+
+    private static final String KEY_PREFIX = "stock:gate:";
+
+    private static final RedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS
+            local soldOut = {}
+            for i = 1, n do
+                local remaining = redis.call('GET', KEYS[i])
+                if remaining and tonumber(remaining) < tonumber(ARGV[i]) then
+                    table.insert(soldOut, ARGV[n + i])
+                end
+            end
+            if #soldOut > 0 then
+                return soldOut
+            end
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('DECRBY', KEYS[i], ARGV[i])
+                end
+            end
+            return soldOut
+            """, List.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('INCRBY', KEYS[i], ARGV[i])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisHotProductStockGate(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> tryAcquire(List<StockDeduction> deductions) {
+        Map<Long, Integer> quantities = sumByProduct(deductions);
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            keys.add(key(productId));
+            args.add(String.valueOf(quantity));
+        });
+        quantities.keySet().forEach(productId -> args.add(String.valueOf(productId)));
+
+        List<Object> soldOut = redisTemplate.execute(ACQUIRE_SCRIPT, keys, args.toArray());
+        if (soldOut == null) {
+            return List.of();
+        }
+        return soldOut.stream()
+                .map(productId -> Long.valueOf(String.valueOf(productId)))
+                .toList();
+    }
+
+    @Override
+    public void release(List<StockDeduction> deductions) {
+        Map<Long, Integer> quantities = sumByProduct(deductions);
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            keys.add(key(productId));
+            args.add(String.valueOf(quantity));
+        });
+        redisTemplate.execute(RELEASE_SCRIPT, keys, args.toArray());
+    }
+
+    @Override
+    public void open(Long productId, int stock) {
+        redisTemplate.opsForValue().set(key(productId), String.valueOf(stock));
+    }
+
+    @Override
+    public void refresh(Long productId, int stock) {
+        redisTemplate.opsForValue().setIfPresent(key(productId), String.valueOf(stock));
+    }
+
+    @Override
+    public void close(Long productId) {
+        redisTemplate.delete(key(productId));
+    }
+
+    private Map<Long, Integer> sumByProduct(List<StockDeduction> deductions) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        deductions.forEach(deduction -> quantities.merge(deduction.productId(), deduction.quantity(), Integer::sum));
+        return quantities;
+    }
+
+    private String key(Long productId) {
+        return KEY_PREFIX + productId;
+    }
+}
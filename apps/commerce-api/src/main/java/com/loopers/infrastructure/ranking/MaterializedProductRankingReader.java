@@ -0,0 +1,68 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.application.ranking.ProductRankingReader.RankedProduct;
+import com.loopers.application.ranking.RankingWindow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * commerce-batch productRankingJob 이 적재한 주간/월간 순위(mv_product_rank_*)를 읽는다.
+ * 순위가 미리 매겨져 있으므로 모든 조회가 (period_start, ranking) 또는 (period_start, product_id) 인덱스 한 번으로 끝난다.
+ * 주간은 at 이 속한 주의 월요일, 월간은 1일을 period_start 로 사용한다.
+ */
+@Component
+class MaterializedProductRankingReader {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    MaterializedProductRankingReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    List<RankedProduct> findTop(RankingWindow window, LocalDateTime at, long offset, int size) {
+        return jdbcTemplate.query(
+                "SELECT product_id, ranking, score FROM " + table(window)
+                        + " WHERE period_start = ? AND ranking BETWEEN ? AND ? ORDER BY ranking",
+                (rs, rowNum) -> new RankedProduct(
+                        rs.getLong("product_id"), rs.getLong("ranking"), rs.getDouble("score")),
+                periodStart(window, at), offset + 1, offset + size);
+    }
+
+    long count(RankingWindow window, LocalDateTime at) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(ranking), 0) FROM " + table(window) + " WHERE period_start = ?",
+                Long.class, periodStart(window, at));
+        return count != null ? count : 0;
+    }
+
+    Optional<Long> findRank(RankingWindow window, LocalDateTime at, Long productId) {
+        List<Long> ranks = jdbcTemplate.queryForList(
+                "SELECT ranking FROM " + table(window) + " WHERE period_start = ? AND product_id = ? AND ranking IS NOT NULL",
+                Long.class, periodStart(window, at), productId);
+        return ranks.stream().findFirst();
+    }
+
+    private String table(RankingWindow window) {
+        return switch (window) {
+            case WEEKLY -> "mv_product_rank_weekly";
+            case MONTHLY -> "mv_product_rank_monthly";
+            default -> throw new IllegalArgumentException("기간 테이블로 제공하지 않는 랭킹 기간입니다: " + window);
+        };
+    }
+
+    private Date periodStart(RankingWindow window, LocalDateTime at) {
+        LocalDate date = at.toLocalDate();
+        LocalDate start = window == RankingWindow.WEEKLY
+                ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : date.withDayOfMonth(1);
+        return Date.valueOf(start);
+    }
+}
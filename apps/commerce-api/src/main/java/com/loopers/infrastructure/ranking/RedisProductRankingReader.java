@@ -0,0 +1,64 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.application.ranking.ProductRankingReader.RankedProduct;
+import com.loopers.application.ranking.RankingWindow;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * commerce-streamer 가 갱신하는 랭킹 ZSET 을 읽는다. 읽기 전용이므로 replica 우선 템플릿을 사용한다.
+ * 키 형식은 streamer 의 RankingKeys 와 같다. (ranking:all:daily:{yyyyMMdd}, ranking:all:hourly:{yyyyMMddHH})
+ */
+@Component
+class RedisProductRankingReader {
+
+    private static final DateTimeFormatter DAILY = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter HOURLY = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    RedisProductRankingReader(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    List<RankedProduct> findTop(RankingWindow window, LocalDateTime at, long offset, int size) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(key(window, at), offset, offset + size - 1);
+        if (tuples == null) {
+            return List.of();
+        }
+        List<RankedProduct> ranked = new ArrayList<>(tuples.size());
+        long rank = offset + 1;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            double score = tuple.getScore() != null ? tuple.getScore() : 0;
+            ranked.add(new RankedProduct(Long.valueOf(tuple.getValue()), rank++, score));
+        }
+        return ranked;
+    }
+
+    long count(RankingWindow window, LocalDateTime at) {
+        Long size = redisTemplate.opsForZSet().zCard(key(window, at));
+        return size != null ? size : 0;
+    }
+
+    Optional<Long> findRank(RankingWindow window, LocalDateTime at, Long productId) {
+        Long rank = redisTemplate.opsForZSet().reverseRank(key(window, at), String.valueOf(productId));
+        return Optional.ofNullable(rank).map(r -> r + 1);
+    }
+
+    private String key(RankingWindow window, LocalDateTime at) {
+        return switch (window) {
+            case HOURLY -> "ranking:all:hourly:" + HOURLY.format(at);
+            case DAILY -> "ranking:all:daily:" + DAILY.format(at);
+            default -> throw new IllegalArgumentException("ZSET 으로 제공하지 않는 랭킹 기간입니다: " + window);
+        };
+    }
+}
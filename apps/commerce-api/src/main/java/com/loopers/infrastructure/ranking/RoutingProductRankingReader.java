@@ -0,0 +1,51 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.application.ranking.ProductRankingReader;
+import com.loopers.application.ranking.RankingWindow;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 랭킹 기간별 저장소를 고른다. 시간/일간은 streamer 가 실시간으로 갱신하는 ZSET,
+ * 주간/월간은 배치가 하루 한 번 적재하는 기간 테이블에서 읽는다.
+ */
+@Component
+public class RoutingProductRankingReader implements ProductRankingReader {
+
+    private final RedisProductRankingReader redisReader;
+    private final MaterializedProductRankingReader materializedReader;
+
+    RoutingProductRankingReader(RedisProductRankingReader redisReader,
+                                MaterializedProductRankingReader materializedReader) {
+        this.redisReader = redisReader;
+        this.materializedReader = materializedReader;
+    }
+
+    @Override
+    public List<RankedProduct> findTop(RankingWindow window, LocalDateTime at, long offset, int size) {
+        return isRealtime(window)
+                ? redisReader.findTop(window, at, offset, size)
+                : materializedReader.findTop(window, at, offset, size);
+    }
+
+    @Override
+    public long count(RankingWindow window, LocalDateTime at) {
+        return isRealtime(window)
+                ? redisReader.count(window, at)
+                : materializedReader.count(window, at);
+    }
+
+    @Override
+    public Optional<Long> findRank(RankingWindow window, LocalDateTime at, Long productId) {
+        return isRealtime(window)
+                ? redisReader.findRank(window, at, productId)
+                : materializedReader.findRank(window, at, productId);
+    }
+
+    private boolean isRealtime(RankingWindow window) {
+        return window == RankingWindow.HOURLY || window == RankingWindow.DAILY;
+    }
+}
@@ -0,0 +1,130 @@
+package com.loopers.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.application.user.AuthenticatedPrincipalCache;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.model.user.UserId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별로 마지막에 검증된 자격 증명의 HMAC-SHA256(loginId, 비밀번호)을 Pod 로컬 Caffeine 에 보관한다.
+ * HMAC 키는 Pod 기동 시 무작위로 만들고 메모리에만 두므로, 캐시 내용만으로는 비밀번호를 역산할 수 없다.
+ * <p>
+ * 비밀번호 변경 시 자기 Pod 은 즉시 비우고, 다른 Pod 에는 Redis Pub/Sub(auth:principal:invalidate)으로 userId 를 전파한다.
+ * 메시지가 유실되더라도 TTL 이 지나면 다시 DB 로 검증하므로, TTL 이 이전 비밀번호를 허용하는 최대 시간이다.
+ * 적중률은 cache.gets{cache=authPrincipal, result=hit|miss} 로 확인한다.
+ */
+@Component
+public class CaffeineAuthenticatedPrincipalCache implements AuthenticatedPrincipalCache, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CaffeineAuthenticatedPrincipalCache.class);
+
+    static final String CHANNEL = "auth:principal:invalidate";
+    private static final String CACHE_NAME = "authPrincipal";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Cache<String, byte[]> principals;
+    private final AtomicLong generation = new AtomicLong();
+    private final SecretKeySpec hmacKey;
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public CaffeineAuthenticatedPrincipalCache(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+                                               RedisMessageListenerContainer listenerContainer,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${auth.principal-cache.ttl:30s}") Duration ttl,
+                                               @Value("${auth.principal-cache.maximum-size:100000}") long maximumSize) {
+        this.redisTemplate = redisTemplate;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.hmacKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, CACHE_NAME);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @Override
+    public boolean contains(UserId userId, String rawPassword) {
+        byte[] remembered = principals.getIfPresent(userId.getValue());
+        return remembered != null && MessageDigest.isEqual(remembered, credentialHash(userId, rawPassword));
+    }
+
+    @Override
+    public void put(UserId userId, String rawPassword, long expectedGeneration) {
+        if (generation.get() != expectedGeneration) {
+            return;
+        }
+        principals.put(userId.getValue(), credentialHash(userId, rawPassword));
+        // 기록하는 사이에 무효화가 끼어들었으면 방금 넣은 값도 지운다
+        if (generation.get() != expectedGeneration) {
+            principals.invalidate(userId.getValue());
+        }
+    }
+
+    @Override
+    public void invalidate(UserId userId) {
+        invalidateLocal(userId.getValue());
+        try {
+            redisTemplate.convertAndSend(CHANNEL, userId.getValue());
+        } catch (RuntimeException e) {
+            log.warn("인증 캐시 무효화 전파 실패 - userId: {}, error: {}", userId.getValue(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidateLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void invalidateLocal(String userId) {
+        generation.incrementAndGet();
+        principals.invalidate(userId);
+    }
+
+    private byte[] credentialHash(UserId userId, String rawPassword) {
+        Mac mac = macs.get();
+        mac.update(userId.getValue().getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        return mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 을 초기화하지 못했습니다.", e);
+        }
+    }
+}
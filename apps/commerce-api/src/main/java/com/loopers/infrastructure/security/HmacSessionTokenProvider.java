@@ -0,0 +1,91 @@
+package com.loopers.infrastructure.security;
+
+import com.loopers.application.user.SessionTokenProvider;
+import com.loopers.domain.model.user.UserId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 토큰 형식: {@code base64url(loginId|expiresAtEpochSecond|revocationEpoch).base64url(HMAC-SHA256)}
+ * 서명 키(auth.session.secret)는 모든 Pod 이 같은 값을 써야 하며, 바꾸면 기존 토큰은 모두 무효가 된다.
+ */
+@Component
+public class HmacSessionTokenProvider implements SessionTokenProvider {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final int MAX_TOKEN_LENGTH = 256;
+    private static final char SEPARATOR = '.';
+    private static final String FIELD_DELIMITER = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec hmacKey;
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    public HmacSessionTokenProvider(@Value("${auth.session.secret}") String secret) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("auth.session.secret 은 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다.");
+        }
+        this.hmacKey = new SecretKeySpec(secretBytes, HMAC_ALGORITHM);
+    }
+
+    @Override
+    public String issue(SessionClaims claims) {
+        String payload = claims.userId().getValue() + FIELD_DELIMITER
+                + claims.expiresAtEpochSecond() + FIELD_DELIMITER
+                + claims.revocationEpoch();
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encodedPayload + SEPARATOR + ENCODER.encodeToString(sign(encodedPayload));
+    }
+
+    @Override
+    public Optional<SessionClaims> verify(String token) {
+        if (token == null || token.length() > MAX_TOKEN_LENGTH) {
+            return Optional.empty();
+        }
+        int separatorIndex = token.indexOf(SEPARATOR);
+        if (separatorIndex <= 0) {
+            return Optional.empty();
+        }
+        String encodedPayload = token.substring(0, separatorIndex);
+        try {
+            byte[] signature = DECODER.decode(token.substring(separatorIndex + 1));
+            if (!MessageDigest.isEqual(signature, sign(encodedPayload))) {
+                return Optional.empty();
+            }
+            String[] fields = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8)
+                    .split("\\" + FIELD_DELIMITER);
+            if (fields.length != 3) {
+                return Optional.empty();
+            }
+            return Optional.of(new SessionClaims(
+                    UserId.of(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2])));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        return macs.get().doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 을 초기화하지 못했습니다.", e);
+        }
+    }
+}
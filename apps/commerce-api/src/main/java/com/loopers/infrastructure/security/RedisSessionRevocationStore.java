@@ -0,0 +1,106 @@
+package com.loopers.infrastructure.security;
+
+import com.loopers.application.user.SessionRevocationStore;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.model.user.UserId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기 세대는 Redis Hash(auth:session:revoked, userId → epoch)에 두고, 각 Pod 은 메모리에 사본을 들고 검증한다.
+ * 폐기한 적 있는 유저만 들어가므로 Hash 는 작게 유지된다.
+ * 폐기 시 Pub/Sub(auth:session:revoke)으로 다른 Pod 의 사본을 바로 올리고, 메시지 유실에 대비해 주기적으로 Hash 전체를 다시 읽는다.
+ * 메시지 형식: {@code userId|epoch}
+ */
+@Component
+public class RedisSessionRevocationStore implements SessionRevocationStore, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisSessionRevocationStore.class);
+
+    static final String KEY = "auth:session:revoked";
+    static final String CHANNEL = "auth:session:revoke";
+    private static final String DELIMITER = "|";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<String, Long> epochs = new ConcurrentHashMap<>();
+
+    public RedisSessionRevocationStore(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+                                       RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        reload();
+    }
+
+    @Override
+    public long currentEpoch(UserId userId) {
+        return epochs.getOrDefault(userId.getValue(), 0L);
+    }
+
+    /**
+     * Hash 에서 직접 읽어 사본도 함께 올린다. Redis 를 읽지 못하면 사본의 세대를 쓴다.
+     */
+    @Override
+    public long loadEpoch(UserId userId) {
+        String id = userId.getValue();
+        try {
+            Object epoch = redisTemplate.opsForHash().get(KEY, id);
+            if (epoch != null) {
+                apply(id, Long.parseLong(String.valueOf(epoch)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("세션 폐기 세대 조회 실패, 메모리 사본 사용 - userId: {}, error: {}", id, e.getMessage());
+        }
+        return currentEpoch(userId);
+    }
+
+    @Override
+    public void revoke(UserId userId) {
+        String id = userId.getValue();
+        try {
+            Long epoch = redisTemplate.opsForHash().increment(KEY, id, 1);
+            apply(id, epoch);
+            redisTemplate.convertAndSend(CHANNEL, id + DELIMITER + epoch);
+        } catch (RuntimeException e) {
+            // 최소한 이 Pod 에서는 기존 토큰을 거절한다
+            epochs.merge(id, 1L, Long::sum);
+            log.warn("세션 폐기 기록 실패 - userId: {}, error: {}", id, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + DELIMITER, 2);
+        try {
+            apply(parts[0], Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 세션 폐기 메시지 - message: {}", body);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.session.revocation-reload-ms:30000}", initialDelayString = "${auth.session.revocation-reload-ms:30000}")
+    public void reload() {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEY);
+            entries.forEach((userId, epoch) -> apply(String.valueOf(userId), Long.parseLong(String.valueOf(epoch))));
+        } catch (RuntimeException e) {
+            log.warn("세션 폐기 세대 로드 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    private void apply(String userId, long epoch) {
+        epochs.merge(userId, epoch, Math::max);
+    }
+}
@@ -3,48 +3,160 @@ package com.loopers.infrastructure.security;
 import com.loopers.domain.service.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Base64;
 
+/**
+ * 저장 형식: {@code base64(salt):base64(SHA-256(UTF-8(rawPassword + base64(salt))))}
+ * matches 는 스레드별 MessageDigest 와 버퍼를 재사용해 문자열 결합, Base64 인코딩, 배열 할당 없이 바이트로 비교한다.
+ * 저장된 해시는 버퍼로 직접 디코딩하고 MessageDigest.isEqual 로 상수 시간 비교한다.
+ */
 @Component
 public class Sha256PasswordEncoder implements PasswordEncoder {
 
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BYTES = 32;
+    private static final int ENCODED_HASH_LENGTH = 44;
+    private static final char SEPARATOR = ':';
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int[] BASE64_VALUES = base64Values();
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
     @Override
     public String encrypt(String rawPassword) {
         String salt = generateSalt();
-        String hashed = sha256(rawPassword + salt);
-        return salt + ":" + hashed;
+        Scratch scratch = SCRATCH.get();
+        scratch.hash(rawPassword, salt, 0, salt.length());
+        return salt + SEPARATOR + Base64.getEncoder().encodeToString(scratch.computed);
     }
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        String[] parts = encodedPassword.split(":");
-        if (parts.length != 2) {
+        int separatorIndex = encodedPassword.indexOf(SEPARATOR);
+        if (separatorIndex <= 0 || encodedPassword.indexOf(SEPARATOR, separatorIndex + 1) >= 0) {
             return false;
         }
-        String salt = parts[0];
-        String storedHash = parts[1];
-        String inputHash = sha256(rawPassword + salt);
-        return storedHash.equals(inputHash);
+        Scratch scratch = SCRATCH.get();
+        if (!decodeHash(encodedPassword, separatorIndex + 1, scratch.stored)) {
+            return false;
+        }
+        scratch.hash(rawPassword, encodedPassword, 0, separatorIndex);
+        return MessageDigest.isEqual(scratch.computed, scratch.stored);
     }
 
     private String generateSalt() {
-        SecureRandom random = new SecureRandom();
-        byte[] saltBytes = new byte[16];
-        random.nextBytes(saltBytes);
+        byte[] saltBytes = new byte[SALT_BYTES];
+        RANDOM.nextBytes(saltBytes);
         return Base64.getEncoder().encodeToString(saltBytes);
     }
 
-    private String sha256(String input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 을 찾지 못했습니다.", e);
+    /**
+     * 32바이트 해시의 Base64(패딩 포함 44자)를 target 에 디코딩한다. 형식이 다르면 false.
+     */
+    private static boolean decodeHash(String encoded, int from, byte[] target) {
+        if (encoded.length() - from != ENCODED_HASH_LENGTH || encoded.charAt(encoded.length() - 1) != '=') {
+            return false;
+        }
+        int bits = 0;
+        int bitCount = 0;
+        int written = 0;
+        for (int i = from; i < encoded.length() - 1; i++) {
+            char c = encoded.charAt(i);
+            int value = c < BASE64_VALUES.length ? BASE64_VALUES[c] : -1;
+            if (value < 0) {
+                return false;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                target[written++] = (byte) (bits >> bitCount);
+            }
+        }
+        return written == HASH_BYTES;
+    }
+
+    private static int[] base64Values() {
+        int[] values = new int[128];
+        Arrays.fill(values, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            values[alphabet.charAt(i)] = i;
+        }
+        return values;
+    }
+
+    /**
+     * 스레드별 MessageDigest 와 입력/결과 버퍼.
+     */
+    private static final class Scratch {
+
+        private final MessageDigest digest;
+        private final byte[] computed = new byte[HASH_BYTES];
+        private final byte[] stored = new byte[HASH_BYTES];
+        private byte[] input = new byte[128];
+
+        private Scratch() {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException("SHA-256 을 찾지 못했습니다.", e);
+            }
+        }
+
+        /**
+         * UTF-8(rawPassword + salt[saltFrom, saltTo)) 의 해시를 computed 에 쓴다.
+         * 버퍼는 스레드가 살아 있는 동안 재사용되므로, 평문 비밀번호 바이트가 남지 않도록 계산 후 지운다.
+         */
+        private void hash(String rawPassword, String salt, int saltFrom, int saltTo) {
+            // UTF-8 은 char 하나당 최대 3바이트 (서로게이트 쌍은 두 char 에 4바이트)
+            int maxLength = (rawPassword.length() + saltTo - saltFrom) * 3;
+            if (input.length < maxLength) {
+                input = new byte[maxLength];
+            }
+            int length = 0;
+            try {
+                length = writeUtf8(rawPassword, 0, rawPassword.length(), 0);
+                length = writeUtf8(salt, saltFrom, saltTo, length);
+                digest.update(input, 0, length);
+                digest.digest(computed, 0, HASH_BYTES);
+            } catch (DigestException e) {
+                throw new IllegalStateException("SHA-256 계산 실패", e);
+            } finally {
+                Arrays.fill(input, 0, length, (byte) 0);
+            }
+        }
+
+        private int writeUtf8(String value, int from, int to, int offset) {
+            int position = offset;
+            for (int i = from; i < to; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    input[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    input[position++] = (byte) (0xC0 | (c >> 6));
+                    input[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    input[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    input[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    input[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    input[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // 짝이 없는 서로게이트는 String.getBytes(UTF_8) 와 같이 '?' 로 대체한다
+                    input[position++] = (byte) '?';
+                } else {
+                    input[position++] = (byte) (0xE0 | (c >> 12));
+                    input[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    input[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            return position;
         }
     }
 }
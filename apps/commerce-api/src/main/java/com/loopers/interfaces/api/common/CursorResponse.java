@@ -0,0 +1,21 @@
+package com.loopers.interfaces.api.common;
+
+import com.loopers.domain.model.common.CursorResult;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T, R> CursorResponse<R> from(CursorResult<T> cursorResult, Function<T, R> mapper) {
+        List<R> content = cursorResult.content().stream()
+                .map(mapper)
+                .toList();
+        return new CursorResponse<>(content, cursorResult.size(),
+                cursorResult.nextCursor(), cursorResult.hasNext());
+    }
+}
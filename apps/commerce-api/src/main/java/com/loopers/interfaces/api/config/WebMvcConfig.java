@@ -25,7 +25,8 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .addPathPatterns("/api/v1/users/*/likes")
                 .addPathPatterns("/api/v1/products/*/likes")
                 .addPathPatterns("/api/v1/orders", "/api/v1/orders/**")
-                .addPathPatterns("/api/v1/coupons/*/issue");
+                .addPathPatterns("/api/v1/coupons/*/issue", "/api/v1/coupons/*/issue-status")
+                .addPathPatterns("/api/v1/coupons/*/issue-requests/**");
 
         registry.addInterceptor(adminAuthenticationInterceptor)
                 .addPathPatterns("/api-admin/v1/**");
@@ -5,17 +5,26 @@ import com.loopers.application.coupon.RequestCouponIssueUseCase;
 import com.loopers.domain.model.user.UserId;
 import com.loopers.interfaces.api.coupon.dto.UserCouponResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1")
 public class CouponController {
 
+    private static final Logger log = LoggerFactory.getLogger(CouponController.class);
+    private static final long ISSUE_RESULT_TIMEOUT_MS = 30_000;
+
     private final RequestCouponIssueUseCase requestCouponIssueUseCase;
     private final CouponQueryUseCase couponQueryUseCase;
 
@@ -42,6 +51,29 @@ public class CouponController {
         return ResponseEntity.ok(Map.of("status", status));
     }
 
+    /**
+     * 발급 요청 결과를 SSE 로 한 번 전달하고 연결을 닫는다. (event: issue-result, data: {"requestId", "status"})
+     * 제한 시간 안에 결과 알림이 없으면 DB 상태를 한 번 읽어 전달한다. PENDING 이면 다시 연결하면 된다.
+     */
+    @GetMapping(value = "/coupons/{couponId}/issue-requests/{requestId}/result", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIssueResult(HttpServletRequest request,
+                                        @PathVariable Long couponId,
+                                        @PathVariable Long requestId) {
+        UserId userId = (UserId) request.getAttribute("authenticatedUserId");
+        CompletableFuture<String> result = requestCouponIssueUseCase.awaitIssueResult(userId, couponId, requestId);
+
+        SseEmitter emitter = new SseEmitter(ISSUE_RESULT_TIMEOUT_MS);
+        emitter.onTimeout(() -> {
+            if (result.cancel(false)) {
+                sendIssueResult(emitter, requestId, requestCouponIssueUseCase.getIssueStatus(userId, couponId));
+            }
+        });
+        emitter.onCompletion(() -> result.cancel(false));
+        emitter.onError(error -> result.cancel(false));
+        result.thenAccept(status -> sendIssueResult(emitter, requestId, status));
+        return emitter;
+    }
+
     @GetMapping("/users/me/coupons")
     public ResponseEntity<List<UserCouponResponse>> getMyCoupons(HttpServletRequest request) {
         UserId userId = (UserId) request.getAttribute("authenticatedUserId");
@@ -50,4 +82,16 @@ public class CouponController {
                 .toList();
         return ResponseEntity.ok(coupons);
     }
+
+    private void sendIssueResult(SseEmitter emitter, Long requestId, String status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("issue-result")
+                    .data(Map.of("requestId", requestId, "status", status), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("쿠폰 발급 결과 전달 실패 - requestId: {}, error: {}", requestId, e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
 }
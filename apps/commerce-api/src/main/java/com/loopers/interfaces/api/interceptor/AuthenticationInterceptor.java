@@ -1,25 +1,47 @@
 package com.loopers.interfaces.api.interceptor;
 
 import com.loopers.application.user.AuthenticationUseCase;
+import com.loopers.application.user.SessionAuthenticationUseCase;
 import com.loopers.domain.model.user.UserId;
 import com.loopers.support.error.ErrorType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/**
+ * {@code Authorization: Bearer <세션 토큰>} 이 있으면 토큰으로, 없으면 X-Loopers-LoginId/LoginPw 헤더로 인증한다.
+ */
 @Component
 public class AuthenticationInterceptor implements HandlerInterceptor {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthenticationUseCase authenticationUseCase;
+    private final SessionAuthenticationUseCase sessionAuthenticationUseCase;
 
-    public AuthenticationInterceptor(AuthenticationUseCase authenticationUseCase) {
+    public AuthenticationInterceptor(AuthenticationUseCase authenticationUseCase,
+                                     SessionAuthenticationUseCase sessionAuthenticationUseCase) {
         this.authenticationUseCase = authenticationUseCase;
+        this.sessionAuthenticationUseCase = sessionAuthenticationUseCase;
     }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            try {
+                UserId userId = sessionAuthenticationUseCase.authenticate(authorization.substring(BEARER_PREFIX.length()));
+                request.setAttribute("authenticatedUserId", userId);
+                return true;
+            } catch (IllegalArgumentException e) {
+                sendUnauthorizedResponse(response);
+                return false;
+            }
+        }
+
         String loginId = request.getHeader("X-Loopers-LoginId");
         String loginPw = request.getHeader("X-Loopers-LoginPw");
 
@@ -1,32 +1,99 @@
 package com.loopers.interfaces.api.order;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.order.OrderQueryUseCase;
+import com.loopers.application.order.OrderSearchCondition;
+import com.loopers.domain.model.common.PageResult;
+import com.loopers.interfaces.api.common.PageResponse;
 import com.loopers.interfaces.api.order.dto.OrderDetailResponse;
+import com.loopers.interfaces.api.order.dto.OrderExportResponse;
 import com.loopers.interfaces.api.order.dto.OrderSummaryResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api-admin/v1/orders")
 public class OrderAdminController {
 
+    private static final Logger log = LoggerFactory.getLogger(OrderAdminController.class);
+
     private final OrderQueryUseCase orderQueryUseCase;
+    private final ObjectMapper objectMapper;
 
-    public OrderAdminController(OrderQueryUseCase orderQueryUseCase) {
+    public OrderAdminController(OrderQueryUseCase orderQueryUseCase, ObjectMapper objectMapper) {
         this.orderQueryUseCase = orderQueryUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    public ResponseEntity<List<OrderSummaryResponse>> getAllOrders() {
-        List<OrderSummaryResponse> orders = orderQueryUseCase.getAllOrders().stream()
-                .map(OrderSummaryResponse::from)
-                .toList();
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<PageResponse<OrderSummaryResponse>> getAllOrders(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startAt,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endAt,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        PageResult<OrderQueryUseCase.OrderSummary> orders = orderQueryUseCase.getAllOrders(
+                OrderSearchCondition.of(status, startAt, endAt), page, size);
+        return ResponseEntity.ok(PageResponse.from(orders, OrderSummaryResponse::from));
+    }
+
+    /**
+     * 조건에 맞는 주문 전체를 NDJSON(기본) 또는 CSV 로 내려준다.
+     * 조회한 행을 바로 응답 스트림에 쓰므로 주문 건수와 무관하게 메모리 사용량이 일정하다.
+     * 조건 검증은 응답 헤더를 쓰기 전에 끝내, 잘못된 요청은 일반 오류 응답으로 돌려준다.
+     * 내보내는 도중 클라이언트 연결이 끊기면 이미 응답이 커밋된 뒤이므로 오류 응답을 만들지 않고 조용히 끝낸다.
+     */
+    @GetMapping("/export")
+    public void exportOrders(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startAt,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endAt,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        OrderSearchCondition condition = OrderSearchCondition.of(status, startAt, endAt);
+        OrderExportFormat exportFormat = OrderExportFormat.from(format);
+
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(exportFormat.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("orders." + exportFormat.extension())
+                .build()
+                .toString());
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        try {
+            exportFormat.writeHeader(writer);
+            orderQueryUseCase.exportOrders(condition, row -> {
+                try {
+                    exportFormat.writeRow(writer, objectMapper, OrderExportResponse.from(row));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        } catch (UncheckedIOException e) {
+            log.info("관리자 주문 내보내기 중단 (클라이언트 연결 끊김): {}", e.getCause().getMessage());
+        } catch (IOException e) {
+            log.info("관리자 주문 내보내기 중단 (클라이언트 연결 끊김): {}", e.getMessage());
+        }
     }
 
     @GetMapping("/{orderId}")
@@ -1,7 +1,9 @@
 package com.loopers.interfaces.api.order;
 
 import com.loopers.application.order.*;
+import com.loopers.domain.model.common.CursorResult;
 import com.loopers.domain.model.user.UserId;
+import com.loopers.interfaces.api.common.CursorResponse;
 import com.loopers.interfaces.api.order.dto.DeliveryAddressUpdateRequest;
 import com.loopers.interfaces.api.order.dto.OrderCreateRequest;
 import com.loopers.interfaces.api.order.dto.OrderDetailResponse;
@@ -61,6 +63,22 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * 커서(keyset) 기반 내 주문 목록 조회. 첫 페이지는 cursor 없이 호출하고, 응답의 nextCursor 로 다음 페이지를 조회한다.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<OrderSummaryResponse>> getMyOrdersByCursor(
+            HttpServletRequest request,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startAt,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endAt,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        UserId userId = (UserId) request.getAttribute("authenticatedUserId");
+        CursorResult<OrderQueryUseCase.OrderSummary> summaries =
+                orderQueryUseCase.getMyOrdersByCursor(userId, startAt, endAt, cursor, size);
+        return ResponseEntity.ok(CursorResponse.from(summaries, OrderSummaryResponse::from));
+    }
+
     @GetMapping("/{orderId}")
     public ResponseEntity<OrderDetailResponse> getOrder(HttpServletRequest request,
                                                         @PathVariable Long orderId) {
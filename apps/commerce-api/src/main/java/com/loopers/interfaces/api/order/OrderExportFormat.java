@@ -0,0 +1,87 @@
+package com.loopers.interfaces.api.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.interfaces.api.order.dto.OrderExportResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 관리자 주문 내보내기 형식. 한 행을 받는 즉시 한 줄로 쓰며, 이전 행을 기억하지 않는다.
+ */
+enum OrderExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        void writeHeader(Writer writer) {
+        }
+
+        @Override
+        void writeRow(Writer writer, ObjectMapper objectMapper, OrderExportResponse row) throws IOException {
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+    },
+
+    CSV("text/csv", "csv") {
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write("id,userId,status,paymentMethod,totalAmount,discountAmount,paymentAmount,createdAt\n");
+        }
+
+        @Override
+        void writeRow(Writer writer, ObjectMapper objectMapper, OrderExportResponse row) throws IOException {
+            writer.write(String.join(",",
+                    String.valueOf(row.id()),
+                    escape(row.userId()),
+                    escape(row.status()),
+                    escape(row.paymentMethod()),
+                    String.valueOf(row.totalAmount()),
+                    String.valueOf(row.discountAmount()),
+                    String.valueOf(row.paymentAmount()),
+                    String.valueOf(row.createdAt())));
+            writer.write('\n');
+        }
+
+        private String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+            return value;
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    OrderExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    static OrderExportFormat from(String format) {
+        for (OrderExportFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new CoreException(ErrorType.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다: " + format);
+    }
+
+    String contentType() {
+        return contentType;
+    }
+
+    String extension() {
+        return extension;
+    }
+
+    abstract void writeHeader(Writer writer) throws IOException;
+
+    abstract void writeRow(Writer writer, ObjectMapper objectMapper, OrderExportResponse row) throws IOException;
+}
@@ -0,0 +1,29 @@
+package com.loopers.interfaces.api.order.dto;
+
+import com.loopers.application.order.OrderQueryUseCase;
+
+import java.time.LocalDateTime;
+
+public record OrderExportResponse(
+        Long id,
+        String userId,
+        String status,
+        String paymentMethod,
+        int totalAmount,
+        int discountAmount,
+        int paymentAmount,
+        LocalDateTime createdAt
+) {
+    public static OrderExportResponse from(OrderQueryUseCase.OrderExportRow row) {
+        return new OrderExportResponse(
+                row.id(),
+                row.userId(),
+                row.status(),
+                row.paymentMethod(),
+                row.totalAmount(),
+                row.discountAmount(),
+                row.paymentAmount(),
+                row.createdAt()
+        );
+    }
+}
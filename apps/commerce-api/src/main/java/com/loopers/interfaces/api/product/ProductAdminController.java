@@ -3,6 +3,7 @@ package com.loopers.interfaces.api.product;
 import com.loopers.application.product.CreateProductUseCase;
 import com.loopers.application.product.DeleteProductUseCase;
 import com.loopers.application.product.ProductQueryUseCase;
+import com.loopers.application.product.StockGateUseCase;
 import com.loopers.application.product.UpdateProductUseCase;
 import com.loopers.interfaces.api.common.PageResponse;
 import com.loopers.interfaces.api.product.dto.ProductCreateRequest;
@@ -22,15 +23,18 @@ public class ProductAdminController {
     private final UpdateProductUseCase updateProductUseCase;
     private final DeleteProductUseCase deleteProductUseCase;
     private final ProductQueryUseCase productQueryUseCase;
+    private final StockGateUseCase stockGateUseCase;
 
     public ProductAdminController(CreateProductUseCase createProductUseCase,
                                   UpdateProductUseCase updateProductUseCase,
                                   DeleteProductUseCase deleteProductUseCase,
-                                  ProductQueryUseCase productQueryUseCase) {
+                                  ProductQueryUseCase productQueryUseCase,
+                                  StockGateUseCase stockGateUseCase) {
         this.createProductUseCase = createProductUseCase;
         this.updateProductUseCase = updateProductUseCase;
         this.deleteProductUseCase = deleteProductUseCase;
         this.productQueryUseCase = productQueryUseCase;
+        this.stockGateUseCase = stockGateUseCase;
     }
 
     @GetMapping
@@ -67,4 +71,16 @@ public class ProductAdminController {
         ProductQueryUseCase.ProductDetailInfo info = productQueryUseCase.getProduct(productId);
         return ResponseEntity.ok(ProductDetailResponse.from(info));
     }
+
+    @PostMapping("/{productId}/stock-gate")
+    public ResponseEntity<Void> openStockGate(@PathVariable Long productId) {
+        stockGateUseCase.openStockGate(productId);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/{productId}/stock-gate")
+    public ResponseEntity<Void> closeStockGate(@PathVariable Long productId) {
+        stockGateUseCase.closeStockGate(productId);
+        return ResponseEntity.ok().build();
+    }
 }
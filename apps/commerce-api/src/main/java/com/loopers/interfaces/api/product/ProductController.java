@@ -1,9 +1,13 @@
 package com.loopers.interfaces.api.product;
 
 import com.loopers.application.product.ProductQueryUseCase;
+import com.loopers.application.product.ProductViewCounter;
+import com.loopers.application.ranking.RankingUseCase;
+import com.loopers.interfaces.api.common.CursorResponse;
 import com.loopers.interfaces.api.common.PageResponse;
 import com.loopers.interfaces.api.product.dto.ProductDetailResponse;
 import com.loopers.interfaces.api.product.dto.ProductSummaryResponse;
+import com.loopers.domain.model.common.CursorResult;
 import com.loopers.domain.model.common.PageResult;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,9 +17,14 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
 
     private final ProductQueryUseCase productQueryUseCase;
+    private final RankingUseCase rankingUseCase;
+    private final ProductViewCounter productViewCounter;
 
-    public ProductController(ProductQueryUseCase productQueryUseCase) {
+    public ProductController(ProductQueryUseCase productQueryUseCase, RankingUseCase rankingUseCase,
+                             ProductViewCounter productViewCounter) {
         this.productQueryUseCase = productQueryUseCase;
+        this.rankingUseCase = rankingUseCase;
+        this.productViewCounter = productViewCounter;
     }
 
     @GetMapping
@@ -29,9 +38,28 @@ public class ProductController {
         return ResponseEntity.ok(PageResponse.from(products, ProductSummaryResponse::from));
     }
 
+    /**
+     * 커서(keyset) 기반 목록 조회. 첫 페이지는 cursor 없이 호출하고, 응답의 nextCursor 로 다음 페이지를 조회한다.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<ProductSummaryResponse>> getProductsByCursor(
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorResult<ProductQueryUseCase.ProductSummaryInfo> products =
+                productQueryUseCase.getProductsByCursor(brandId, sort, cursor, size);
+        return ResponseEntity.ok(CursorResponse.from(products, ProductSummaryResponse::from));
+    }
+
+    /**
+     * 상품 상세는 캐시된 정보를 쓰고, 순위는 캐시와 별개로 매 요청 랭킹 ZSET 에서 읽는다.
+     * 조회수는 존재하는 상품을 조회한 경우에만 집계한다.
+     */
     @GetMapping("/{productId}")
     public ResponseEntity<ProductDetailResponse> getProduct(@PathVariable Long productId) {
         ProductQueryUseCase.ProductDetailInfo info = productQueryUseCase.getProduct(productId);
-        return ResponseEntity.ok(ProductDetailResponse.from(info));
+        productViewCounter.increment(productId);
+        return ResponseEntity.ok(ProductDetailResponse.from(info, rankingUseCase.getCurrentRank(productId)));
     }
 }
@@ -12,9 +12,14 @@ public record ProductDetailResponse(
         boolean onSale,
         int stock,
         int likeCount,
-        String description
+        String description,
+        Long rank
 ) {
     public static ProductDetailResponse from(ProductQueryUseCase.ProductDetailInfo info) {
+        return from(info, null);
+    }
+
+    public static ProductDetailResponse from(ProductQueryUseCase.ProductDetailInfo info, Long rank) {
         return new ProductDetailResponse(
                 info.id(),
                 info.brandId(),
@@ -25,7 +30,8 @@ public record ProductDetailResponse(
                 info.onSale(),
                 info.stock(),
                 info.likeCount(),
-                info.description()
+                info.description(),
+                rank
         );
     }
 }
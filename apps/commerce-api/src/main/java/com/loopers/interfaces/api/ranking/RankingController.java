@@ -0,0 +1,39 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.application.ranking.RankingUseCase;
+import com.loopers.domain.model.common.PageResult;
+import com.loopers.interfaces.api.common.PageResponse;
+import com.loopers.interfaces.api.ranking.dto.RankingResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/rankings")
+public class RankingController {
+
+    private final RankingUseCase rankingUseCase;
+
+    public RankingController(RankingUseCase rankingUseCase) {
+        this.rankingUseCase = rankingUseCase;
+    }
+
+    /**
+     * 기간(window=hourly|daily|weekly|monthly)별 상품 랭킹. at 을 생략하면 현재 시각의 윈도우를 조회한다.
+     */
+    @GetMapping
+    public ResponseEntity<PageResponse<RankingResponse>> getRankings(
+            @RequestParam(required = false) String window,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        PageResult<RankingUseCase.RankingInfo> rankings =
+                rankingUseCase.getRankings(window, at != null ? at : LocalDateTime.now(), page, size);
+        return ResponseEntity.ok(PageResponse.from(rankings, RankingResponse::from));
+    }
+}
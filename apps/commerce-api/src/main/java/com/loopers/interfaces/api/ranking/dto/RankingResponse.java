@@ -0,0 +1,18 @@
+package com.loopers.interfaces.api.ranking.dto;
+
+import com.loopers.application.ranking.RankingUseCase;
+import com.loopers.interfaces.api.product.dto.ProductSummaryResponse;
+
+public record RankingResponse(
+        long rank,
+        double score,
+        ProductSummaryResponse product
+) {
+    public static RankingResponse from(RankingUseCase.RankingInfo info) {
+        return new RankingResponse(
+                info.rank(),
+                info.score(),
+                ProductSummaryResponse.from(info.product())
+        );
+    }
+}
@@ -1,11 +1,14 @@
 package com.loopers.interfaces.api.user;
 
 import com.loopers.application.like.LikeQueryUseCase;
+import com.loopers.application.user.LoginUseCase;
 import com.loopers.application.user.PasswordUpdateUseCase;
 import com.loopers.application.user.RegisterUseCase;
 import com.loopers.application.user.UserQueryUseCase;
 import com.loopers.domain.model.user.UserId;
 import com.loopers.interfaces.api.like.dto.LikeResponse;
+import com.loopers.interfaces.api.user.dto.LoginRequest;
+import com.loopers.interfaces.api.user.dto.LoginResponse;
 import com.loopers.interfaces.api.user.dto.PasswordUpdateRequest;
 import com.loopers.interfaces.api.user.dto.UserInfoResponse;
 import com.loopers.interfaces.api.user.dto.UserRegisterRequest;
@@ -25,17 +28,20 @@ public class UserController {
     private final UserQueryUseCase userQueryUseCase;
     private final PasswordUpdateUseCase passwordUpdateUseCase;
     private final LikeQueryUseCase likeQueryUseCase;
+    private final LoginUseCase loginUseCase;
 
     public UserController(
             RegisterUseCase registerUseCase,
             UserQueryUseCase userQueryUseCase,
             PasswordUpdateUseCase passwordUpdateUseCase,
-            LikeQueryUseCase likeQueryUseCase
+            LikeQueryUseCase likeQueryUseCase,
+            LoginUseCase loginUseCase
     ) {
         this.registerUseCase = registerUseCase;
         this.userQueryUseCase = userQueryUseCase;
         this.passwordUpdateUseCase = passwordUpdateUseCase;
         this.likeQueryUseCase = likeQueryUseCase;
+        this.loginUseCase = loginUseCase;
     }
 
     @PostMapping
@@ -44,6 +50,15 @@ public class UserController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 세션 토큰을 발급한다. 이후 요청은 {@code Authorization: Bearer <token>} 으로 인증할 수 있다.
+     */
+    @PostMapping("/login")
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
+        var sessionToken = loginUseCase.login(UserId.of(request.loginId()), request.password());
+        return ResponseEntity.ok(LoginResponse.from(sessionToken));
+    }
+
     @GetMapping("/me")
     public ResponseEntity<UserInfoResponse> getMyInfo(HttpServletRequest request) {
         UserId userId = (UserId) request.getAttribute("authenticatedUserId");
@@ -0,0 +1,10 @@
+package com.loopers.interfaces.api.user.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record LoginRequest(
+        @NotBlank(message = "로그인 ID는 필수입니다.")
+        String loginId,
+        @NotBlank(message = "비밀번호는 필수입니다.")
+        String password
+) {}
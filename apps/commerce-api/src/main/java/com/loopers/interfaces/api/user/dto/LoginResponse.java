@@ -0,0 +1,14 @@
+package com.loopers.interfaces.api.user.dto;
+
+import com.loopers.application.user.LoginUseCase;
+
+import java.time.LocalDateTime;
+
+public record LoginResponse(
+        String token,
+        LocalDateTime expiresAt
+) {
+    public static LoginResponse from(LoginUseCase.SessionToken sessionToken) {
+        return new LoginResponse(sessionToken.token(), sessionToken.expiresAt());
+    }
+}
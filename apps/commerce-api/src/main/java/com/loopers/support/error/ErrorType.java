@@ -20,6 +20,8 @@ public enum ErrorType {
     COUPON_NOT_FOUND(HttpStatus.NOT_FOUND, "COUPON_NOT_FOUND", "쿠폰을 찾을 수 없습니다."),
     COUPON_NOT_AVAILABLE(HttpStatus.BAD_REQUEST, "COUPON_NOT_AVAILABLE", "발급할 수 없는 쿠폰입니다."),
     COUPON_EXCEEDED(HttpStatus.BAD_REQUEST, "COUPON_EXCEEDED", "발급 가능 수량을 초과했습니다."),
+    COUPON_ISSUE_REQUEST_NOT_FOUND(HttpStatus.NOT_FOUND, "COUPON_ISSUE_REQUEST_NOT_FOUND", "쿠폰 발급 요청을 찾을 수 없습니다."),
+    COUPON_ALREADY_REQUESTED(HttpStatus.CONFLICT, "COUPON_ALREADY_REQUESTED", "이미 발급되었거나 처리 중인 발급 요청이 있습니다."),
     COUPON_EXPIRED(HttpStatus.BAD_REQUEST, "COUPON_EXPIRED", "만료된 쿠폰입니다."),
     COUPON_NOT_OWNED(HttpStatus.FORBIDDEN, "COUPON_NOT_OWNED", "본인의 쿠폰만 사용할 수 있습니다."),
     COUPON_NOT_USABLE(HttpStatus.BAD_REQUEST, "COUPON_NOT_USABLE", "사용할 수 없는 쿠폰입니다."),
@@ -44,6 +46,7 @@ public enum ErrorType {
 
     /** 상품 에러 */
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "PRODUCT_NOT_FOUND", "상품을 찾을 수 없습니다."),
+    PRODUCT_SOLD_OUT(HttpStatus.CONFLICT, "PRODUCT_SOLD_OUT", "품절된 상품입니다."),
 
     /** 브랜드 에러 */
     BRAND_NOT_FOUND(HttpStatus.NOT_FOUND, "BRAND_NOT_FOUND", "브랜드를 찾을 수 없습니다."),
@@ -0,0 +1,218 @@
+package com.loopers.application.coupon;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.model.coupon.Coupon;
+import com.loopers.domain.model.coupon.IssuancePolicy;
+import com.loopers.domain.model.user.UserId;
+import com.loopers.domain.repository.CouponRepository;
+import com.loopers.infrastructure.couponissue.CouponIssueRequestJpaEntity;
+import com.loopers.infrastructure.couponissue.CouponIssueRequestJpaRepository;
+import com.loopers.infrastructure.outbox.OutboxJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CouponIssueRequestServiceTest {
+
+    private static final Long COUPON_ID = 1L;
+
+    private CouponRepository couponRepository;
+    private CouponIssueRequestJpaRepository issueRequestRepository;
+    private OutboxJpaRepository outboxRepository;
+    private CouponIssueAdmission couponIssueAdmission;
+    private CouponIssueResultSubscription resultSubscription;
+    private CouponIssueRequestService service;
+
+    private final UserId userId = UserId.of("test1234");
+
+    @BeforeEach
+    void setUp() {
+        couponRepository = mock(CouponRepository.class);
+        issueRequestRepository = mock(CouponIssueRequestJpaRepository.class);
+        outboxRepository = mock(OutboxJpaRepository.class);
+        couponIssueAdmission = mock(CouponIssueAdmission.class);
+        resultSubscription = mock(CouponIssueResultSubscription.class);
+        service = new CouponIssueRequestService(couponRepository, issueRequestRepository, outboxRepository,
+                couponIssueAdmission, resultSubscription, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("이미 발급되었거나 접수된 유저는 DB 를 거치지 않고 거절한다")
+    void requestIssue_duplicate() {
+        // given
+        when(couponIssueAdmission.check(COUPON_ID, "test1234")).thenReturn(CouponIssueAdmission.Decision.DUPLICATE);
+
+        // when & then
+        assertThatThrownBy(() -> service.requestIssue(userId, COUPON_ID))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType").isEqualTo(ErrorType.COUPON_ALREADY_REQUESTED);
+        verifyNoInteractions(couponRepository, issueRequestRepository, outboxRepository);
+    }
+
+    @Test
+    @DisplayName("수량이 소진된 쿠폰은 DB 를 거치지 않고 거절한다")
+    void requestIssue_soldOut() {
+        // given
+        when(couponIssueAdmission.check(COUPON_ID, "test1234")).thenReturn(CouponIssueAdmission.Decision.SOLD_OUT);
+
+        // when & then
+        assertThatThrownBy(() -> service.requestIssue(userId, COUPON_ID))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType").isEqualTo(ErrorType.COUPON_EXCEEDED);
+        verifyNoInteractions(couponRepository, issueRequestRepository, outboxRepository);
+    }
+
+    @Test
+    @DisplayName("수량을 아직 모르면 쿠폰에서 읽어 기억해 두고 다시 판정해 자리를 잡은 뒤 접수한다")
+    void requestIssue_quotaUnknown() {
+        // given
+        when(couponIssueAdmission.check(COUPON_ID, "test1234"))
+                .thenReturn(CouponIssueAdmission.Decision.QUOTA_UNKNOWN)
+                .thenReturn(CouponIssueAdmission.Decision.ADMIT);
+        givenAvailableCoupon(100);
+
+        // when
+        service.requestIssue(userId, COUPON_ID);
+
+        // then
+        verify(couponIssueAdmission).rememberQuota(COUPON_ID, 100);
+        verify(couponIssueAdmission, times(2)).check(COUPON_ID, "test1234");
+        verify(issueRequestRepository).save(any());
+        verify(outboxRepository).save(any());
+        verify(couponIssueAdmission, never()).markRequested(any(), any());
+    }
+
+    @Test
+    @DisplayName("수량을 채운 뒤 다시 판정해 소진이면 접수하지 않는다")
+    void requestIssue_quotaUnknownThenSoldOut() {
+        // given
+        when(couponIssueAdmission.check(COUPON_ID, "test1234"))
+                .thenReturn(CouponIssueAdmission.Decision.QUOTA_UNKNOWN)
+                .thenReturn(CouponIssueAdmission.Decision.SOLD_OUT);
+        givenAvailableCoupon(100);
+
+        // when & then
+        assertThatThrownBy(() -> service.requestIssue(userId, COUPON_ID))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType").isEqualTo(ErrorType.COUPON_EXCEEDED);
+        verifyNoInteractions(issueRequestRepository, outboxRepository);
+    }
+
+    @Test
+    @DisplayName("입장 판정에서 자리를 잡은 뒤 접수가 롤백되면 자리를 돌려준다")
+    void requestIssue_releasesOnRollback() {
+        // given
+        when(couponIssueAdmission.check(COUPON_ID, "test1234")).thenReturn(CouponIssueAdmission.Decision.ADMIT);
+        Coupon coupon = mock(Coupon.class);
+        when(coupon.isAvailable()).thenReturn(false);
+        when(couponRepository.findById(COUPON_ID)).thenReturn(Optional.of(coupon));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            assertThatThrownBy(() -> service.requestIssue(userId, COUPON_ID))
+                    .isInstanceOf(CoreException.class)
+                    .extracting("errorType").isEqualTo(ErrorType.COUPON_NOT_AVAILABLE);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then
+            verify(couponIssueAdmission).release(COUPON_ID, "test1234");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("접수가 커밋되면 잡은 자리를 유지한다")
+    void requestIssue_keepsReservationOnCommit() {
+        // given
+        when(couponIssueAdmission.check(COUPON_ID, "test1234")).thenReturn(CouponIssueAdmission.Decision.ADMIT);
+        givenAvailableCoupon(100);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            service.requestIssue(userId, COUPON_ID);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // then
+            verify(couponIssueAdmission, never()).release(any(), any());
+            verify(couponIssueAdmission, never()).markRequested(any(), any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 판정에 실패하면 판정 없이 요청을 접수한다")
+    void requestIssue_admissionFailure() {
+        // given
+        when(couponIssueAdmission.check(any(), any())).thenThrow(new IllegalStateException("redis down"));
+        doThrow(new IllegalStateException("redis down")).when(couponIssueAdmission).rememberQuota(any(), anyInt());
+        doThrow(new IllegalStateException("redis down")).when(couponIssueAdmission).markRequested(any(), any());
+        givenAvailableCoupon(100);
+
+        // when & then
+        assertThatCode(() -> service.requestIssue(userId, COUPON_ID)).doesNotThrowAnyException();
+        verify(issueRequestRepository).save(any());
+        verify(couponIssueAdmission).markRequested(COUPON_ID, "test1234");
+    }
+
+    @Test
+    @DisplayName("처리 대기 중인 요청의 결과를 기다리면 구독한 Future 를 그대로 반환한다")
+    void awaitIssueResult_pending() {
+        // given
+        CompletableFuture<String> subscribed = new CompletableFuture<>();
+        when(resultSubscription.subscribe(10L)).thenReturn(subscribed);
+        when(issueRequestRepository.findById(10L))
+                .thenReturn(Optional.of(new CouponIssueRequestJpaEntity(COUPON_ID, "test1234")));
+
+        // when
+        CompletableFuture<String> result = service.awaitIssueResult(userId, COUPON_ID, 10L);
+
+        // then
+        assertThat(result).isSameAs(subscribed).isNotDone();
+    }
+
+    @Test
+    @DisplayName("다른 유저의 요청 결과는 기다릴 수 없고 구독을 취소한다")
+    void awaitIssueResult_notOwned() {
+        // given
+        CompletableFuture<String> subscribed = new CompletableFuture<>();
+        when(resultSubscription.subscribe(10L)).thenReturn(subscribed);
+        when(issueRequestRepository.findById(10L))
+                .thenReturn(Optional.of(new CouponIssueRequestJpaEntity(COUPON_ID, "other123")));
+
+        // when & then
+        assertThatThrownBy(() -> service.awaitIssueResult(userId, COUPON_ID, 10L))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.COUPON_ISSUE_REQUEST_NOT_FOUND);
+        assertThat(subscribed).isCancelled();
+    }
+
+    private void givenAvailableCoupon(int maxIssuance) {
+        Coupon coupon = mock(Coupon.class);
+        IssuancePolicy issuancePolicy = mock(IssuancePolicy.class);
+        when(coupon.isAvailable()).thenReturn(true);
+        when(coupon.getExpiredAt()).thenReturn(LocalDateTime.now().plusDays(7));
+        when(coupon.getIssuancePolicy()).thenReturn(issuancePolicy);
+        when(issuancePolicy.getMaxIssuanceValue()).thenReturn(maxIssuance);
+        when(couponRepository.findById(COUPON_ID)).thenReturn(Optional.of(coupon));
+        when(issueRequestRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+}
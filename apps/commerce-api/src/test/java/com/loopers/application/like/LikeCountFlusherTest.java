@@ -0,0 +1,82 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.model.like.event.LikeCountsFlushedEvent;
+import com.loopers.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LikeCountFlusherTest {
+
+    private LikeCountBuffer likeCountBuffer;
+    private ProductRepository productRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private LikeCountFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        likeCountBuffer = mock(LikeCountBuffer.class);
+        productRepository = mock(ProductRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        flusher = new LikeCountFlusher(likeCountBuffer, productRepository, eventPublisher, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("변화량이 0인 상품은 제외하고 한 번에 반영한 뒤 버퍼를 비운다")
+    void flush_appliesNonZeroDeltas() {
+        // given
+        when(likeCountBuffer.claim()).thenReturn(new LikeCountBuffer.PendingLikeCounts(
+                Map.of(1L, 3L, 2L, 0L, 3L, -1L), System.currentTimeMillis() - 500));
+
+        // when
+        int flushed = flusher.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        verify(productRepository).applyLikeCountDeltas(Map.of(1L, 3L, 3L, -1L));
+        verify(likeCountBuffer).complete();
+        verify(eventPublisher).publishEvent(any(LikeCountsFlushedEvent.class));
+        assertThat(meterRegistry.get("like.count.flush.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영할 변화량이 없으면 DB 를 호출하지 않는다")
+    void flush_empty() {
+        // given
+        when(likeCountBuffer.claim()).thenReturn(LikeCountBuffer.PendingLikeCounts.empty());
+
+        // when
+        int flushed = flusher.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        verifyNoInteractions(productRepository);
+        verify(likeCountBuffer, never()).complete();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 버퍼를 비우지 않아 다음 주기에 다시 반영한다")
+    void flush_failure_keepsBuffer() {
+        // given
+        when(likeCountBuffer.claim()).thenReturn(new LikeCountBuffer.PendingLikeCounts(
+                Map.of(1L, 1L), System.currentTimeMillis()));
+        doThrow(new IllegalStateException("db down")).when(productRepository).applyLikeCountDeltas(any());
+
+        // when
+        flusher.scheduledFlush();
+
+        // then
+        verify(likeCountBuffer, never()).complete();
+        verifyNoInteractions(eventPublisher);
+    }
+}
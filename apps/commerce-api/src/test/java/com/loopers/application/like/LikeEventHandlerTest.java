@@ -0,0 +1,70 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.model.brand.Brand;
+import com.loopers.domain.model.brand.BrandName;
+import com.loopers.domain.model.like.event.ProductLikedEvent;
+import com.loopers.domain.model.like.event.ProductUnlikedEvent;
+import com.loopers.domain.model.product.Price;
+import com.loopers.domain.model.product.Product;
+import com.loopers.domain.model.product.ProductName;
+import com.loopers.domain.model.product.Stock;
+import com.loopers.domain.model.user.UserId;
+import com.loopers.domain.repository.BrandRepository;
+import com.loopers.domain.repository.ProductRepository;
+import com.loopers.testcontainers.PostgreSQLTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest
+@Import(PostgreSQLTestContainersConfig.class)
+class LikeEventHandlerTest {
+
+    @Autowired private DatabaseCleanUp databaseCleanUp;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private BrandRepository brandRepository;
+    @Autowired private ProductRepository productRepository;
+
+    // Redis 장애로 버퍼 적재가 실패하는 상황
+    @MockitoBean private LikeCountBuffer likeCountBuffer;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanUp.truncateAllTables();
+        doThrow(new IllegalStateException("Redis 연결 실패")).when(likeCountBuffer).add(anyLong(), anyInt());
+        Brand brand = brandRepository.save(Brand.create(BrandName.of("나이키"), "스포츠"));
+        productId = productRepository.save(Product.create(brand.getId(), ProductName.of("운동화"),
+                Price.of(50000), null, Stock.of(100), "설명")).getId();
+    }
+
+    @Test
+    @DisplayName("버퍼 적재에 실패하면 커밋 이후 새 트랜잭션에서 like_count 를 바로 반영한다")
+    void fallback_appliesInNewTransaction() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new ProductLikedEvent(productId, UserId.of("test1234")));
+            eventPublisher.publishEvent(new ProductLikedEvent(productId, UserId.of("test5678")));
+        });
+        transactionTemplate.executeWithoutResult(status ->
+                eventPublisher.publishEvent(new ProductUnlikedEvent(productId, UserId.of("test5678"))));
+
+        // then
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getLikeCount()).isEqualTo(1);
+    }
+}
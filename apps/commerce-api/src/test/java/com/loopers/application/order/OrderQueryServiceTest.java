@@ -1,5 +1,9 @@
 package com.loopers.application.order;
 
+import com.loopers.application.order.OrderQueryUseCase.OrderExportRow;
+import com.loopers.application.order.OrderQueryUseCase.OrderSummary;
+import com.loopers.domain.model.common.CursorResult;
+import com.loopers.domain.model.common.PageResult;
 import com.loopers.domain.model.order.*;
 import com.loopers.domain.model.user.UserId;
 import com.loopers.domain.repository.OrderRepository;
@@ -11,23 +15,29 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class OrderQueryServiceTest {
 
     private OrderRepository orderRepository;
+    private OrderSummaryReader orderSummaryReader;
     private OrderQueryService service;
 
     @BeforeEach
     void setUp() {
         orderRepository = mock(OrderRepository.class);
-        service = new OrderQueryService(orderRepository);
+        orderSummaryReader = mock(OrderSummaryReader.class);
+        service = new OrderQueryService(orderRepository, orderSummaryReader);
     }
 
     @Nested
@@ -39,18 +49,32 @@ class OrderQueryServiceTest {
         void getMyOrders_success() {
             // given
             UserId userId = UserId.of("test1234");
-            Order order1 = createOrder(1L, userId, OrderStatus.PAYMENT_COMPLETED);
-            Order order2 = createOrder(2L, userId, OrderStatus.SHIPPING);
+            OrderSummary summary1 = createSummary(2L, OrderStatus.SHIPPING);
+            OrderSummary summary2 = createSummary(1L, OrderStatus.PAYMENT_COMPLETED);
 
-            when(orderRepository.findAllByUserId(userId)).thenReturn(List.of(order1, order2));
+            when(orderSummaryReader.findAllByUserId(userId)).thenReturn(List.of(summary1, summary2));
 
             // when
             var result = service.getMyOrders(userId);
 
             // then
             assertThat(result).hasSize(2);
-            assertThat(result.get(0).id()).isEqualTo(1L);
-            assertThat(result.get(0).status()).isEqualTo("PAYMENT_COMPLETED");
+            assertThat(result.get(0).id()).isEqualTo(2L);
+            assertThat(result.get(0).status()).isEqualTo("SHIPPING");
+        }
+
+        @Test
+        @DisplayName("목록 조회는 주문 애그리거트를 복원하지 않는다")
+        void getMyOrders_doesNotLoadAggregate() {
+            // given
+            UserId userId = UserId.of("test1234");
+            when(orderSummaryReader.findAllByUserId(userId)).thenReturn(List.of());
+
+            // when
+            service.getMyOrders(userId);
+
+            // then
+            verifyNoInteractions(orderRepository);
         }
 
         @Test
@@ -61,16 +85,16 @@ class OrderQueryServiceTest {
             LocalDate start = LocalDate.of(2025, 1, 1);
             LocalDate end = LocalDate.of(2025, 12, 31);
 
-            Order order = createOrder(1L, userId, OrderStatus.PAYMENT_COMPLETED);
-            when(orderRepository.findAllByUserIdAndDateRange(eq(userId), any(), any()))
-                    .thenReturn(List.of(order));
+            when(orderSummaryReader.findAllByUserIdAndDateRange(eq(userId), any(), any()))
+                    .thenReturn(List.of(createSummary(1L, OrderStatus.PAYMENT_COMPLETED)));
 
             // when
             var result = service.getMyOrders(userId, start, end);
 
             // then
             assertThat(result).hasSize(1);
-            verify(orderRepository).findAllByUserIdAndDateRange(eq(userId), any(), any());
+            verify(orderSummaryReader).findAllByUserIdAndDateRange(
+                    userId, start.atStartOfDay(), end.atTime(LocalTime.MAX));
         }
 
         @Test
@@ -78,7 +102,7 @@ class OrderQueryServiceTest {
         void getMyOrders_empty() {
             // given
             UserId userId = UserId.of("test1234");
-            when(orderRepository.findAllByUserId(userId)).thenReturn(List.of());
+            when(orderSummaryReader.findAllByUserId(userId)).thenReturn(List.of());
 
             // when
             var result = service.getMyOrders(userId);
@@ -88,6 +112,60 @@ class OrderQueryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("내 주문 커서 목록 조회")
+    class GetMyOrdersByCursor {
+
+        @Test
+        @DisplayName("기간 없이 조회하면 기간 조건 없이 커서 이후 구간을 조회한다")
+        void getMyOrdersByCursor_withoutDateRange() {
+            // given
+            UserId userId = UserId.of("test1234");
+            CursorResult<OrderSummary> page = new CursorResult<>(
+                    List.of(createSummary(3L, OrderStatus.PAYMENT_COMPLETED)), 1, "next");
+            when(orderSummaryReader.findByUserIdAfter(userId, null, null, "cursor", 1)).thenReturn(page);
+
+            // when
+            var result = service.getMyOrdersByCursor(userId, null, null, "cursor", 1);
+
+            // then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.nextCursor()).isEqualTo("next");
+        }
+
+        @Test
+        @DisplayName("기간을 지정하면 시작일 0시부터 종료일 끝까지 조회한다")
+        void getMyOrdersByCursor_withDateRange() {
+            // given
+            UserId userId = UserId.of("test1234");
+            LocalDate start = LocalDate.of(2025, 1, 1);
+            LocalDate end = LocalDate.of(2025, 1, 31);
+            when(orderSummaryReader.findByUserIdAfter(any(), any(), any(), any(), anyInt()))
+                    .thenReturn(new CursorResult<>(List.of(), 20, null));
+
+            // when
+            service.getMyOrdersByCursor(userId, start, end, null, 20);
+
+            // then
+            verify(orderSummaryReader).findByUserIdAfter(
+                    userId, start.atStartOfDay(), end.atTime(LocalTime.MAX), null, 20);
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 범위를 벗어나면 예외")
+        void getMyOrdersByCursor_fail_invalidSize() {
+            // given
+            UserId userId = UserId.of("test1234");
+
+            // when & then
+            assertThatThrownBy(() -> service.getMyOrdersByCursor(userId, null, null, null, 101))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> service.getMyOrdersByCursor(userId, null, null, null, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(orderSummaryReader);
+        }
+    }
+
     @Nested
     @DisplayName("주문 상세 조회")
     class GetOrder {
@@ -144,21 +222,57 @@ class OrderQueryServiceTest {
     class AdminQuery {
 
         @Test
-        @DisplayName("전체 주문 목록 조회")
+        @DisplayName("전체 주문 목록은 조건과 함께 요약 조회로 페이지 단위 조회한다")
         void getAllOrders_success() {
             // given
-            UserId user1 = UserId.of("user0001");
-            UserId user2 = UserId.of("user0002");
-            Order order1 = createOrder(1L, user1, OrderStatus.PAYMENT_COMPLETED);
-            Order order2 = createOrder(2L, user2, OrderStatus.SHIPPING);
+            OrderSearchCondition condition = OrderSearchCondition.of("SHIPPING", null, null);
+            PageResult<OrderSummary> page = new PageResult<>(
+                    List.of(createSummary(2L, OrderStatus.SHIPPING)), 0, 20, 1, 1);
+            when(orderSummaryReader.findAll(condition, 0, 20)).thenReturn(page);
 
-            when(orderRepository.findAll()).thenReturn(List.of(order1, order2));
+            // when
+            var result = service.getAllOrders(condition, 0, 20);
+
+            // then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.totalElements()).isEqualTo(1);
+            verifyNoInteractions(orderRepository);
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 상한을 넘으면 예외")
+        void getAllOrders_fail_sizeOverLimit() {
+            // given
+            OrderSearchCondition condition = OrderSearchCondition.of(null, null, null);
+
+            // when & then
+            assertThatThrownBy(() -> service.getAllOrders(condition, 0, 101))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> service.getAllOrders(condition, -1, 20))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(orderSummaryReader);
+        }
+
+        @Test
+        @DisplayName("내보내기는 조회한 행을 모으지 않고 그대로 sink 로 넘긴다")
+        @SuppressWarnings("unchecked")
+        void exportOrders_streamsToSink() {
+            // given
+            OrderSearchCondition condition = OrderSearchCondition.of(null, null, null);
+            OrderExportRow row = new OrderExportRow(1L, "user0001", "SHIPPING", "CARD",
+                    100000, 0, 100000, LocalDateTime.now());
+            doAnswer(invocation -> {
+                Consumer<OrderExportRow> consumer = invocation.getArgument(1);
+                consumer.accept(row);
+                return null;
+            }).when(orderSummaryReader).streamAll(eq(condition), any());
+            List<OrderExportRow> received = new ArrayList<>();
 
             // when
-            var result = service.getAllOrders();
+            service.exportOrders(condition, received::add);
 
             // then
-            assertThat(result).hasSize(2);
+            assertThat(received).containsExactly(row);
         }
 
         @Test
@@ -192,4 +306,8 @@ class OrderQueryServiceTest {
                 deliveryInfo, orderAmount, null, status,
                 LocalDateTime.now(), LocalDateTime.now()));
     }
+
+    private OrderSummary createSummary(Long id, OrderStatus status) {
+        return new OrderSummary(id, status.name(), 100000, LocalDateTime.now());
+    }
 }
@@ -0,0 +1,61 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.model.order.OrderStatus;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OrderSearchConditionTest {
+
+    @Test
+    @DisplayName("상태는 대소문자 구분 없이 해석하고, 기간은 시작일 0시부터 종료일 끝까지로 바꾼다")
+    void of_success() {
+        // given
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDate end = LocalDate.of(2025, 1, 31);
+
+        // when
+        OrderSearchCondition condition = OrderSearchCondition.of("shipping", start, end);
+
+        // then
+        assertThat(condition.status()).isEqualTo(OrderStatus.SHIPPING);
+        assertThat(condition.startAt()).isEqualTo(start.atStartOfDay());
+        assertThat(condition.endAt()).isEqualTo(end.atTime(LocalTime.MAX));
+    }
+
+    @Test
+    @DisplayName("조건을 주지 않으면 모든 조건이 null 이다")
+    void of_empty() {
+        // when
+        OrderSearchCondition condition = OrderSearchCondition.of(null, null, null);
+
+        // then
+        assertThat(condition.status()).isNull();
+        assertThat(condition.startAt()).isNull();
+        assertThat(condition.endAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 상태는 거부한다")
+    void of_fail_unknownStatus() {
+        assertThatThrownBy(() -> OrderSearchCondition.of("UNKNOWN", null, null))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 거부한다")
+    void of_fail_reversedRange() {
+        assertThatThrownBy(() -> OrderSearchCondition.of(null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.BAD_REQUEST);
+    }
+}
@@ -5,6 +5,7 @@ import com.loopers.domain.model.product.Price;
 import com.loopers.domain.model.product.Product;
 import com.loopers.domain.model.product.ProductName;
 import com.loopers.domain.model.product.Stock;
+import com.loopers.domain.model.product.StockDeduction;
 import com.loopers.domain.model.product.ProductData;
 import com.loopers.domain.model.user.UserId;
 import com.loopers.domain.repository.CouponRepository;
@@ -56,9 +57,9 @@ class OrderServiceTest {
         void createOrder_success() {
             // given
             UserId userId = UserId.of("test1234");
-            Product product = createProduct(1L, 50000, 100);
-            when(productRepository.findActiveByIdWithLock(1L)).thenReturn(Optional.of(product));
-            when(productRepository.save(any(Product.class))).thenReturn(product);
+            Product product = createProduct(1L, 50000, 98);
+            when(productRepository.decreaseStocks(List.of(new StockDeduction(1L, 2)))).thenReturn(List.of());
+            when(productRepository.findAllActiveByIds(List.of(1L))).thenReturn(List.of(product));
             when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             var command = new CreateOrderUseCase.OrderCommand(
@@ -75,7 +76,8 @@ class OrderServiceTest {
             assertThatNoException()
                     .isThrownBy(() -> service.createOrder(userId, command));
 
-            verify(productRepository).save(any(Product.class));
+            verify(productRepository).decreaseStocks(List.of(new StockDeduction(1L, 2)));
+            verify(productRepository, never()).findActiveByIdWithLock(any());
             verify(orderRepository).save(any(Order.class));
         }
 
@@ -84,7 +86,9 @@ class OrderServiceTest {
         void createOrder_fail_productNotFound() {
             // given
             UserId userId = UserId.of("test1234");
-            when(productRepository.findActiveByIdWithLock(999L)).thenReturn(Optional.empty());
+            when(productRepository.decreaseStocks(List.of(new StockDeduction(999L, 1))))
+                    .thenReturn(List.of(new StockDeduction(999L, 1)));
+            when(productRepository.findAllActiveByIds(List.of(999L))).thenReturn(List.of());
 
             var command = new CreateOrderUseCase.OrderCommand(
                     List.of(new CreateOrderUseCase.OrderItemCommand(999L, 1)),
@@ -102,7 +106,9 @@ class OrderServiceTest {
             // given
             UserId userId = UserId.of("test1234");
             Product product = createProduct(1L, 50000, 1);
-            when(productRepository.findActiveByIdWithLock(1L)).thenReturn(Optional.of(product));
+            when(productRepository.decreaseStocks(List.of(new StockDeduction(1L, 100))))
+                    .thenReturn(List.of(new StockDeduction(1L, 100)));
+            when(productRepository.findAllActiveByIds(List.of(1L))).thenReturn(List.of(product));
 
             var command = new CreateOrderUseCase.OrderCommand(
                     List.of(new CreateOrderUseCase.OrderItemCommand(1L, 100)),
@@ -114,6 +120,33 @@ class OrderServiceTest {
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessageContaining("재고가 부족합니다");
         }
+
+        @Test
+        @DisplayName("여러 라인 중 재고가 부족한 라인만 골라 예외 메시지에 담는다")
+        void createOrder_fail_reportsShortfallPerLine() {
+            // given
+            UserId userId = UserId.of("test1234");
+            List<StockDeduction> deductions = List.of(
+                    new StockDeduction(1L, 1), new StockDeduction(2L, 5), new StockDeduction(3L, 1));
+            when(productRepository.decreaseStocks(deductions)).thenReturn(List.of(new StockDeduction(2L, 5)));
+            when(productRepository.findAllActiveByIds(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                    createProduct(1L, 10000, 9), createProduct(2L, 20000, 3), createProduct(3L, 30000, 9)));
+
+            var command = new CreateOrderUseCase.OrderCommand(
+                    List.of(new CreateOrderUseCase.OrderItemCommand(3L, 1),
+                            new CreateOrderUseCase.OrderItemCommand(1L, 1),
+                            new CreateOrderUseCase.OrderItemCommand(2L, 5)),
+                    "홍길동", "서울시", "요청사항", "CARD", LocalDate.now(), null
+            );
+
+            // when & then
+            assertThatThrownBy(() -> service.createOrder(userId, command))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("상품 2 (현재 재고: 3, 요청 수량: 5)")
+                    .hasMessageNotContaining("상품 1 ")
+                    .hasMessageNotContaining("상품 3 ");
+            verify(orderRepository, never()).save(any(Order.class));
+        }
     }
 
     @Nested
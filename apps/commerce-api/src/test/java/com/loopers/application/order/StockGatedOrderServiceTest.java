@@ -0,0 +1,78 @@
+package com.loopers.application.order;
+
+import com.loopers.application.product.HotProductStockGate;
+import com.loopers.domain.model.product.StockDeduction;
+import com.loopers.domain.model.user.UserId;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StockGatedOrderServiceTest {
+
+    private OrderService orderService;
+    private HotProductStockGate hotProductStockGate;
+    private StockGatedOrderService service;
+
+    private final UserId userId = UserId.of("test1234");
+    private final CreateOrderUseCase.OrderCommand command = new CreateOrderUseCase.OrderCommand(
+            List.of(new CreateOrderUseCase.OrderItemCommand(1L, 2)),
+            "홍길동", "서울시", "요청사항", "CARD", LocalDate.now(), null
+    );
+
+    @BeforeEach
+    void setUp() {
+        orderService = mock(OrderService.class);
+        hotProductStockGate = mock(HotProductStockGate.class);
+        service = new StockGatedOrderService(orderService, hotProductStockGate);
+    }
+
+    @Test
+    @DisplayName("게이트에서 품절이면 주문 트랜잭션을 시작하지 않고 거절한다")
+    void createOrder_soldOut() {
+        // given
+        when(hotProductStockGate.tryAcquire(List.of(new StockDeduction(1L, 2)))).thenReturn(List.of(1L));
+
+        // when & then
+        assertThatThrownBy(() -> service.createOrder(userId, command))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType").isEqualTo(ErrorType.PRODUCT_SOLD_OUT);
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    @DisplayName("주문 생성이 실패하면 선점한 수량을 게이트에 되돌린다")
+    void createOrder_failure_releases() {
+        // given
+        when(hotProductStockGate.tryAcquire(any())).thenReturn(List.of());
+        when(orderService.createOrder(userId, command)).thenThrow(new IllegalStateException("재고가 부족합니다."));
+
+        // when & then
+        assertThatThrownBy(() -> service.createOrder(userId, command))
+                .isInstanceOf(IllegalStateException.class);
+        verify(hotProductStockGate).release(List.of(new StockDeduction(1L, 2)));
+    }
+
+    @Test
+    @DisplayName("게이트 조회에 실패하면 DB 판정으로 주문을 진행한다")
+    void createOrder_gateUnavailable() {
+        // given
+        when(hotProductStockGate.tryAcquire(any())).thenThrow(new IllegalStateException("redis down"));
+        when(orderService.createOrder(userId, command)).thenReturn(new CreateOrderUseCase.CreateOrderResult(1L, 10000L));
+
+        // when
+        var result = service.createOrder(userId, command);
+
+        // then
+        assertThat(result.orderId()).isEqualTo(1L);
+        verify(hotProductStockGate, never()).release(any());
+    }
+}
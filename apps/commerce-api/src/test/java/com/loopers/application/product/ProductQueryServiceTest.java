@@ -3,6 +3,7 @@ package com.loopers.application.product;
 import com.loopers.domain.model.brand.Brand;
 import com.loopers.domain.model.brand.BrandData;
 import com.loopers.domain.model.brand.BrandName;
+import com.loopers.domain.model.common.CursorResult;
 import com.loopers.domain.model.common.PageResult;
 import com.loopers.domain.model.product.*;
 import com.loopers.domain.repository.BrandRepository;
@@ -140,6 +141,40 @@ class ProductQueryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("상품 목록 커서 조회")
+    class GetProductsByCursor {
+
+        @Test
+        @DisplayName("브랜드명을 채워 반환하고 다음 커서를 그대로 전달한다")
+        void getProductsByCursor_success() {
+            // given
+            Product product = createProduct(1L, 1L, "상품1", 10000);
+            CursorResult<Product> cursorResult = new CursorResult<>(List.of(product), 20, "next-token");
+            when(productRepository.findAllActiveByCursor(null, "likes_desc", null, 20)).thenReturn(cursorResult);
+            when(brandRepository.findAllByIds(List.of(1L))).thenReturn(List.of(createBrand(1L, "나이키")));
+
+            // when
+            var result = service.getProductsByCursor(null, "likes_desc", null, 20);
+
+            // then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.content().get(0).brandName()).isEqualTo("나이키");
+            assertThat(result.nextCursor()).isEqualTo("next-token");
+            assertThat(result.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 허용 범위를 벗어나면 예외가 발생한다")
+        void getProductsByCursor_invalidSize() {
+            assertThatThrownBy(() -> service.getProductsByCursor(null, null, null, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> service.getProductsByCursor(null, null, null, 101))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(productRepository);
+        }
+    }
+
     private Product createProduct(Long id, Long brandId, String name, int price) {
         return Product.reconstitute(new ProductData(id, brandId, ProductName.of(name), Price.of(price),
                 null, Stock.of(100), 5, "설명",
@@ -27,6 +27,7 @@ class ProductServiceTest {
     private ProductRepository productRepository;
     private BrandRepository brandRepository;
     private CacheManager cacheManager;
+    private HotProductStockGate hotProductStockGate;
     private ProductService service;
 
     @BeforeEach
@@ -34,7 +35,8 @@ class ProductServiceTest {
         productRepository = mock(ProductRepository.class);
         brandRepository = mock(BrandRepository.class);
         cacheManager = mock(CacheManager.class);
-        service = new ProductService(productRepository, brandRepository, cacheManager);
+        hotProductStockGate = mock(HotProductStockGate.class);
+        service = new ProductService(productRepository, brandRepository, cacheManager, hotProductStockGate);
     }
 
     @Nested
@@ -145,6 +147,36 @@ class ProductServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("재고 게이트")
+    class StockGate {
+
+        @Test
+        @DisplayName("게이트를 열면 현재 DB 재고로 채운다")
+        void openStockGate_seedsFromStock() {
+            // given
+            when(productRepository.findActiveById(1L)).thenReturn(Optional.of(createProduct(1L, 1L)));
+
+            // when
+            service.openStockGate(1L);
+
+            // then
+            verify(hotProductStockGate).open(1L, 100);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상품은 게이트를 열 수 없다")
+        void openStockGate_fail_productNotFound() {
+            // given
+            when(productRepository.findActiveById(999L)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> service.openStockGate(999L))
+                    .isInstanceOf(CoreException.class);
+            verifyNoInteractions(hotProductStockGate);
+        }
+    }
+
     private Brand createBrand(Long id) {
         return Brand.reconstitute(new BrandData(id, BrandName.of("나이키"), "스포츠 브랜드",
                 LocalDateTime.now(), LocalDateTime.now(), null));
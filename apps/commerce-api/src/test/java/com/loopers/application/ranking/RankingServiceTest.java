@@ -0,0 +1,131 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.model.brand.Brand;
+import com.loopers.domain.model.brand.BrandData;
+import com.loopers.domain.model.brand.BrandName;
+import com.loopers.domain.model.common.PageResult;
+import com.loopers.domain.model.product.*;
+import com.loopers.domain.repository.BrandRepository;
+import com.loopers.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RankingServiceTest {
+
+    private ProductRankingReader rankingReader;
+    private ProductRepository productRepository;
+    private BrandRepository brandRepository;
+    private RankingService service;
+
+    @BeforeEach
+    void setUp() {
+        rankingReader = mock(ProductRankingReader.class);
+        productRepository = mock(ProductRepository.class);
+        brandRepository = mock(BrandRepository.class);
+        service = new RankingService(rankingReader, productRepository, brandRepository);
+    }
+
+    @Nested
+    @DisplayName("랭킹 목록 조회")
+    class GetRankings {
+
+        @Test
+        @DisplayName("ZSET 순위 순서대로 상품 요약을 붙여 반환한다")
+        void getRankings_keepsRankOrder() {
+            // given
+            LocalDateTime at = LocalDateTime.of(2026, 10, 18, 12, 0);
+            when(rankingReader.findTop(RankingWindow.DAILY, at, 20, 20)).thenReturn(List.of(
+                    new ProductRankingReader.RankedProduct(3L, 21, 9.5),
+                    new ProductRankingReader.RankedProduct(1L, 22, 7.0)));
+            when(rankingReader.count(RankingWindow.DAILY, at)).thenReturn(45L);
+            when(productRepository.findAllActiveByIds(List.of(3L, 1L))).thenReturn(List.of(
+                    createProduct(1L, 1L, "운동화"), createProduct(3L, 1L, "티셔츠")));
+            when(brandRepository.findAllByIds(anyList())).thenReturn(List.of(createBrand(1L, "나이키")));
+
+            // when
+            PageResult<RankingUseCase.RankingInfo> result = service.getRankings("daily", at, 1, 20);
+
+            // then
+            assertThat(result.content())
+                    .extracting(RankingUseCase.RankingInfo::rank, info -> info.product().name())
+                    .containsExactly(tuple(21L, "티셔츠"), tuple(22L, "운동화"));
+            assertThat(result.totalElements()).isEqualTo(45);
+            assertThat(result.totalPages()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("삭제된 상품은 결과에서 제외한다")
+        void getRankings_skipsDeletedProducts() {
+            // given
+            LocalDateTime at = LocalDateTime.now();
+            when(rankingReader.findTop(RankingWindow.HOURLY, at, 0, 10)).thenReturn(List.of(
+                    new ProductRankingReader.RankedProduct(1L, 1, 3.0),
+                    new ProductRankingReader.RankedProduct(2L, 2, 2.0)));
+            when(productRepository.findAllActiveByIds(anyList())).thenReturn(List.of(createProduct(2L, 1L, "모자")));
+            when(brandRepository.findAllByIds(anyList())).thenReturn(List.of(createBrand(1L, "나이키")));
+
+            // when
+            PageResult<RankingUseCase.RankingInfo> result = service.getRankings("hourly", at, 0, 10);
+
+            // then
+            assertThat(result.content()).extracting(RankingUseCase.RankingInfo::rank).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 기간이나 범위를 벗어난 크기는 예외")
+        void getRankings_fail_invalidRequest() {
+            assertThatThrownBy(() -> service.getRankings("weekly", LocalDateTime.now(), 0, 20))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> service.getRankings("daily", LocalDateTime.now(), 0, 101))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("현재 순위 조회")
+    class GetCurrentRank {
+
+        @Test
+        @DisplayName("일간 순위를 반환한다")
+        void getCurrentRank_success() {
+            // given
+            when(rankingReader.findRank(eq(RankingWindow.DAILY), any(), eq(1L))).thenReturn(Optional.of(4L));
+
+            // when & then
+            assertThat(service.getCurrentRank(1L)).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("랭킹 저장소 장애 시 null 을 반환한다")
+        void getCurrentRank_redisDown() {
+            // given
+            when(rankingReader.findRank(any(), any(), any())).thenThrow(new IllegalStateException("redis down"));
+
+            // when & then
+            assertThat(service.getCurrentRank(1L)).isNull();
+        }
+    }
+
+    private Product createProduct(Long id, Long brandId, String name) {
+        return Product.reconstitute(new ProductData(id, brandId, ProductName.of(name), Price.of(10000),
+                null, Stock.of(100), 5, "설명",
+                LocalDateTime.now(), LocalDateTime.now(), null));
+    }
+
+    private Brand createBrand(Long id, String name) {
+        return Brand.reconstitute(new BrandData(id, BrandName.of(name), "설명",
+                LocalDateTime.now(), LocalDateTime.now(), null));
+    }
+}
@@ -3,6 +3,7 @@ package com.loopers.application.user;
 import com.loopers.domain.model.user.*;
 import com.loopers.domain.repository.UserRepository;
 import com.loopers.domain.service.PasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,12 +14,16 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class AuthenticationServiceTest {
 
     private UserRepository userRepository;
     private PasswordEncoder passwordEncoder;
+    private AuthenticatedPrincipalCache principalCache;
     private AuthenticationService service;
 
     private static final LocalDate BIRTHDAY = LocalDate.of(1990, 5, 15);
@@ -27,7 +32,8 @@ class AuthenticationServiceTest {
     void setUp() {
         userRepository = mock(UserRepository.class);
         passwordEncoder = mock(PasswordEncoder.class);
-        service = new AuthenticationService(userRepository, passwordEncoder);
+        principalCache = mock(AuthenticatedPrincipalCache.class);
+        service = new AuthenticationService(userRepository, passwordEncoder, principalCache, new SimpleMeterRegistry());
     }
 
     @Test
@@ -48,6 +54,21 @@ class AuthenticationServiceTest {
 
         verify(userRepository).findById(userId);
         verify(passwordEncoder).matches(rawPassword, encodedPassword);
+        verify(principalCache).put(eq(userId), eq(rawPassword), anyLong());
+    }
+
+    @Test
+    @DisplayName("최근에 검증한 자격 증명은 사용자 조회와 해시 없이 통과한다")
+    void authenticate_cacheHit() {
+        // given
+        UserId userId = UserId.of("test1234");
+        when(principalCache.contains(userId, "Password1!")).thenReturn(true);
+
+        // when & then
+        assertThatNoException()
+                .isThrownBy(() -> service.authenticate(userId, "Password1!"));
+
+        verifyNoInteractions(userRepository, passwordEncoder);
     }
 
     @Test
@@ -80,6 +101,7 @@ class AuthenticationServiceTest {
         assertThatThrownBy(() -> service.authenticate(userId, wrongPassword))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("아이디 또는 비밀번호가 올바르지 않습니다");
+        verify(principalCache, never()).put(any(), any(), anyLong());
     }
 
     private User createUser(UserId userId, String encodedPassword) {
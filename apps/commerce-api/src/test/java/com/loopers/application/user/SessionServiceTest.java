@@ -0,0 +1,115 @@
+package com.loopers.application.user;
+
+import com.loopers.domain.model.user.UserId;
+import com.loopers.infrastructure.security.HmacSessionTokenProvider;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SessionServiceTest {
+
+    private static final String SECRET = "session-secret-for-unit-test-0123456789";
+
+    private AuthenticationUseCase authenticationUseCase;
+    private SessionRevocationStore revocationStore;
+    private SessionService service;
+
+    private final UserId userId = UserId.of("test1234");
+
+    @BeforeEach
+    void setUp() {
+        authenticationUseCase = mock(AuthenticationUseCase.class);
+        revocationStore = mock(SessionRevocationStore.class);
+        service = new SessionService(authenticationUseCase, new HmacSessionTokenProvider(SECRET),
+                revocationStore, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("발급한 토큰으로 사용자를 확인한다")
+    void authenticate_success() {
+        // given
+        String token = service.login(userId, "Password1!").token();
+
+        // when
+        UserId authenticated = service.authenticate(token);
+
+        // then
+        assertThat(authenticated).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 토큰을 발급하지 않는다")
+    void login_fail_wrongPassword() {
+        // given
+        doThrow(new IllegalArgumentException("아이디 또는 비밀번호가 올바르지 않습니다."))
+                .when(authenticationUseCase).authenticate(userId, "Wrong1!");
+
+        // when & then
+        assertThatThrownBy(() -> service.login(userId, "Wrong1!"))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("변조된 토큰은 거절한다")
+    void authenticate_fail_tampered() {
+        // given
+        String token = service.login(userId, "Password1!").token();
+        String otherPayload = new HmacSessionTokenProvider(SECRET.replace('0', '9'))
+                .issue(new SessionTokenProvider.SessionClaims(UserId.of("other123"), Long.MAX_VALUE, 0));
+        String forged = otherPayload.substring(0, otherPayload.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        // when & then
+        assertThatThrownBy(() -> service.authenticate(forged))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 거절한다")
+    void authenticate_fail_expired() {
+        // given
+        SessionService shortLived = new SessionService(authenticationUseCase, new HmacSessionTokenProvider(SECRET),
+                revocationStore, Duration.ofSeconds(-1));
+        String token = shortLived.login(userId, "Password1!").token();
+
+        // when & then
+        assertThatThrownBy(() -> shortLived.authenticate(token))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("폐기 세대가 올라가면 이전에 발급한 토큰은 거절한다")
+    void authenticate_fail_revoked() {
+        // given
+        String token = service.login(userId, "Password1!").token();
+        when(revocationStore.currentEpoch(userId)).thenReturn(1L);
+
+        // when & then
+        assertThatThrownBy(() -> service.authenticate(token))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("로그인 시 폐기 세대를 원본 저장소에서 읽어, 폐기 메시지를 받기 전인 Pod 에서도 최신 세대로 발급한다")
+    void login_usesAuthoritativeEpoch() {
+        // given - 다른 Pod 에서 폐기되었지만 이 Pod 의 사본은 아직 0 인 상황
+        when(revocationStore.loadEpoch(userId)).thenReturn(1L);
+        String token = service.login(userId, "Password1!").token();
+        when(revocationStore.currentEpoch(userId)).thenReturn(1L);
+
+        // when
+        UserId authenticated = service.authenticate(token);
+
+        // then
+        assertThat(authenticated).isEqualTo(userId);
+        verify(revocationStore).loadEpoch(userId);
+    }
+}
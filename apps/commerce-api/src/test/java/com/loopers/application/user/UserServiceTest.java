@@ -23,6 +23,8 @@ class UserServiceTest {
 
     private UserRepository userRepository;
     private PasswordEncoder passwordEncoder;
+    private AuthenticatedPrincipalCache principalCache;
+    private SessionRevocationStore sessionRevocationStore;
     private UserService service;
 
     private static final LocalDate BIRTHDAY = LocalDate.of(1990, 5, 15);
@@ -31,7 +33,9 @@ class UserServiceTest {
     void setUp() {
         userRepository = mock(UserRepository.class);
         passwordEncoder = mock(PasswordEncoder.class);
-        service = new UserService(userRepository, passwordEncoder);
+        principalCache = mock(AuthenticatedPrincipalCache.class);
+        sessionRevocationStore = mock(SessionRevocationStore.class);
+        service = new UserService(userRepository, passwordEncoder, principalCache, sessionRevocationStore);
     }
 
     @Nested
@@ -102,6 +106,8 @@ class UserServiceTest {
                     .isThrownBy(() -> service.updatePassword(userId, currentRawPassword, newRawPassword));
 
             verify(userRepository).save(any(User.class));
+            verify(principalCache).invalidate(userId);
+            verify(sessionRevocationStore).revoke(userId);
         }
 
         @Test
@@ -0,0 +1,111 @@
+package com.loopers.concurrency;
+
+import com.loopers.application.like.LikeCountBuffer;
+import com.loopers.application.like.LikeCountFlusher;
+import com.loopers.domain.model.product.Product;
+import com.loopers.domain.repository.ProductRepository;
+import com.loopers.interfaces.api.brand.dto.BrandCreateRequest;
+import com.loopers.interfaces.api.product.dto.ProductCreateRequest;
+import com.loopers.testcontainers.PostgreSQLTestContainersConfig;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import({PostgreSQLTestContainersConfig.class, RedisTestContainersConfig.class})
+class LikeCountWriteBehindTest {
+
+    @Autowired private TestRestTemplate restTemplate;
+    @Autowired private DatabaseCleanUp databaseCleanUp;
+    @Autowired private RedisCleanUp redisCleanUp;
+    @Autowired private LikeCountBuffer likeCountBuffer;
+    @Autowired private LikeCountFlusher likeCountFlusher;
+    @Autowired private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+        createBrand("나이키", "스포츠");
+        createProduct(1L, "운동화", 50000, 100);
+    }
+
+    @Test
+    @DisplayName("동시에 적재된 변화량은 플러시 한 번으로 합산되어 반영된다")
+    void concurrent_deltas_are_coalesced() throws InterruptedException {
+        // given
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            int delta = i % 5 == 0 ? -1 : 1;
+            executorService.submit(() -> {
+                try {
+                    likeCountBuffer.add(1L, delta);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        likeCountFlusher.flush();
+
+        // then - 40번 증가, 10번 감소
+        Product product = productRepository.findById(1L).orElseThrow();
+        assertThat(product.getLikeCount()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("반영 도중 중단된 묶음은 다음 플러시에서 다시 반영된다")
+    void unfinished_batch_is_recovered() {
+        // given - 묶음을 가져간 뒤 완료하지 못한 상황
+        likeCountBuffer.add(1L, 1);
+        likeCountBuffer.add(1L, 1);
+        likeCountBuffer.claim();
+        likeCountBuffer.add(1L, 1);
+
+        // when
+        likeCountFlusher.flush();
+        likeCountFlusher.flush();
+
+        // then
+        Product product = productRepository.findById(1L).orElseThrow();
+        assertThat(product.getLikeCount()).isEqualTo(3);
+    }
+
+    private HttpHeaders createAdminHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Loopers-Ldap", "loopers.admin");
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+
+    private void createBrand(String name, String description) {
+        var request = new BrandCreateRequest(name, description);
+        restTemplate.exchange("/api-admin/v1/brands", HttpMethod.POST,
+                new HttpEntity<>(request, createAdminHeaders()), Void.class);
+    }
+
+    private void createProduct(Long brandId, String name, int price, int stock) {
+        var request = new ProductCreateRequest(brandId, name, price, null, stock, "설명");
+        restTemplate.exchange("/api-admin/v1/products", HttpMethod.POST,
+                new HttpEntity<>(request, createAdminHeaders()), Void.class);
+    }
+}
@@ -1,5 +1,6 @@
 package com.loopers.domain.model.order;
 
+import com.loopers.domain.model.order.event.PaymentCompletedEvent;
 import com.loopers.domain.model.user.UserId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 class OrderTest {
 
@@ -190,4 +192,32 @@ class OrderTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("배송지를 변경할 수 없습니다");
     }
+
+    @Test
+    @DisplayName("결제 완료 이벤트는 항목별 할인 배분액을 담고, 배분액 합계는 할인액과 같다")
+    void completePayment_apportionsDiscount() {
+        List<OrderLine> orderLines = List.of(
+                new OrderLine(1L, "상품A", Money.of(10000), 1),
+                new OrderLine(2L, "상품B", Money.of(10000), 1),
+                new OrderLine(3L, "상품C", Money.of(10000), 1)
+        );
+        DeliveryInfo deliveryInfo = DeliveryInfo.of("홍길동", "서울시", null, null);
+        Order pending = Order.create(UserId.of("testuser1"), orderLines, deliveryInfo,
+                PaymentMethod.CARD, Money.of(1000), null);
+
+        Order completed = pending.completePayment();
+
+        PaymentCompletedEvent event = (PaymentCompletedEvent) completed.getDomainEvents().get(0);
+        assertThat(event.paymentAmount()).isEqualTo(29000);
+        assertThat(event.items())
+                .extracting(PaymentCompletedEvent.PaidItem::productId, PaymentCompletedEvent.PaidItem::discountShare)
+                .containsExactly(
+                        tuple(1L, 334),
+                        tuple(2L, 333),
+                        tuple(3L, 333));
+        int netTotal = event.items().stream()
+                .mapToInt(item -> item.unitPrice() * item.quantity() - item.discountShare())
+                .sum();
+        assertThat(netTotal).isEqualTo(event.paymentAmount());
+    }
 }
@@ -0,0 +1,116 @@
+package com.loopers.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TwoTierCacheTest {
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private Cache remote;
+    private NearCacheInvalidationPublisher publisher;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        local = Caffeine.newBuilder().maximumSize(100).build();
+        remote = spy(new ConcurrentMapCache("product"));
+        publisher = mock(NearCacheInvalidationPublisher.class);
+        cache = new TwoTierCache("product", local, remote, publisher);
+    }
+
+    @Test
+    @DisplayName("L1 에 값이 있으면 Redis 를 조회하지 않는다")
+    void get_localHit_skipsRemote() {
+        // given
+        cache.put(1L, "운동화");
+        clearInvocations(remote);
+
+        // when
+        Cache.ValueWrapper result = cache.get(1L);
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.get()).isEqualTo("운동화");
+        verify(remote, never()).get(any());
+    }
+
+    @Test
+    @DisplayName("L1 miss 시 L2 에서 찾은 값을 L1 에 채운다")
+    void get_remoteHit_populatesLocal() {
+        // given
+        remote.put(1L, "운동화");
+
+        // when
+        cache.get(1L);
+
+        // then
+        assertThat(local.getIfPresent("1")).isEqualTo("운동화");
+    }
+
+    @Test
+    @DisplayName("L2 저장이 실패하면 L1 에도 저장하지 않는다")
+    void put_remoteFailure_doesNotPopulateLocal() {
+        // given
+        doThrow(new IllegalStateException("redis down")).when(remote).put(any(), any());
+
+        // when & then
+        assertThatThrownBy(() -> cache.put(1L, "운동화"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(local.getIfPresent("1")).isNull();
+    }
+
+    @Test
+    @DisplayName("evict 시 L1, L2 를 비우고 다른 Pod 에 무효화를 전파한다")
+    void evict_clearsBothTiersAndPublishes() {
+        // given
+        cache.put(1L, "운동화");
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(local.getIfPresent("1")).isNull();
+        assertThat(remote.get(1L)).isNull();
+        verify(publisher).publishEvict(eq("product"), eq("1"));
+    }
+
+    @Test
+    @DisplayName("clear 시 전체 무효화를 전파한다")
+    void clear_publishesClear() {
+        // given
+        cache.put(1L, "운동화");
+        cache.put(2L, "슬리퍼");
+
+        // when
+        cache.clear();
+
+        // then
+        assertThat(local.estimatedSize()).isZero();
+        verify(publisher).publishClear("product");
+    }
+
+    @Test
+    @DisplayName("무효화 메시지 수신 시 L1 만 비우고 L2 는 유지한다")
+    void evictLocal_keepsRemote() {
+        // given
+        cache.put(1L, "운동화");
+
+        // when
+        cache.evictLocal("1");
+
+        // then
+        assertThat(local.getIfPresent("1")).isNull();
+        assertThat(remote.get(1L)).isNotNull();
+        verify(publisher, never()).publishEvict(any(), any());
+    }
+}
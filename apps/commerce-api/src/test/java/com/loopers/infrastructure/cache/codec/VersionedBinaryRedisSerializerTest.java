@@ -0,0 +1,85 @@
+package com.loopers.infrastructure.cache.codec;
+
+import com.loopers.application.product.ProductQueryUseCase.ProductDetailInfo;
+import com.loopers.application.product.ProductQueryUseCase.ProductSummaryInfo;
+import com.loopers.domain.model.common.PageResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VersionedBinaryRedisSerializerTest {
+
+    private final VersionedBinaryRedisSerializer<ProductDetailInfo> detailSerializer =
+            new VersionedBinaryRedisSerializer<>(new ProductDetailInfoCodec());
+    private final VersionedBinaryRedisSerializer<PageResult<ProductSummaryInfo>> pageSerializer =
+            new VersionedBinaryRedisSerializer<>(new ProductSummaryPageCodec());
+
+    @Test
+    @DisplayName("상품 상세를 직렬화 후 역직렬화하면 원래 값과 같다 (null 필드 포함)")
+    void detail_roundTrip() {
+        // given
+        ProductDetailInfo detail = new ProductDetailInfo(1L, 2L, "나이키", "운동화",
+                50000, null, false, 10, 3, null);
+
+        // when
+        ProductDetailInfo result = detailSerializer.deserialize(detailSerializer.serialize(detail));
+
+        // then
+        assertThat(result).isEqualTo(detail);
+    }
+
+    @Test
+    @DisplayName("상품 목록 페이지를 직렬화 후 역직렬화하면 원래 값과 같다")
+    void page_roundTrip() {
+        // given
+        PageResult<ProductSummaryInfo> page = new PageResult<>(List.of(
+                new ProductSummaryInfo(1L, 2L, "나이키", "운동화", 50000, 45000, true, 7),
+                new ProductSummaryInfo(2L, 2L, "나이키", "슬리퍼", 30000, null, false, -1)
+        ), 0, 20, 2, 1);
+
+        // when
+        PageResult<ProductSummaryInfo> result = pageSerializer.deserialize(pageSerializer.serialize(page));
+
+        // then
+        assertThat(result).isEqualTo(page);
+    }
+
+    @Test
+    @DisplayName("배포 전 JSON 포맷으로 저장된 값은 캐시 miss(null) 로 처리한다")
+    void legacyJson_isIgnored() {
+        // given
+        byte[] legacy = "{\"@class\":\"com.loopers.application.product.ProductQueryUseCase$ProductDetailInfo\"}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThat(detailSerializer.deserialize(legacy)).isNull();
+    }
+
+    @Test
+    @DisplayName("스키마 버전이 다르면 캐시 miss(null) 로 처리한다")
+    void otherSchemaVersion_isIgnored() {
+        // given
+        byte[] bytes = detailSerializer.serialize(new ProductDetailInfo(1L, 2L, "나이키", "운동화",
+                50000, null, false, 10, 3, "설명"));
+        byte[] otherVersion = Arrays.copyOf(bytes, bytes.length);
+        otherVersion[2] = (byte) (otherVersion[2] + 1);
+
+        // when & then
+        assertThat(detailSerializer.deserialize(otherVersion)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 코덱으로 저장된 값은 캐시 miss(null) 로 처리한다")
+    void otherCodec_isIgnored() {
+        // given
+        byte[] pageBytes = pageSerializer.serialize(new PageResult<>(List.of(), 0, 20, 0, 0));
+
+        // when & then
+        assertThat(detailSerializer.deserialize(pageBytes)).isNull();
+    }
+}
@@ -0,0 +1,117 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.application.order.OrderQueryUseCase.OrderExportRow;
+import com.loopers.application.order.OrderQueryUseCase.OrderSummary;
+import com.loopers.application.order.OrderSearchCondition;
+import com.loopers.domain.model.user.UserId;
+import com.loopers.testcontainers.PostgreSQLTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영과 같이 JVM 시간대가 UTC 가 아닐 때, JDBC 요약 조회가 JPA 와 같은 시각을 읽고 같은 기간으로 거르는지 확인한다.
+ */
+@SpringBootTest
+@Import(PostgreSQLTestContainersConfig.class)
+class JdbcOrderSummaryReaderTest {
+
+    private static final String USER_ID = "test1234";
+    // KST 로는 10/15 새벽이지만 UTC 로는 10/14 에 해당하는 시각
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 15, 1, 30);
+
+    private static TimeZone originalTimeZone;
+
+    @Autowired private DatabaseCleanUp databaseCleanUp;
+    @Autowired private JdbcOrderSummaryReader orderSummaryReader;
+    @Autowired private OrderJpaRepository orderJpaRepository;
+
+    private Long orderId;
+
+    @BeforeAll
+    static void useKst() {
+        originalTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+    }
+
+    @AfterAll
+    static void restoreTimeZone() {
+        TimeZone.setDefault(originalTimeZone);
+    }
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanUp.truncateAllTables();
+        orderId = orderJpaRepository.save(new OrderJpaEntity(null, USER_ID, new ArrayList<>(), null,
+                "홍길동", "서울시 강남구", null, "POINT", 10000, 0, 10000,
+                "PAYMENT_COMPLETED", null, null, CREATED_AT, CREATED_AT)).getId();
+    }
+
+    @Test
+    @DisplayName("JDBC 로 읽은 주문 시각이 JPA 로 읽은 시각과 같다")
+    void createdAt_matchesJpa() {
+        // given
+        LocalDateTime jpaCreatedAt = orderJpaRepository.findById(orderId).orElseThrow().getCreatedAt();
+
+        // when
+        List<OrderSummary> summaries = orderSummaryReader.findAllByUserId(UserId.of(USER_ID));
+        List<OrderExportRow> exported = new ArrayList<>();
+        orderSummaryReader.streamAll(new OrderSearchCondition(null, null, null), exported::add);
+
+        // then
+        assertThat(jpaCreatedAt).isEqualTo(CREATED_AT);
+        assertThat(summaries).extracting(OrderSummary::createdAt).containsExactly(jpaCreatedAt);
+        assertThat(exported).extracting(OrderExportRow::createdAt).containsExactly(jpaCreatedAt);
+    }
+
+    @Test
+    @DisplayName("기간 조건은 JVM 시간대 기준 날짜로 적용된다")
+    void dateRange_usesJvmTimeZone() {
+        // given
+        OrderSearchCondition sameDay = OrderSearchCondition.of(null, LocalDate.of(2026, 10, 15), LocalDate.of(2026, 10, 15));
+        OrderSearchCondition previousDay = OrderSearchCondition.of(null, LocalDate.of(2026, 10, 14), LocalDate.of(2026, 10, 14));
+
+        // when
+        List<OrderSummary> inRange = orderSummaryReader.findAllByUserIdAndDateRange(
+                UserId.of(USER_ID), sameDay.startAt(), sameDay.endAt());
+        List<OrderSummary> outOfRange = orderSummaryReader.findAllByUserIdAndDateRange(
+                UserId.of(USER_ID), previousDay.startAt(), previousDay.endAt());
+
+        // then
+        assertThat(inRange).extracting(OrderSummary::id).containsExactly(orderId);
+        assertThat(outOfRange).isEmpty();
+        assertThat(orderSummaryReader.findAll(sameDay, 0, 20).content()).extracting(OrderSummary::id).containsExactly(orderId);
+        assertThat(orderSummaryReader.findAll(previousDay, 0, 20).content()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서의 시각도 같은 시간대로 비교해 다음 페이지에서 누락되거나 중복되지 않는다")
+    void cursor_roundTrips() {
+        // given
+        Long secondId = orderJpaRepository.save(new OrderJpaEntity(null, USER_ID, new ArrayList<>(), null,
+                "홍길동", "서울시 강남구", null, "POINT", 10000, 0, 10000,
+                "PAYMENT_COMPLETED", null, null, CREATED_AT.plusMinutes(1), CREATED_AT.plusMinutes(1))).getId();
+
+        // when
+        var first = orderSummaryReader.findByUserIdAfter(UserId.of(USER_ID), null, null, null, 1);
+        var second = orderSummaryReader.findByUserIdAfter(UserId.of(USER_ID), null, null, first.nextCursor(), 1);
+
+        // then
+        assertThat(first.content()).extracting(OrderSummary::id).containsExactly(secondId);
+        assertThat(second.content()).extracting(OrderSummary::id).containsExactly(orderId);
+    }
+}
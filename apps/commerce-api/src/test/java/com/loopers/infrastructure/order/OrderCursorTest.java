@@ -0,0 +1,56 @@
+package com.loopers.infrastructure.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OrderCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 주문 시각과 id 가 복원된다")
+    void encodeAndDecode() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123_456_000);
+        OrderCursor cursor = new OrderCursor(createdAt, 42L);
+
+        // when
+        OrderCursor decoded = OrderCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.createdAt()).isEqualTo(createdAt);
+        assertThat(decoded.id()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("초 단위가 0 인 시각도 복원된다")
+    void encodeAndDecode_zeroSeconds() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4);
+
+        // when
+        OrderCursor decoded = OrderCursor.decode(new OrderCursor(createdAt, 1L).encode());
+
+        // then
+        assertThat(decoded.createdAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거부한다")
+    void decode_malformed() {
+        // given
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("not-a-date|1".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThatThrownBy(() -> OrderCursor.decode(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> OrderCursor.decode("not-a-cursor!!"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
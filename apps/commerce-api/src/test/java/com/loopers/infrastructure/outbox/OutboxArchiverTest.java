@@ -0,0 +1,79 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.testcontainers.PostgreSQLTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(PostgreSQLTestContainersConfig.class)
+class OutboxArchiverTest {
+
+    @Autowired private DatabaseCleanUp databaseCleanUp;
+    @Autowired private OutboxArchiver outboxArchiver;
+    @Autowired private OutboxJpaRepository outboxRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    // 스케줄러가 실제 Kafka 로 발행하지 않도록 대체
+    @MockitoBean private OutboxEventPublisher scheduledPublisher;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 PUBLISHED 행만 삭제하고 PENDING 과 최근 발행 행은 남긴다")
+    void archive_deletesOnlyExpiredPublished() {
+        // given
+        Long expired = save("1");
+        Long recent = save("2");
+        Long pending = save("3");
+        outboxRepository.markPublished(List.of(expired, recent), LocalDateTime.now());
+        jdbcTemplate.update("UPDATE outbox_events SET published_at = now() - interval '8 days' WHERE id = ?", expired);
+
+        // when
+        int deleted = outboxArchiver.archive();
+
+        // then
+        List<Long> remaining = jdbcTemplate.queryForList("SELECT id FROM outbox_events", Long.class);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(remaining).containsExactlyInAnyOrder(recent, pending);
+    }
+
+    @Test
+    @DisplayName("청크 크기를 넘는 대상도 한 번의 실행에서 모두 정리한다")
+    void archive_deletesAcrossChunks() {
+        // given
+        jdbcTemplate.update("""
+                INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, topic, partition_key,
+                                           payload, status, created_at, published_at)
+                SELECT 'ORDER', g::text, 'ORDER_CREATED', 'order-events', g::text, '{}', 'PUBLISHED',
+                       now() - interval '10 days', now() - interval '10 days'
+                  FROM generate_series(1, 2500) g
+                """);
+
+        // when
+        int deleted = outboxArchiver.archive();
+
+        // then
+        assertThat(deleted).isEqualTo(2500);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    private Long save(String key) {
+        return outboxRepository.save(
+                new OutboxJpaEntity("ORDER", key, "ORDER_CREATED", "order-events", key, "{}")).getId();
+    }
+}
@@ -0,0 +1,98 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OutboxBatchSenderTest {
+
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+    private OutboxBatchSender sender;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        sender = new OutboxBatchSender(kafkaTemplate, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("모든 send 가 성공하면 전체 ID 를 반환한다")
+    void send_allSucceeded() {
+        // given
+        when(kafkaTemplate.send(anyString(), any(), any())).thenReturn(succeeded());
+
+        // when
+        List<Long> published = sender.send(List.of(
+                record(1L, "catalog-events", "10"),
+                record(2L, "order-events", "20"),
+                record(3L, "catalog-events", "10")));
+
+        // then
+        assertThat(published).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("레인에서 실패한 이벤트 이후는 발행 완료로 치지 않고, 다른 레인은 영향을 받지 않는다")
+    void send_failedLaneIsIsolated() {
+        // given
+        when(kafkaTemplate.send(eq("catalog-events"), eq("10"), any()))
+                .thenReturn(succeeded())
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .thenReturn(succeeded());
+        when(kafkaTemplate.send(eq("catalog-events"), eq("11"), any())).thenReturn(succeeded());
+        when(kafkaTemplate.send(eq("order-events"), anyString(), any())).thenReturn(succeeded());
+
+        // when
+        List<Long> published = sender.send(List.of(
+                record(1L, "catalog-events", "10"),
+                record(2L, "catalog-events", "10"),
+                record(3L, "order-events", "20"),
+                record(4L, "catalog-events", "10"),
+                record(5L, "catalog-events", "11")));
+
+        // then
+        assertThat(published).containsExactlyInAnyOrder(1L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("실패한 레인은 백오프 동안 건너뛰고, 같은 토픽의 다른 레인은 계속 발행한다")
+    void send_backsOffFailedLane() {
+        // given
+        when(kafkaTemplate.send(eq("catalog-events"), eq("10"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        when(kafkaTemplate.send(eq("catalog-events"), eq("11"), any())).thenReturn(succeeded());
+        sender.send(List.of(record(1L, "catalog-events", "10")));
+
+        // when
+        List<Long> published = sender.send(List.of(
+                record(1L, "catalog-events", "10"),
+                record(2L, "catalog-events", "11")));
+
+        // then
+        assertThat(published).containsExactly(2L);
+        verify(kafkaTemplate, times(1)).send(eq("catalog-events"), eq("10"), any());
+        assertThat(sender.backingOffLanes())
+                .containsExactly(new OutboxBatchSender.Lane("catalog-events", "10"));
+    }
+
+    private CompletableFuture<SendResult<Object, Object>> succeeded() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private OutboxRecord record(Long id, String topic, String key) {
+        return new OutboxRecord(id, "PRODUCT_LIKED", topic, key, "{\"productId\":" + key + "}");
+    }
+}
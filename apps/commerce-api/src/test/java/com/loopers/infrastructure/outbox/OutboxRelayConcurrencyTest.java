@@ -0,0 +1,223 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.testcontainers.PostgreSQLTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@Import(PostgreSQLTestContainersConfig.class)
+class OutboxRelayConcurrencyTest {
+
+    private static final int EVENT_COUNT = 2000;
+    private static final int KEY_COUNT = 50;
+
+    @Autowired private DatabaseCleanUp databaseCleanUp;
+    @Autowired private OutboxClaimer outboxClaimer;
+    @Autowired private OutboxJpaRepository outboxRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    // 스케줄러가 실제 Kafka 로 발행하지 않도록 대체
+    @MockitoBean private OutboxEventPublisher scheduledPublisher;
+
+    private Queue<OutboxRecord> sent;
+    private OutboxBatchSender sender;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        databaseCleanUp.truncateAllTables();
+        sent = new ConcurrentLinkedQueue<>();
+        sender = mock(OutboxBatchSender.class);
+        when(sender.send(anyList())).thenAnswer(invocation -> {
+            List<OutboxRecord> records = invocation.getArgument(0);
+            sent.addAll(records);
+            return records.stream().map(OutboxRecord::id).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("여러 릴레이가 동시에 폴링해도 모든 이벤트가 한 번씩, 키별 순서대로 발행된다")
+    void concurrent_relays_drain_without_duplicates() throws InterruptedException {
+        // given
+        List<OutboxJpaEntity> events = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            events.add(new OutboxJpaEntity("PRODUCT", String.valueOf(i % KEY_COUNT), "PRODUCT_LIKED",
+                    "catalog-events", String.valueOf(i % KEY_COUNT), "{}"));
+        }
+        outboxRepository.saveAll(events);
+
+        int relayCount = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(relayCount);
+        CountDownLatch latch = new CountDownLatch(relayCount);
+
+        // when
+        for (int i = 0; i < relayCount; i++) {
+            OutboxEventPublisher relay = new OutboxEventPublisher(outboxClaimer, outboxRepository, sender);
+            executorService.submit(() -> {
+                try {
+                    for (int round = 0; round < 50 && pendingCount() > 0; round++) {
+                        relay.publishPendingEvents();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        List<Long> sentIds = sent.stream().map(OutboxRecord::id).toList();
+        assertThat(pendingCount()).isZero();
+        assertThat(sentIds).hasSize(EVENT_COUNT);
+        assertThat(new HashSet<>(sentIds)).hasSize(EVENT_COUNT);
+
+        Map<String, List<Long>> idsByKey = new LinkedHashMap<>();
+        for (OutboxRecord record : sent) {
+            idsByKey.computeIfAbsent(record.partitionKey(), key -> new ArrayList<>()).add(record.id());
+        }
+        assertThat(idsByKey).hasSize(KEY_COUNT);
+        idsByKey.values().forEach(ids -> assertThat(ids).isSorted());
+    }
+
+    @Test
+    @DisplayName("임대 중인 레인은 다른 릴레이가 가져가지 않고, 임대가 만료되면 다시 가져간다")
+    void expired_lease_is_reclaimed() {
+        // given - relay-a 가 임대한 뒤 발행하지 못하고 멈춘 상황
+        outboxRepository.save(new OutboxJpaEntity("ORDER", "1", "ORDER_CREATED", "order-events", "1", "{}"));
+        outboxRepository.save(new OutboxJpaEntity("ORDER", "1", "ORDER_PAID", "order-events", "1", "{}"));
+        assertThat(outboxClaimer.claim("relay-a", 500)).hasSize(2);
+
+        // when
+        List<OutboxJpaEntity> whileLeased = outboxClaimer.claim("relay-b", 500);
+        // 임대 시각은 UTC 로 저장되므로(jpa.yml) 세션 시간대가 아닌 UTC 기준으로 만료시킨다
+        jdbcTemplate.update("UPDATE outbox_events SET lease_expires_at = (now() AT TIME ZONE 'UTC') - interval '1 second'");
+        List<OutboxJpaEntity> afterExpiry = outboxClaimer.claim("relay-b", 500);
+
+        // then
+        assertThat(whileLeased).isEmpty();
+        Set<String> owners = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT lease_owner FROM outbox_events", String.class));
+        assertThat(afterExpiry).hasSize(2);
+        assertThat(owners).containsExactly("relay-b");
+    }
+
+    @Test
+    @DisplayName("한 묶음에는 레인당 최대 건수까지만 담아, 밀린 레인이 다른 레인을 밀어내지 않는다")
+    void claim_capsRowsPerLane() {
+        // given - 한 키에 60건이 밀려 있고 다른 키에 1건
+        for (int i = 0; i < 60; i++) {
+            outboxRepository.save(new OutboxJpaEntity("ORDER", "1", "ORDER_CREATED", "order-events", "1", "{}"));
+        }
+        outboxRepository.save(new OutboxJpaEntity("ORDER", "2", "ORDER_CREATED", "order-events", "2", "{}"));
+
+        // when
+        List<OutboxJpaEntity> claimed = outboxClaimer.claim("relay-a", 500);
+
+        // then - 키 1 은 레인 상한(50건)까지만 담기고 나머지는 다음 주기로 넘어간다
+        assertThat(claimed).extracting(OutboxJpaEntity::getPartitionKey).contains("2");
+        assertThat(claimed).filteredOn(e -> e.getPartitionKey().equals("1")).hasSize(50);
+    }
+
+    @Test
+    @DisplayName("백오프 중인 레인은 임대를 풀어 다른 릴레이가 가져갈 수 있다")
+    void backingOffLane_isReleased() {
+        // given
+        outboxRepository.save(new OutboxJpaEntity("ORDER", "1", "ORDER_CREATED", "order-events", "1", "{}"));
+        outboxRepository.save(new OutboxJpaEntity("ORDER", "2", "ORDER_CREATED", "order-events", "2", "{}"));
+        assertThat(outboxClaimer.claim("relay-a", 500)).hasSize(2);
+
+        // when
+        List<OutboxJpaEntity> relayA = outboxClaimer.claim("relay-a", 500,
+                Set.of(new OutboxBatchSender.Lane("order-events", "1")));
+        List<OutboxJpaEntity> relayB = outboxClaimer.claim("relay-b", 500);
+
+        // then
+        assertThat(relayA).extracting(OutboxJpaEntity::getPartitionKey).containsExactly("2");
+        assertThat(relayB).extracting(OutboxJpaEntity::getPartitionKey).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("스트림으로 받은 행은 이미 발행됐으면 빠지고, 앞선 행이 다른 릴레이에 임대 중이면 대기한다")
+    void claimStreamed_skipsPublishedAndWaitsForLeasedLane() {
+        // given - 키 1 은 relay-a 가 임대 중, 키 2 는 이미 발행됨, 키 3 은 새 행
+        OutboxJpaEntity leasedHead = outboxRepository.save(
+                new OutboxJpaEntity("ORDER", "1", "ORDER_CREATED", "order-events", "1", "{}"));
+        assertThat(outboxClaimer.claim("relay-a", 500)).hasSize(1);
+        OutboxJpaEntity sameLane = outboxRepository.save(
+                new OutboxJpaEntity("ORDER", "1", "ORDER_PAID", "order-events", "1", "{}"));
+        OutboxJpaEntity published = outboxRepository.save(
+                new OutboxJpaEntity("ORDER", "2", "ORDER_CREATED", "order-events", "2", "{}"));
+        outboxRepository.markPublished(List.of(published.getId()), LocalDateTime.now());
+        OutboxJpaEntity fresh = outboxRepository.save(
+                new OutboxJpaEntity("ORDER", "3", "ORDER_CREATED", "order-events", "3", "{}"));
+
+        // when
+        OutboxClaimer.StreamedClaim claim = outboxClaimer.claimStreamed("cdc-b",
+                List.of(leasedHead.getId(), sameLane.getId(), published.getId(), fresh.getId()));
+
+        // then
+        assertThat(claim.leased()).containsExactly(fresh.getId());
+        assertThat(claim.waiting()).containsExactly(leasedHead.getId(), sameLane.getId());
+        assertThat(outboxClaimer.claim("cdc-b", 500)).extracting(OutboxJpaEntity::getId)
+                .containsExactly(fresh.getId());
+    }
+
+    @Test
+    @DisplayName("백오프로 임대가 풀린 레인에 같은 키의 새 행이 스트림으로 오면, 앞선 행이 발행될 때까지 대기한다")
+    void claimStreamed_waitsBehindLaneInBackoff() {
+        // given - 키 1 의 앞선 행이 발행 실패로 백오프에 들어가 임대가 풀림
+        OutboxJpaEntity head = outboxRepository.save(
+                new OutboxJpaEntity("ORDER", "1", "ORDER_CREATED", "order-events", "1", "{}"));
+        assertThat(outboxClaimer.claim("cdc-a", 500)).hasSize(1);
+        assertThat(outboxClaimer.claim("cdc-a", 500,
+                Set.of(new OutboxBatchSender.Lane("order-events", "1")))).isEmpty();
+        OutboxJpaEntity streamed = outboxRepository.save(
+                new OutboxJpaEntity("ORDER", "1", "ORDER_PAID", "order-events", "1", "{}"));
+        OutboxJpaEntity sameBatch = outboxRepository.save(
+                new OutboxJpaEntity("ORDER", "1", "ORDER_PAID", "order-events", "1", "{}"));
+
+        // when
+        OutboxClaimer.StreamedClaim blocked = outboxClaimer.claimStreamed("cdc-a",
+                List.of(streamed.getId(), sameBatch.getId()));
+        outboxRepository.markPublished(List.of(head.getId()), LocalDateTime.now());
+        OutboxClaimer.StreamedClaim released = outboxClaimer.claimStreamed("cdc-a",
+                List.of(streamed.getId(), sameBatch.getId()));
+
+        // then
+        assertThat(blocked.leased()).isEmpty();
+        assertThat(blocked.waiting()).containsExactly(streamed.getId(), sameBatch.getId());
+        assertThat(released.leased()).containsExactly(streamed.getId(), sameBatch.getId());
+        assertThat(released.waiting()).isEmpty();
+    }
+
+    private long pendingCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM outbox_events WHERE status = 'PENDING'", Long.class);
+    }
+}
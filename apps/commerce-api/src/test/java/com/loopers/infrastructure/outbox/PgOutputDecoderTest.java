@@ -0,0 +1,138 @@
+package com.loopers.infrastructure.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PgOutputDecoderTest {
+
+    private static final List<String> COLUMNS = List.of(
+            "id", "aggregate_type", "aggregate_id", "event_type", "topic", "partition_key", "payload", "status");
+
+    private PgOutputDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new PgOutputDecoder();
+    }
+
+    @Test
+    @DisplayName("커밋 메시지를 받으면 트랜잭션에서 INSERT 된 이벤트를 순서대로 반환한다")
+    void decode_returnsInsertsOnCommit() throws IOException {
+        // given
+        decoder.decode(begin());
+        decoder.decode(relation(16384, "outbox_events"));
+        Optional<PgOutputDecoder.Commit> beforeCommit = decoder.decode(insert(16384, "1", "10", "PENDING"));
+        decoder.decode(insert(16384, "2", "11", "PENDING"));
+
+        // when
+        Optional<PgOutputDecoder.Commit> commit = decoder.decode(commit(0x2000L));
+
+        // then
+        assertThat(beforeCommit).isEmpty();
+        assertThat(commit).isPresent();
+        assertThat(commit.get().endLsn().asLong()).isEqualTo(0x2000L);
+        assertThat(commit.get().records())
+                .extracting(OutboxRecord::id, OutboxRecord::topic, OutboxRecord::partitionKey)
+                .containsExactly(
+                        tuple(1L, "catalog-events", "10"),
+                        tuple(2L, "catalog-events", "11"));
+    }
+
+    @Test
+    @DisplayName("다른 테이블이나 PENDING 이 아닌 행은 발행 대상에서 제외한다")
+    void decode_skipsNonPendingAndOtherTables() throws IOException {
+        // given
+        decoder.decode(begin());
+        decoder.decode(relation(16384, "outbox_events"));
+        decoder.decode(relation(16390, "outbox_events_backup"));
+        decoder.decode(insert(16384, "1", "10", "PUBLISHED"));
+        decoder.decode(insert(16390, "2", "10", "PENDING"));
+
+        // when
+        Optional<PgOutputDecoder.Commit> commit = decoder.decode(commit(0x3000L));
+
+        // then
+        assertThat(commit).isPresent();
+        assertThat(commit.get().records()).isEmpty();
+    }
+
+    private static ByteBuffer begin() throws IOException {
+        return message(out -> {
+            out.writeByte('B');
+            out.writeLong(0x1000L);
+            out.writeLong(0L);
+            out.writeInt(1);
+        });
+    }
+
+    private static ByteBuffer relation(int relationId, String table) throws IOException {
+        return message(out -> {
+            out.writeByte('R');
+            out.writeInt(relationId);
+            writeString(out, "public");
+            writeString(out, table);
+            out.writeByte('d');
+            out.writeShort(COLUMNS.size());
+            for (String column : COLUMNS) {
+                out.writeByte(0);
+                writeString(out, column);
+                out.writeInt(25);
+                out.writeInt(-1);
+            }
+        });
+    }
+
+    private static ByteBuffer insert(int relationId, String id, String key, String status) throws IOException {
+        List<String> values = List.of(id, "PRODUCT", key, "PRODUCT_LIKED", "catalog-events", key, "{}", status);
+        return message(out -> {
+            out.writeByte('I');
+            out.writeInt(relationId);
+            out.writeByte('N');
+            out.writeShort(values.size());
+            for (String value : values) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeByte('t');
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        });
+    }
+
+    private static ByteBuffer commit(long endLsn) throws IOException {
+        return message(out -> {
+            out.writeByte('C');
+            out.writeByte(0);
+            out.writeLong(endLsn - 8);
+            out.writeLong(endLsn);
+            out.writeLong(0L);
+        });
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.write(value.getBytes(StandardCharsets.UTF_8));
+        out.writeByte(0);
+    }
+
+    private static ByteBuffer message(MessageWriter writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writer.write(new DataOutputStream(bytes));
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    @FunctionalInterface
+    private interface MessageWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,135 @@
+package com.loopers.infrastructure.product;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class KafkaProductViewCounterTest {
+
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+    private KafkaProductViewCounter counter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        counter = new KafkaProductViewCounter(kafkaTemplate, 1.0);
+    }
+
+    @Test
+    @DisplayName("한 주기 동안의 조회는 상품당 메시지 하나로 합산되어 발행된다")
+    @SuppressWarnings("unchecked")
+    void flush_sendsOneMessagePerProduct() {
+        // given
+        when(kafkaTemplate.send(anyString(), any(), any())).thenReturn(succeeded());
+        for (int i = 0; i < 100; i++) {
+            counter.increment(1L);
+        }
+        counter.increment(2L);
+
+        // when
+        counter.flush();
+
+        // then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate).send(eq("catalog-events"), eq("1"), payload.capture());
+        verify(kafkaTemplate).send(eq("catalog-events"), eq("2"), any());
+        Map<String, Object> message = (Map<String, Object>) payload.getValue();
+        assertThat(message).containsEntry("eventType", "PRODUCT_VIEWED").containsEntry("count", 100L);
+    }
+
+    @Test
+    @DisplayName("발행에 실패한 조회수는 다음 주기에 합산되어 다시 발행된다")
+    @SuppressWarnings("unchecked")
+    void flush_restoresFailedCounts() {
+        // given
+        when(kafkaTemplate.send(anyString(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .thenReturn(succeeded());
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.flush();
+        counter.increment(1L);
+
+        // when
+        counter.flush();
+
+        // then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, times(2)).send(eq("catalog-events"), eq("1"), payload.capture());
+        assertThat((Map<String, Object>) payload.getValue()).containsEntry("count", 3L);
+    }
+
+    @Test
+    @DisplayName("발행 중에 들어온 조회는 유실되지 않고 다음 주기에 발행된다")
+    @SuppressWarnings("unchecked")
+    void flush_keepsIncrementsDuringSend() {
+        // given - 첫 발행 도중 같은 상품에 조회가 들어온 상황
+        when(kafkaTemplate.send(anyString(), any(), any()))
+                .thenAnswer(invocation -> {
+                    counter.increment(1L);
+                    return succeeded();
+                })
+                .thenReturn(succeeded());
+        counter.increment(1L);
+        counter.flush();
+
+        // when
+        counter.flush();
+
+        // then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, times(2)).send(eq("catalog-events"), eq("1"), payload.capture());
+        assertThat(payload.getAllValues()).extracting(value -> ((Map<String, Object>) value).get("count"))
+                .containsExactly(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("메시지마다 Outbox id 와 겹치지 않는 eventId 가 붙는다")
+    @SuppressWarnings("unchecked")
+    void flush_attachesEventId() {
+        // given
+        when(kafkaTemplate.send(anyString(), any(), any())).thenReturn(succeeded());
+        counter.increment(1L);
+        counter.flush();
+        counter.increment(1L);
+
+        // when
+        counter.flush();
+
+        // then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, times(2)).send(eq("catalog-events"), eq("1"), payload.capture());
+        List<Long> eventIds = payload.getAllValues().stream()
+                .map(value -> (Long) ((Map<String, Object>) value).get("eventId"))
+                .toList();
+        assertThat(eventIds).allMatch(id -> id < 0).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("조회가 없으면 아무것도 발행하지 않는다")
+    void flush_skipsEmptyWindow() {
+        // when
+        counter.flush();
+
+        // then
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    private CompletableFuture<SendResult<Object, Object>> succeeded() {
+        return CompletableFuture.completedFuture(null);
+    }
+}
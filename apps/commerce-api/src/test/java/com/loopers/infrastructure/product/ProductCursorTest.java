@@ -0,0 +1,45 @@
+package com.loopers.infrastructure.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProductCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 같은 정렬로 디코딩하면 정렬값과 id 가 복원된다")
+    void encodeAndDecode() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 600_000_000);
+        ProductCursor cursor = new ProductCursor(ProductCursorSort.LATEST, createdAt, 42L);
+
+        // when
+        ProductCursor decoded = ProductCursor.decode(cursor.encode(), ProductCursorSort.LATEST);
+
+        // then
+        assertThat(decoded.sortValue()).isEqualTo(createdAt);
+        assertThat(decoded.id()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("다른 정렬로 발급된 커서는 거부한다")
+    void decode_sortMismatch() {
+        // given
+        String token = new ProductCursor(ProductCursorSort.PRICE_ASC, 1000, 1L).encode();
+
+        // when & then
+        assertThatThrownBy(() -> ProductCursor.decode(token, ProductCursorSort.LIKES_DESC))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거부한다")
+    void decode_malformed() {
+        assertThatThrownBy(() -> ProductCursor.decode("not-a-cursor!!", ProductCursorSort.LATEST))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,90 @@
+package com.loopers.infrastructure.security;
+
+import com.loopers.domain.model.user.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CaffeineAuthenticatedPrincipalCacheTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private CaffeineAuthenticatedPrincipalCache cache;
+
+    private final UserId userId = UserId.of("test1234");
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        cache = new CaffeineAuthenticatedPrincipalCache(redisTemplate, mock(RedisMessageListenerContainer.class),
+                new SimpleMeterRegistry(), Duration.ofSeconds(30), 1000);
+    }
+
+    @Test
+    @DisplayName("기억한 자격 증명과 같은 비밀번호만 통과한다")
+    void contains_matchesOnlySamePassword() {
+        // given
+        cache.put(userId, "Password1!", cache.generation());
+
+        // when & then
+        assertThat(cache.contains(userId, "Password1!")).isTrue();
+        assertThat(cache.contains(userId, "Password2!")).isFalse();
+        assertThat(cache.contains(UserId.of("other123"), "Password1!")).isFalse();
+    }
+
+    @Test
+    @DisplayName("검증하는 사이에 무효화가 있었으면 기억하지 않는다")
+    void put_skipsWhenInvalidatedDuringVerification() {
+        // given
+        long generation = cache.generation();
+        cache.invalidate(userId);
+
+        // when
+        cache.put(userId, "Password1!", generation);
+
+        // then
+        assertThat(cache.contains(userId, "Password1!")).isFalse();
+    }
+
+    @Test
+    @DisplayName("무효화하면 자기 Pod 을 비우고 다른 Pod 에 전파한다")
+    void invalidate_clearsLocalAndPublishes() {
+        // given
+        cache.put(userId, "Password1!", cache.generation());
+
+        // when
+        cache.invalidate(userId);
+
+        // then
+        assertThat(cache.contains(userId, "Password1!")).isFalse();
+        verify(redisTemplate).convertAndSend(CaffeineAuthenticatedPrincipalCache.CHANNEL, "test1234");
+    }
+
+    @Test
+    @DisplayName("다른 Pod 의 무효화 메시지를 받으면 해당 유저만 비운다")
+    void onMessage_clearsOnlyThatUser() {
+        // given
+        UserId other = UserId.of("other123");
+        cache.put(userId, "Password1!", cache.generation());
+        cache.put(other, "Password1!", cache.generation());
+
+        // when
+        cache.onMessage(new DefaultMessage(
+                CaffeineAuthenticatedPrincipalCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "test1234".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(cache.contains(userId, "Password1!")).isFalse();
+        assertThat(cache.contains(other, "Password1!")).isTrue();
+    }
+}
@@ -5,6 +5,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class Sha256PasswordEncoderTest {
@@ -100,4 +104,30 @@ class Sha256PasswordEncoderTest {
         // then
         assertThat(result).isFalse();
     }
+
+    @Test
+    @DisplayName("기존 방식(문자열 결합 후 해시)으로 저장된 비밀번호와 호환된다")
+    void matches_legacyEncoded() throws Exception {
+        // given
+        String rawPassword = "비밀번호123!😀";
+        String salt = Base64.getEncoder().encodeToString(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+        byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest((rawPassword + salt).getBytes(StandardCharsets.UTF_8));
+        String legacyEncoded = salt + ":" + Base64.getEncoder().encodeToString(hash);
+
+        // when & then
+        assertThat(encoder.matches(rawPassword, legacyEncoded)).isTrue();
+        assertThat(encoder.matches("비밀번호123!", legacyEncoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("해시 부분이 올바른 Base64 가 아니면 실패")
+    void matches_fail_malformed_hash() {
+        // given
+        String encoded = encoder.encrypt("password123!");
+        String malformed = encoded.substring(0, encoded.length() - 2) + "*=";
+
+        // when & then
+        assertThat(encoder.matches("password123!", malformed)).isFalse();
+    }
 }
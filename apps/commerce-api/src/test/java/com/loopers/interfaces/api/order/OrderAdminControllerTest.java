@@ -0,0 +1,75 @@
+package com.loopers.interfaces.api.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopers.application.order.OrderQueryUseCase;
+import com.loopers.application.order.OrderQueryUseCase.OrderExportRow;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class OrderAdminControllerTest {
+
+    private OrderQueryUseCase orderQueryUseCase;
+    private OrderAdminController controller;
+
+    @BeforeEach
+    void setUp() {
+        orderQueryUseCase = mock(OrderQueryUseCase.class);
+        controller = new OrderAdminController(orderQueryUseCase, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("내보내기 도중 클라이언트 연결이 끊기면 예외를 던지지 않고 조용히 끝낸다")
+    @SuppressWarnings("unchecked")
+    void exportOrders_clientDisconnected() {
+        // given
+        doAnswer(invocation -> {
+            Consumer<OrderExportRow> sink = invocation.getArgument(1);
+            // 버퍼(8KB)를 넘겨 행을 쓰는 도중에 실제 쓰기가 일어나도록 충분히 보낸다
+            for (long i = 1; i <= 1000; i++) {
+                sink.accept(new OrderExportRow(i, "test1234", "PAYMENT_COMPLETED", "POINT",
+                        10000, 0, 10000, LocalDateTime.of(2026, 10, 15, 1, 30)));
+            }
+            return null;
+        }).when(orderQueryUseCase).exportOrders(any(), any(Consumer.class));
+
+        // when & then
+        assertThatCode(() -> controller.exportOrders(null, null, null, "ndjson", new DisconnectedResponse()))
+                .doesNotThrowAnyException();
+    }
+
+    private static class DisconnectedResponse extends MockHttpServletResponse {
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                }
+            };
+        }
+    }
+}
@@ -22,6 +22,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -137,6 +139,36 @@ class OrderApiIntegrationTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.length()").value(1));
         }
+
+        @Test
+        @DisplayName("커서 목록 조회는 최신순으로 페이지를 나누고 nextCursor 로 이어서 조회한다")
+        void getMyOrdersByCursor_success() throws Exception {
+            createOrder();
+            createOrder();
+            createOrder();
+
+            String body = mockMvc.perform(get(ORDER_URL + "/cursor")
+                            .header("X-Loopers-LoginId", LOGIN_ID)
+                            .header("X-Loopers-LoginPw", PASSWORD)
+                            .param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.content[0].id").value(3))
+                    .andExpect(jsonPath("$.content[1].id").value(2))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andReturn().getResponse().getContentAsString();
+            String nextCursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+            mockMvc.perform(get(ORDER_URL + "/cursor")
+                            .header("X-Loopers-LoginId", LOGIN_ID)
+                            .header("X-Loopers-LoginPw", PASSWORD)
+                            .param("size", "2")
+                            .param("cursor", nextCursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.content[0].id").value(1))
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
     }
 
     @Nested
@@ -201,7 +233,93 @@ class OrderApiIntegrationTest {
             mockMvc.perform(get(ADMIN_ORDER_URL)
                             .header(ADMIN_HEADER, ADMIN_VALUE))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.length()").value(1));
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.totalElements").value(1));
+        }
+
+        @Test
+        @DisplayName("관리자 주문 목록은 페이지 단위로 최신순 조회하고 상태로 거른다")
+        void getAllOrders_pagedAndFiltered() throws Exception {
+            createOrder();
+            createOrder();
+            createOrder();
+
+            mockMvc.perform(get(ADMIN_ORDER_URL)
+                            .header(ADMIN_HEADER, ADMIN_VALUE)
+                            .param("page", "1")
+                            .param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.content[0].id").value(1))
+                    .andExpect(jsonPath("$.totalElements").value(3))
+                    .andExpect(jsonPath("$.totalPages").value(2));
+
+            mockMvc.perform(get(ADMIN_ORDER_URL)
+                            .header(ADMIN_HEADER, ADMIN_VALUE)
+                            .param("status", "DELIVERED"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(0));
+        }
+
+        @Test
+        @DisplayName("관리자 주문 목록 페이지 크기가 상한을 넘으면 실패")
+        void getAllOrders_fail_sizeOverLimit() throws Exception {
+            mockMvc.perform(get(ADMIN_ORDER_URL)
+                            .header(ADMIN_HEADER, ADMIN_VALUE)
+                            .param("size", "101"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("주문 내보내기는 기본으로 한 줄에 주문 하나인 NDJSON 을 내려준다")
+        void exportOrders_ndjson() throws Exception {
+            createOrder();
+            createOrder();
+
+            String body = mockMvc.perform(get(ADMIN_ORDER_URL + "/export")
+                            .header(ADMIN_HEADER, ADMIN_VALUE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                    .andExpect(header().string("Content-Disposition", containsString("orders.ndjson")))
+                    .andReturn().getResponse().getContentAsString();
+
+            String[] lines = body.strip().split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(1L);
+            assertThat(objectMapper.readTree(lines[0]).get("userId").asText()).isEqualTo(LOGIN_ID);
+        }
+
+        @Test
+        @DisplayName("CSV 내보내기는 헤더 행 다음에 주문을 id 순으로 쓴다")
+        void exportOrders_csv() throws Exception {
+            createOrder();
+
+            String body = mockMvc.perform(get(ADMIN_ORDER_URL + "/export")
+                            .header(ADMIN_HEADER, ADMIN_VALUE)
+                            .param("format", "csv")
+                            .param("status", "PAYMENT_PENDING"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                    .andReturn().getResponse().getContentAsString();
+
+            String[] lines = body.strip().split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).isEqualTo("id,userId,status,paymentMethod,totalAmount,discountAmount,paymentAmount,createdAt");
+            assertThat(lines[1]).startsWith("1," + LOGIN_ID + ",PAYMENT_PENDING,CARD,");
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 상태나 형식으로 내보내면 실패")
+        void exportOrders_fail_invalidCondition() throws Exception {
+            mockMvc.perform(get(ADMIN_ORDER_URL + "/export")
+                            .header(ADMIN_HEADER, ADMIN_VALUE)
+                            .param("status", "UNKNOWN"))
+                    .andExpect(status().isBadRequest());
+
+            mockMvc.perform(get(ADMIN_ORDER_URL + "/export")
+                            .header(ADMIN_HEADER, ADMIN_VALUE)
+                            .param("format", "xlsx"))
+                    .andExpect(status().isBadRequest());
         }
 
         @Test
@@ -1,5 +1,7 @@
 package com.loopers.interfaces.api.user;
 
+import com.loopers.interfaces.api.user.dto.LoginRequest;
+import com.loopers.interfaces.api.user.dto.LoginResponse;
 import com.loopers.interfaces.api.user.dto.PasswordUpdateRequest;
 import com.loopers.interfaces.api.user.dto.UserInfoResponse;
 import com.loopers.interfaces.api.user.dto.UserRegisterRequest;
@@ -217,6 +219,79 @@ class UserApiE2ETest {
         }
     }
 
+    @Nested
+    @DisplayName("E2E: 세션 토큰 시나리오")
+    class SessionTokenE2E {
+
+        @Test
+        @DisplayName("로그인 → 토큰으로 내 정보 조회 → 비밀번호 변경 후 기존 토큰 거절")
+        void login_then_useToken_then_revokedByPasswordChange() {
+            // given
+            String loginId = "tokenuser";
+            String password = "Password1!";
+            registerUser(loginId, password, "홍길동");
+
+            // when - 로그인
+            ResponseEntity<LoginResponse> loginResponse = restTemplate.postForEntity(
+                    BASE_URL + "/login",
+                    new LoginRequest(loginId, password),
+                    LoginResponse.class
+            );
+
+            // then - 토큰 발급
+            assertThat(loginResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+            String token = loginResponse.getBody().token();
+
+            // when - 토큰으로 내 정보 조회
+            ResponseEntity<UserInfoResponse> infoResponse = restTemplate.exchange(
+                    BASE_URL + "/me",
+                    HttpMethod.GET,
+                    new HttpEntity<>(createBearerHeaders(token)),
+                    UserInfoResponse.class
+            );
+
+            // then
+            assertThat(infoResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(infoResponse.getBody().loginId()).isEqualTo(loginId);
+
+            // when - 비밀번호 변경 후 기존 토큰으로 조회
+            HttpHeaders headers = createBearerHeaders(token);
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            restTemplate.exchange(
+                    BASE_URL + "/me/password",
+                    HttpMethod.PUT,
+                    new HttpEntity<>(new PasswordUpdateRequest(password, "NewPassword1!"), headers),
+                    Void.class
+            );
+            ResponseEntity<String> revokedResponse = restTemplate.exchange(
+                    BASE_URL + "/me",
+                    HttpMethod.GET,
+                    new HttpEntity<>(createBearerHeaders(token)),
+                    String.class
+            );
+
+            // then - 기존 토큰은 거절
+            assertThat(revokedResponse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+
+        @Test
+        @DisplayName("잘못된 비밀번호로 로그인 실패")
+        void login_wrongPassword_fail() {
+            // given
+            registerUser("tokenuser", "Password1!", "홍길동");
+
+            // when
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                    BASE_URL + "/login",
+                    new LoginRequest("tokenuser", "WrongPassword1!"),
+                    String.class
+            );
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+    }
+
     @Nested
     @DisplayName("E2E: 전체 사용자 플로우")
     class FullUserFlowE2E {
@@ -290,6 +365,12 @@ class UserApiE2ETest {
         return headers;
     }
 
+    private HttpHeaders createBearerHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+
     private void registerUser(String loginId, String password, String name) {
         var request = createRegisterRequest(loginId, password, name);
         ResponseEntity<Void> response = restTemplate.postForEntity(BASE_URL, request, Void.class);
@@ -8,6 +8,7 @@ dependencies {
 
     // batch
     implementation("org.springframework.boot:spring-boot-starter-batch")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     testImplementation("org.springframework.batch:spring-batch-test")
 
     // querydsl
@@ -0,0 +1,241 @@
+package com.loopers.batch.job.ranking;
+
+import com.loopers.batch.job.ranking.step.ProductIdRangePartitioner;
+import com.loopers.batch.job.ranking.step.ProductMetricsRow;
+import com.loopers.batch.job.ranking.step.ProductMetricsSnapshotWriter;
+import com.loopers.batch.job.ranking.step.ProductRankClearTasklet;
+import com.loopers.batch.job.ranking.step.ProductRankPublishTasklet;
+import com.loopers.batch.job.ranking.step.ProductRankRow;
+import com.loopers.batch.job.ranking.step.ProductRankScoreProcessor;
+import com.loopers.batch.job.ranking.step.ProductRankWriter;
+import com.loopers.batch.listener.ChunkListener;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * product_metrics 누적값으로 일간/주간/월간 상품 랭킹을 mv_product_rank_* 테이블에 적재한다.
+ * <ol>
+ *     <li>metricsSnapshotStep: 기준일(requestDate)의 누적값을 product_metrics_snapshot 에 남긴다. 이미 있는 스냅샷은 유지한다.</li>
+ *     <li>기간마다 clear → score → publish: 기간 시작 전날(이전의 가장 최근) 스냅샷과의 차이로 점수를 매겨 스테이징에 쌓고,
+ *     게시 단계에서 기간 테이블의 행 교체와 순위 부여를 한 트랜잭션으로 끝낸다.</li>
+ * </ol>
+ * 게시 전까지 기간 테이블은 바뀌지 않으므로, 배치가 도는 동안에도 API 는 이전 순위 전체를 읽는다.
+ * 읽기/점수 단계는 productId 구간별 파티션으로 병렬 실행하고, 청크는 JDBC 커서로 읽어 한 문장으로 적재한다.
+ * 같은 requestDate 로 다시 실행해도 결과가 같다.
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = ProductRankingJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Configuration
+public class ProductRankingJobConfig {
+    public static final String JOB_NAME = "productRankingJob";
+    private static final String STEP_METRICS_SNAPSHOT_NAME = "metricsSnapshotStep";
+    private static final String STEP_METRICS_SNAPSHOT_WORKER_NAME = "metricsSnapshotWorkerStep";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final RankingBatchProperties properties;
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final ChunkListener chunkListener;
+
+    @Bean(JOB_NAME)
+    public Job productRankingJob() {
+        SimpleJobBuilder builder = new JobBuilder(JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(metricsSnapshotStep());
+        for (RankingPeriod period : RankingPeriod.values()) {
+            builder = builder
+                    .next(rankClearStep(period))
+                    .next(rankScoreStep(period))
+                    .next(rankPublishStep(period));
+        }
+        return builder.listener(jobListener).build();
+    }
+
+    @Bean(STEP_METRICS_SNAPSHOT_NAME)
+    public Step metricsSnapshotStep() {
+        return new StepBuilder(STEP_METRICS_SNAPSHOT_NAME, jobRepository)
+                .partitioner(STEP_METRICS_SNAPSHOT_WORKER_NAME, new ProductIdRangePartitioner(jdbcTemplate, null))
+                .step(metricsSnapshotWorkerStep())
+                .gridSize(properties.batch().gridSize())
+                .taskExecutor(partitionTaskExecutor(STEP_METRICS_SNAPSHOT_NAME))
+                .listener(stepMonitorListener)
+                .build();
+    }
+
+    @Bean(STEP_METRICS_SNAPSHOT_WORKER_NAME)
+    public Step metricsSnapshotWorkerStep() {
+        return new StepBuilder(STEP_METRICS_SNAPSHOT_WORKER_NAME, jobRepository)
+                .<ProductMetricsRow, ProductMetricsRow>chunk(properties.batch().chunkSize(), transactionManager)
+                .reader(metricsSnapshotReader(null, null))
+                .writer(metricsSnapshotWriter(null))
+                .listener(chunkListener)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<ProductMetricsRow> metricsSnapshotReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return new JdbcCursorItemReaderBuilder<ProductMetricsRow>()
+                .name("metricsSnapshotReader")
+                .dataSource(dataSource)
+                .sql("""
+                        SELECT product_id, like_count, order_count, view_count, total_sales_amount
+                          FROM product_metrics
+                         WHERE product_id BETWEEN ? AND ?
+                         ORDER BY product_id
+                        """)
+                .preparedStatementSetter(ps -> {
+                    ps.setLong(1, minId);
+                    ps.setLong(2, maxId);
+                })
+                // PostgreSQL 은 autoCommit 이 꺼져 있어야 fetchSize 단위로 커서를 읽는다
+                .connectionAutoCommit(false)
+                .fetchSize(properties.batch().chunkSize())
+                .rowMapper((rs, rowNum) -> new ProductMetricsRow(
+                        rs.getLong("product_id"),
+                        rs.getLong("like_count"),
+                        rs.getLong("order_count"),
+                        rs.getLong("view_count"),
+                        rs.getLong("total_sales_amount")))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ProductMetricsSnapshotWriter metricsSnapshotWriter(
+            @Value("#{jobParameters['requestDate']}") LocalDate requestDate) {
+        if (requestDate == null) {
+            throw new IllegalArgumentException("requestDate is null");
+        }
+        return new ProductMetricsSnapshotWriter(jdbcTemplate, requestDate);
+    }
+
+    private Step rankClearStep(RankingPeriod period) {
+        return new StepBuilder(period.stepPrefix() + "RankClearStep", jobRepository)
+                .tasklet(new ProductRankClearTasklet(jdbcTemplate, period), transactionManager)
+                .listener(stepMonitorListener)
+                .build();
+    }
+
+    private Step rankScoreStep(RankingPeriod period) {
+        String workerName = period.stepPrefix() + "RankScoreWorkerStep";
+        Step worker = new StepBuilder(workerName, jobRepository)
+                .<ProductRankRow, ProductRankRow>chunk(properties.batch().chunkSize(), transactionManager)
+                .reader(rankScoreReader(null, null, null, null))
+                .processor(new ProductRankScoreProcessor(properties.weight()))
+                .writer(rankWriter(null, null))
+                .listener(chunkListener)
+                .build();
+
+        String stepName = period.stepPrefix() + "RankScoreStep";
+        return new StepBuilder(stepName, jobRepository)
+                .partitioner(workerName, new ProductIdRangePartitioner(jdbcTemplate, period))
+                .step(worker)
+                .gridSize(properties.batch().gridSize())
+                .taskExecutor(partitionTaskExecutor(stepName))
+                .listener(stepMonitorListener)
+                .build();
+    }
+
+    private Step rankPublishStep(RankingPeriod period) {
+        return new StepBuilder(period.stepPrefix() + "RankPublishStep", jobRepository)
+                .tasklet(new ProductRankPublishTasklet(jdbcTemplate, period), transactionManager)
+                .listener(stepMonitorListener)
+                .build();
+    }
+
+    /**
+     * 기준일 스냅샷과 기간 시작 전날 스냅샷의 차이가 기간 동안의 변화량이다.
+     * 전날 배치가 빠졌으면 그 이전의 가장 최근 스냅샷을 기준으로 삼아, 누락된 날을 0 으로 보고 누적값 전체가 잡히지 않게 한다.
+     * 기준일 이전 스냅샷이 하나도 없는 상품만 기간 중에 처음 집계된 상품으로 보고 누적값 전체를 변화량으로 쓴다.
+     */
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<ProductRankRow> rankScoreReader(
+            @Value("#{jobParameters['requestDate']}") LocalDate requestDate,
+            @Value("#{stepExecutionContext['period']}") String period,
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        LocalDate baseDate = RankingPeriod.valueOf(period).periodStart(requestDate).minusDays(1);
+        return new JdbcCursorItemReaderBuilder<ProductRankRow>()
+                .name("rankScoreReader")
+                .dataSource(dataSource)
+                .sql("""
+                        SELECT e.product_id,
+                               e.like_count - COALESCE(b.like_count, 0) AS like_count,
+                               e.order_count - COALESCE(b.order_count, 0) AS order_count,
+                               e.view_count - COALESCE(b.view_count, 0) AS view_count,
+                               e.total_sales_amount - COALESCE(b.total_sales_amount, 0) AS sales_amount
+                          FROM product_metrics_snapshot e
+                          LEFT JOIN LATERAL (
+                                    SELECT s.like_count, s.order_count, s.view_count, s.total_sales_amount
+                                      FROM product_metrics_snapshot s
+                                     WHERE s.product_id = e.product_id
+                                       AND s.snapshot_date <= ?
+                                     ORDER BY s.snapshot_date DESC
+                                     LIMIT 1) b ON TRUE
+                         WHERE e.snapshot_date = ?
+                           AND e.product_id BETWEEN ? AND ?
+                         ORDER BY e.product_id
+                        """)
+                .preparedStatementSetter(ps -> {
+                    ps.setDate(1, Date.valueOf(baseDate));
+                    ps.setDate(2, Date.valueOf(requestDate));
+                    ps.setLong(3, minId);
+                    ps.setLong(4, maxId);
+                })
+                .connectionAutoCommit(false)
+                .fetchSize(properties.batch().chunkSize())
+                .rowMapper((rs, rowNum) -> new ProductRankRow(
+                        rs.getLong("product_id"),
+                        rs.getLong("like_count"),
+                        rs.getLong("order_count"),
+                        rs.getLong("view_count"),
+                        rs.getLong("sales_amount"),
+                        0))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ProductRankWriter rankWriter(
+            @Value("#{jobParameters['requestDate']}") LocalDate requestDate,
+            @Value("#{stepExecutionContext['period']}") String period) {
+        RankingPeriod rankingPeriod = RankingPeriod.valueOf(period);
+        return new ProductRankWriter(jdbcTemplate, rankingPeriod, rankingPeriod.periodStart(requestDate));
+    }
+
+    private TaskExecutor partitionTaskExecutor(String stepName) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(stepName + "-");
+        executor.setConcurrencyLimit(properties.batch().gridSize());
+        return executor;
+    }
+}
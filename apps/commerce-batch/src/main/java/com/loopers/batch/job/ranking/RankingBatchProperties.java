@@ -0,0 +1,14 @@
+package com.loopers.batch.job.ranking;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 랭킹 적재 배치 설정. weight 는 commerce-streamer 의 실시간 랭킹(ranking.weight)과 같은 값을 사용한다.
+ */
+@ConfigurationProperties(prefix = "ranking")
+public record RankingBatchProperties(Weight weight, Batch batch) {
+
+    public record Weight(double view, double like, double order) {}
+
+    public record Batch(int gridSize, int chunkSize) {}
+}
@@ -0,0 +1,40 @@
+package com.loopers.batch.job.ranking;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 집계 기간과 적재 대상 테이블. 기준일이 속한 기간의 시작일부터 기준일까지를 집계한다.
+ * (주간은 월요일, 월간은 1일부터)
+ * 점수는 모든 기간이 함께 쓰는 {@link #STAGING_TABLE} 에 먼저 쌓은 뒤 기간 테이블로 게시한다.
+ */
+public enum RankingPeriod {
+    DAILY("mv_product_rank_daily"),
+    WEEKLY("mv_product_rank_weekly"),
+    MONTHLY("mv_product_rank_monthly");
+
+    public static final String STAGING_TABLE = "product_rank_staging";
+
+    private final String table;
+
+    RankingPeriod(String table) {
+        this.table = table;
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public LocalDate periodStart(LocalDate requestDate) {
+        return switch (this) {
+            case DAILY -> requestDate;
+            case WEEKLY -> requestDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> requestDate.withDayOfMonth(1);
+        };
+    }
+
+    public String stepPrefix() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,59 @@
+package com.loopers.batch.job.ranking.step;
+
+import com.loopers.batch.job.ranking.RankingPeriod;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * product_metrics 의 productId 범위를 gridSize 개의 연속 구간으로 나눈다.
+ * 각 파티션은 minId ~ maxId(포함)만 읽으므로 서로 겹치지 않는다.
+ */
+public class ProductIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+    public static final String PERIOD = "period";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RankingPeriod period;
+
+    public ProductIdRangePartitioner(JdbcTemplate jdbcTemplate, RankingPeriod period) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.period = period;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        long[] bounds = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MIN(product_id), 0), COALESCE(MAX(product_id), -1) FROM product_metrics",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+        long min = bounds[0];
+        long max = bounds[1];
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (max < min) {
+            partitions.put("partition0", context(0, -1));
+            return partitions;
+        }
+        long rangeSize = (max - min) / gridSize + 1;
+        int index = 0;
+        for (long start = min; start <= max; start += rangeSize) {
+            partitions.put("partition" + index++, context(start, Math.min(start + rangeSize - 1, max)));
+        }
+        return partitions;
+    }
+
+    private ExecutionContext context(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        if (period != null) {
+            context.putString(PERIOD, period.name());
+        }
+        return context;
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopers.batch.job.ranking.step;
+
+/**
+ * product_metrics 누적값 한 행.
+ */
+public record ProductMetricsRow(
+        long productId,
+        long likeCount,
+        long orderCount,
+        long viewCount,
+        long totalSalesAmount
+) {
+}
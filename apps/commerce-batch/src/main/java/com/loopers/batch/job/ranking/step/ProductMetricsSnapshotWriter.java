@@ -0,0 +1,63 @@
+package com.loopers.batch.job.ranking.step;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * 청크 단위로 기준일의 누적값 스냅샷을 적재한다.
+ * 청크 전체를 컬럼별 배열로 넘겨 문장 하나로 적재한다.
+ * 이미 있는 기준일 스냅샷은 건드리지 않는다. 지난 requestDate 로 재실행/백필하면 현재 누적값으로 그날 스냅샷을 덮어쓰게 되기 때문이다.
+ */
+public class ProductMetricsSnapshotWriter implements ItemWriter<ProductMetricsRow> {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO product_metrics_snapshot
+                   (snapshot_date, product_id, like_count, order_count, view_count, total_sales_amount)
+            SELECT ?, d.product_id, d.like_count, d.order_count, d.view_count, d.total_sales_amount
+              FROM unnest(?::bigint[], ?::bigint[], ?::bigint[], ?::bigint[], ?::bigint[])
+                   AS d(product_id, like_count, order_count, view_count, total_sales_amount)
+            ON CONFLICT (snapshot_date, product_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalDate snapshotDate;
+
+    public ProductMetricsSnapshotWriter(JdbcTemplate jdbcTemplate, LocalDate snapshotDate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotDate = snapshotDate;
+    }
+
+    @Override
+    public void write(Chunk<? extends ProductMetricsRow> chunk) {
+        int size = chunk.size();
+        if (size == 0) {
+            return;
+        }
+        long[] productIds = new long[size];
+        long[] likeCounts = new long[size];
+        long[] orderCounts = new long[size];
+        long[] viewCounts = new long[size];
+        long[] salesAmounts = new long[size];
+        int i = 0;
+        for (ProductMetricsRow row : chunk) {
+            productIds[i] = row.productId();
+            likeCounts[i] = row.likeCount();
+            orderCounts[i] = row.orderCount();
+            viewCounts[i] = row.viewCount();
+            salesAmounts[i] = row.totalSalesAmount();
+            i++;
+        }
+        jdbcTemplate.update(INSERT_SQL, ps -> {
+            ps.setDate(1, Date.valueOf(snapshotDate));
+            ps.setObject(2, productIds);
+            ps.setObject(3, likeCounts);
+            ps.setObject(4, orderCounts);
+            ps.setObject(5, viewCounts);
+            ps.setObject(6, salesAmounts);
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package com.loopers.batch.job.ranking.step;
+
+import com.loopers.batch.job.ranking.RankingPeriod;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * 점수 단계 전에 스테이징에 남은 이 기간의 행을 지운다. 게시 전에 실패한 이전 실행의 잔여 행이 이번 결과에 섞이지 않게 하기 위함이다.
+ * 기간 테이블(mv_product_rank_*)은 지우지 않으므로, 게시 전까지 API 는 이전 순위를 그대로 읽는다.
+ */
+public class ProductRankClearTasklet implements Tasklet {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RankingPeriod period;
+
+    public ProductRankClearTasklet(JdbcTemplate jdbcTemplate, RankingPeriod period) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.period = period;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        LocalDate requestDate = chunkContext.getStepContext().getStepExecution()
+                .getJobParameters().getLocalDate("requestDate");
+        if (requestDate == null) {
+            throw new IllegalArgumentException("requestDate is null");
+        }
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM " + RankingPeriod.STAGING_TABLE + " WHERE period = ? AND period_start = ?",
+                period.name(), Date.valueOf(period.periodStart(requestDate)));
+        contribution.incrementWriteCount(deleted);
+        return RepeatStatus.FINISHED;
+    }
+}
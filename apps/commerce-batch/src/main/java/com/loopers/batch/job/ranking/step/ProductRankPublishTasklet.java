@@ -0,0 +1,59 @@
+package com.loopers.batch.job.ranking.step;
+
+import com.loopers.batch.job.ranking.RankingPeriod;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * 스테이징에 모인 점수를 기간 전체에서 정렬해 순위를 매기고, 기간 테이블의 해당 기간 행을 한 트랜잭션에서 교체한다.
+ * 커밋 전까지 다른 트랜잭션은 이전 순위 전체를, 커밋 후에는 새 순위 전체를 읽으므로 비어 있거나 일부만 매겨진 순위가 보이지 않는다.
+ * 이번 실행에서 점수가 없는 상품은 교체와 함께 빠진다. 동점은 productId 오름차순으로 풀어 실행마다 같은 순위가 나오게 한다.
+ */
+public class ProductRankPublishTasklet implements Tasklet {
+
+    private static final String DELETE_PUBLISHED_SQL = "DELETE FROM %s WHERE period_start = ?";
+
+    private static final String PUBLISH_SQL = """
+            INSERT INTO %s
+                   (period_start, product_id, like_count, order_count, view_count, sales_amount, score, ranking)
+            SELECT period_start, product_id, like_count, order_count, view_count, sales_amount, score,
+                   ROW_NUMBER() OVER (ORDER BY score DESC, product_id)
+              FROM %s
+             WHERE period = ? AND period_start = ?
+            """;
+
+    private static final String DELETE_STAGED_SQL = "DELETE FROM %s WHERE period = ? AND period_start = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RankingPeriod period;
+
+    public ProductRankPublishTasklet(JdbcTemplate jdbcTemplate, RankingPeriod period) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.period = period;
+    }
+
+    /**
+     * 태스클릿 트랜잭션 하나에서 실행되므로 세 문장이 함께 커밋되거나 함께 롤백된다.
+     */
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        LocalDate requestDate = chunkContext.getStepContext().getStepExecution()
+                .getJobParameters().getLocalDate("requestDate");
+        if (requestDate == null) {
+            throw new IllegalArgumentException("requestDate is null");
+        }
+        Date periodStart = Date.valueOf(period.periodStart(requestDate));
+        jdbcTemplate.update(DELETE_PUBLISHED_SQL.formatted(period.table()), periodStart);
+        int ranked = jdbcTemplate.update(PUBLISH_SQL.formatted(period.table(), RankingPeriod.STAGING_TABLE),
+                period.name(), periodStart);
+        jdbcTemplate.update(DELETE_STAGED_SQL.formatted(RankingPeriod.STAGING_TABLE), period.name(), periodStart);
+        contribution.incrementWriteCount(ranked);
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.batch.job.ranking.step;
+
+/**
+ * 기간 동안의 상품별 변화량과 가중치를 적용한 점수.
+ */
+public record ProductRankRow(
+        long productId,
+        long likeCount,
+        long orderCount,
+        long viewCount,
+        long salesAmount,
+        double score
+) {
+    public ProductRankRow withScore(double score) {
+        return new ProductRankRow(productId, likeCount, orderCount, viewCount, salesAmount, score);
+    }
+}
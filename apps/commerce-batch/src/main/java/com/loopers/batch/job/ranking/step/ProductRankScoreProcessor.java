@@ -0,0 +1,27 @@
+package com.loopers.batch.job.ranking.step;
+
+import com.loopers.batch.job.ranking.RankingBatchProperties;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * 기간 변화량에 신호별 가중치를 적용해 점수를 매긴다. 점수가 0 이하인 상품은 적재하지 않는다.
+ */
+public class ProductRankScoreProcessor implements ItemProcessor<ProductRankRow, ProductRankRow> {
+
+    private final RankingBatchProperties.Weight weight;
+
+    public ProductRankScoreProcessor(RankingBatchProperties.Weight weight) {
+        this.weight = weight;
+    }
+
+    @Override
+    public ProductRankRow process(ProductRankRow row) {
+        double score = weight.view() * row.viewCount()
+                + weight.like() * row.likeCount()
+                + weight.order() * row.orderCount();
+        if (score <= 0) {
+            return null;
+        }
+        return row.withScore(score);
+    }
+}
@@ -0,0 +1,76 @@
+package com.loopers.batch.job.ranking.step;
+
+import com.loopers.batch.job.ranking.RankingPeriod;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * 점수가 매겨진 청크를 스테이징 테이블에 한 문장으로 적재한다.
+ * 기간 테이블은 건드리지 않으며, 순위는 모든 파티션이 끝난 뒤 게시 단계({@link ProductRankPublishTasklet})에서 한 번에 매긴다.
+ */
+public class ProductRankWriter implements ItemWriter<ProductRankRow> {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO %s
+                   (period, period_start, product_id, like_count, order_count, view_count, sales_amount, score)
+            SELECT ?, ?, d.product_id, d.like_count, d.order_count, d.view_count, d.sales_amount, d.score
+              FROM unnest(?::bigint[], ?::bigint[], ?::bigint[], ?::bigint[], ?::bigint[], ?::float8[])
+                   AS d(product_id, like_count, order_count, view_count, sales_amount, score)
+            ON CONFLICT (period, period_start, product_id)
+            DO UPDATE SET like_count = EXCLUDED.like_count,
+                          order_count = EXCLUDED.order_count,
+                          view_count = EXCLUDED.view_count,
+                          sales_amount = EXCLUDED.sales_amount,
+                          score = EXCLUDED.score
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sql;
+    private final RankingPeriod period;
+    private final LocalDate periodStart;
+
+    public ProductRankWriter(JdbcTemplate jdbcTemplate, RankingPeriod period, LocalDate periodStart) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sql = UPSERT_SQL.formatted(RankingPeriod.STAGING_TABLE);
+        this.period = period;
+        this.periodStart = periodStart;
+    }
+
+    @Override
+    public void write(Chunk<? extends ProductRankRow> chunk) {
+        int size = chunk.size();
+        if (size == 0) {
+            return;
+        }
+        long[] productIds = new long[size];
+        long[] likeCounts = new long[size];
+        long[] orderCounts = new long[size];
+        long[] viewCounts = new long[size];
+        long[] salesAmounts = new long[size];
+        double[] scores = new double[size];
+        int i = 0;
+        for (ProductRankRow row : chunk) {
+            productIds[i] = row.productId();
+            likeCounts[i] = row.likeCount();
+            orderCounts[i] = row.orderCount();
+            viewCounts[i] = row.viewCount();
+            salesAmounts[i] = row.salesAmount();
+            scores[i] = row.score();
+            i++;
+        }
+        jdbcTemplate.update(sql, ps -> {
+            ps.setString(1, period.name());
+            ps.setDate(2, Date.valueOf(periodStart));
+            ps.setObject(3, productIds);
+            ps.setObject(4, likeCounts);
+            ps.setObject(5, orderCounts);
+            ps.setObject(6, viewCounts);
+            ps.setObject(7, salesAmounts);
+            ps.setObject(8, scores);
+        });
+    }
+}
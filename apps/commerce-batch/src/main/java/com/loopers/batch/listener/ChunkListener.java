@@ -1,21 +1,59 @@
 package com.loopers.batch.listener;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.AfterChunk;
+import org.springframework.batch.core.annotation.BeforeChunk;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.stereotype.Component;
 
+/**
+ * 청크마다 처리 건수와 소요 시간, 초당 처리량을 남긴다.
+ * 파티션 스텝은 파티션마다 StepExecution 이 따로 있으므로 스텝 이름(예: weeklyRankScoreWorkerStep:partition0)별로 집계된다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class ChunkListener {
 
+    private static final String START_NANOS = "chunk.startNanos";
+    private static final String START_WRITE_COUNT = "chunk.startWriteCount";
+
+    private final MeterRegistry meterRegistry;
+
+    @BeforeChunk
+    void beforeChunk(ChunkContext chunkContext) {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        chunkContext.setAttribute(START_NANOS, System.nanoTime());
+        chunkContext.setAttribute(START_WRITE_COUNT, stepExecution.getWriteCount());
+    }
+
     @AfterChunk
     void afterChunk(ChunkContext chunkContext) {
-        log.info(
-            "청크 종료: readCount: ${chunkContext.stepContext.stepExecution.readCount}, " +
-                    "writeCount: ${chunkContext.stepContext.stepExecution.writeCount}"
-        );
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        Object startNanos = chunkContext.getAttribute(START_NANOS);
+        Object startWriteCount = chunkContext.getAttribute(START_WRITE_COUNT);
+        if (!(startNanos instanceof Long nanos) || !(startWriteCount instanceof Long writeCountBefore)) {
+            return;
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - nanos, 1);
+        long written = stepExecution.getWriteCount() - writeCountBefore;
+        double itemsPerSecond = written * 1_000_000_000d / elapsedNanos;
+
+        String stepName = stepExecution.getStepName();
+        String baseStepName = stepName.contains(":") ? stepName.substring(0, stepName.indexOf(':')) : stepName;
+        DistributionSummary.builder("batch.chunk.throughput")
+                .description("청크당 초당 적재 건수")
+                .baseUnit("items/s")
+                .tag("step", baseStepName)
+                .register(meterRegistry)
+                .record(itemsPerSecond);
+
+        log.info("청크 종료: step: {}, written: {}, elapsed: {}ms, throughput: {}/s, readCount: {}, writeCount: {}",
+                stepName, written, elapsedNanos / 1_000_000, Math.round(itemsPerSecond),
+                stepExecution.getReadCount(), stepExecution.getWriteCount());
     }
 }
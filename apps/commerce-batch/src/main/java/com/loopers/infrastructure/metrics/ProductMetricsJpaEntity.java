@@ -0,0 +1,35 @@
+package com.loopers.infrastructure.metrics;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * commerce-streamer 가 갱신하는 상품별 누적 집계. 배치에서는 읽기만 한다.
+ */
+@Entity
+@Getter
+@Table(name = "product_metrics")
+public class ProductMetricsJpaEntity {
+
+    @Id
+    private Long productId;
+
+    @Column(nullable = false)
+    private long likeCount;
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false)
+    private long viewCount;
+
+    @Column(nullable = false)
+    private long totalSalesAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected ProductMetricsJpaEntity() {}
+}
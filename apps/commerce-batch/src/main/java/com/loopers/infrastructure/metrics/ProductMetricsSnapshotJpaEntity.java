@@ -0,0 +1,41 @@
+package com.loopers.infrastructure.metrics;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 기준일 시점의 product_metrics 누적값. 두 기준일의 차이로 기간 랭킹을 계산한다.
+ */
+@Entity
+@Getter
+@Table(name = "product_metrics_snapshot", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"snapshotDate", "productId"})
+}, indexes = @Index(name = "idx_product_metrics_snapshot_product_date", columnList = "productId, snapshotDate DESC"))
+public class ProductMetricsSnapshotJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private long likeCount;
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false)
+    private long viewCount;
+
+    @Column(nullable = false)
+    private long totalSalesAmount;
+
+    protected ProductMetricsSnapshotJpaEntity() {}
+}
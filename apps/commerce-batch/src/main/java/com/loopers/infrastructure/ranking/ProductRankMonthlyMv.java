@@ -0,0 +1,12 @@
+package com.loopers.infrastructure.ranking;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "mv_product_rank_monthly",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"periodStart", "productId"}),
+        indexes = @Index(name = "idx_mv_product_rank_monthly_ranking", columnList = "periodStart, ranking"))
+public class ProductRankMonthlyMv extends ProductRankMv {
+
+    protected ProductRankMonthlyMv() {}
+}
@@ -0,0 +1,43 @@
+package com.loopers.infrastructure.ranking;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 기간 랭킹 적재 테이블의 공통 컬럼. (period_start, ranking) 인덱스로 순위 구간을 바로 읽는다.
+ */
+@MappedSuperclass
+@Getter
+public abstract class ProductRankMv {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private long likeCount;
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false)
+    private long viewCount;
+
+    @Column(nullable = false)
+    private long salesAmount;
+
+    @Column(nullable = false)
+    private double score;
+
+    private Integer ranking;
+
+    protected ProductRankMv() {}
+}
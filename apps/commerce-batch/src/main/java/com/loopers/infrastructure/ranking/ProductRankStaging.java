@@ -0,0 +1,46 @@
+package com.loopers.infrastructure.ranking;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 기간 랭킹 점수를 게시 전에 모아 두는 테이블. 점수 단계가 여기에 적재하고, 게시 단계가 한 트랜잭션에서 mv_product_rank_* 로 옮긴다.
+ */
+@Entity
+@Getter
+@Table(name = "product_rank_staging",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"period", "periodStart", "productId"}))
+public class ProductRankStaging {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 10)
+    private String period;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private long likeCount;
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false)
+    private long viewCount;
+
+    @Column(nullable = false)
+    private long salesAmount;
+
+    @Column(nullable = false)
+    private double score;
+
+    protected ProductRankStaging() {}
+}
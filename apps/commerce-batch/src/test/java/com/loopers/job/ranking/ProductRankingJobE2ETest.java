@@ -0,0 +1,214 @@
+package com.loopers.job.ranking;
+
+import com.loopers.batch.job.ranking.ProductRankingJobConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = "spring.batch.job.name=" + ProductRankingJobConfig.JOB_NAME)
+class ProductRankingJobE2ETest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 12);
+    private static final LocalDate WEDNESDAY = LocalDate.of(2026, 10, 14);
+    private static final LocalDate THURSDAY = LocalDate.of(2026, 10, 15);
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier(ProductRankingJobConfig.JOB_NAME)
+    private Job job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanUp.truncateAllTables();
+        jobLauncherTestUtils.setJob(job);
+    }
+
+    @DisplayName("jobParameter 중 requestDate 인자가 주어지지 않았을 때, productRankingJob 배치는 실패한다.")
+    @Test
+    void fail_whenRequestDateMissing() throws Exception {
+        // arrange
+        insertMetrics(1L, 10, 0, 0);
+
+        // act
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob();
+
+        // assert
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.FAILED.getExitCode());
+    }
+
+    @DisplayName("기준일 누적값으로 일간 순위를 점수 내림차순으로 적재한다.")
+    @Test
+    void materializeDailyRanking() throws Exception {
+        // arrange - 점수: 1번 좋아요 10(2.0), 2번 주문 5(3.5), 3번 조회 100(10.0)
+        insertMetrics(1L, 10, 0, 0);
+        insertMetrics(2L, 0, 5, 0);
+        insertMetrics(3L, 0, 0, 100);
+
+        // act
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(requestDateParameters(WEDNESDAY));
+
+        // assert
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode());
+        assertThat(rankedProductIds("mv_product_rank_daily", WEDNESDAY)).containsExactly(3L, 2L, 1L);
+    }
+
+    @DisplayName("일간은 전날 스냅샷과의 차이만, 주간은 주 시작 이후 누적 변화량으로 순위를 매긴다.")
+    @Test
+    void materializeWeeklyRanking() throws Exception {
+        // arrange
+        insertMetrics(1L, 10, 0, 0);
+        insertMetrics(2L, 0, 5, 0);
+        insertMetrics(3L, 0, 0, 100);
+        jobLauncherTestUtils.launchJob(requestDateParameters(WEDNESDAY));
+        jdbcTemplate.update("UPDATE product_metrics SET like_count = 60 WHERE product_id = 1");
+
+        // act
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(requestDateParameters(THURSDAY));
+
+        // assert - 목요일 일간: 1번 좋아요 +50(10.0) 만 변화, 주간: 1번 12.0, 3번 10.0, 2번 3.5
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode());
+        assertThat(rankedProductIds("mv_product_rank_daily", THURSDAY)).containsExactly(1L);
+        assertThat(rankedProductIds("mv_product_rank_weekly", LocalDate.of(2026, 10, 12)))
+                .containsExactly(1L, 3L, 2L);
+        assertThat(rankedProductIds("mv_product_rank_monthly", LocalDate.of(2026, 10, 1)))
+                .containsExactly(1L, 3L, 2L);
+    }
+
+    @DisplayName("기간 시작 전날 스냅샷이 없으면 그 이전의 가장 최근 스냅샷과의 차이로 순위를 매긴다.")
+    @Test
+    void useLatestSnapshotBeforeBaseDate() throws Exception {
+        // arrange - 화요일 배치가 빠진 상황
+        insertMetrics(1L, 10, 0, 0);
+        insertMetrics(2L, 0, 5, 0);
+        jobLauncherTestUtils.launchJob(requestDateParameters(MONDAY));
+        jdbcTemplate.update("UPDATE product_metrics SET like_count = 60 WHERE product_id = 1");
+
+        // act
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(requestDateParameters(WEDNESDAY));
+
+        // assert - 수요일 일간은 월요일 스냅샷 기준 1번 좋아요 +50 만 변화
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode());
+        assertThat(rankedProductIds("mv_product_rank_daily", WEDNESDAY)).containsExactly(1L);
+    }
+
+    @DisplayName("지난 기준일로 다시 실행해도 그날의 스냅샷은 현재 누적값으로 덮어쓰지 않는다.")
+    @Test
+    void keepSnapshotOnBackfill() throws Exception {
+        // arrange
+        insertMetrics(1L, 10, 0, 0);
+        jobLauncherTestUtils.launchJob(requestDateParameters(WEDNESDAY));
+        jdbcTemplate.update("UPDATE product_metrics SET like_count = 60 WHERE product_id = 1");
+        jobLauncherTestUtils.launchJob(requestDateParameters(THURSDAY));
+
+        // act
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(requestDateParameters(WEDNESDAY));
+
+        // assert
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode());
+        assertThat(snapshotLikeCount(WEDNESDAY, 1L)).isEqualTo(10L);
+        assertThat(snapshotLikeCount(THURSDAY, 1L)).isEqualTo(60L);
+    }
+
+    @DisplayName("게시 전에 실패한 실행의 스테이징 잔여 행은 다음 실행 결과에 섞이지 않고, 게시 후 스테이징은 비워진다.")
+    @Test
+    void ignoreLeftoverStagingRows() throws Exception {
+        // arrange - 이전 실행이 점수만 쌓고 게시하지 못한 상황
+        insertMetrics(1L, 10, 0, 0);
+        insertMetrics(2L, 0, 5, 0);
+        jdbcTemplate.update("""
+                INSERT INTO product_rank_staging
+                       (period, period_start, product_id, like_count, order_count, view_count, sales_amount, score)
+                VALUES ('DAILY', ?, 99, 0, 0, 1000, 0, 100.0)
+                """, Date.valueOf(WEDNESDAY));
+
+        // act
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(requestDateParameters(WEDNESDAY));
+
+        // assert
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode());
+        assertThat(rankedProductIds("mv_product_rank_daily", WEDNESDAY)).containsExactly(2L, 1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_rank_staging", Long.class)).isZero();
+    }
+
+    @DisplayName("다시 실행하다 실패하면 기간 테이블에는 이전에 게시된 순위가 그대로 남는다.")
+    @Test
+    void keepPublishedRankingOnFailure() throws Exception {
+        // arrange
+        insertMetrics(1L, 10, 0, 0);
+        insertMetrics(2L, 0, 5, 0);
+        jobLauncherTestUtils.launchJob(requestDateParameters(WEDNESDAY));
+        jdbcTemplate.execute("ALTER TABLE product_rank_staging RENAME TO product_rank_staging_unavailable");
+
+        // act
+        JobExecution jobExecution;
+        try {
+            jobExecution = jobLauncherTestUtils.launchJob(requestDateParameters(WEDNESDAY));
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE product_rank_staging_unavailable RENAME TO product_rank_staging");
+        }
+
+        // assert
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.FAILED.getExitCode());
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT ranking FROM mv_product_rank_daily WHERE period_start = ? ORDER BY ranking",
+                Integer.class, Date.valueOf(WEDNESDAY))).containsExactly(1, 2);
+        assertThat(rankedProductIds("mv_product_rank_daily", WEDNESDAY)).containsExactly(2L, 1L);
+    }
+
+    /**
+     * 같은 기준일로 여러 번 실행할 수 있도록 실행마다 다른 파라미터를 덧붙인다.
+     * JobExecution 을 반환하는 메서드는 @SpringBatchTest 가 스텝 실행 팩토리로 호출하므로, 파라미터만 만들어 넘긴다.
+     */
+    private JobParameters requestDateParameters(LocalDate requestDate) {
+        return jobLauncherTestUtils.getUniqueJobParametersBuilder()
+                .addLocalDate("requestDate", requestDate)
+                .toJobParameters();
+    }
+
+    private Long snapshotLikeCount(LocalDate snapshotDate, Long productId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT like_count FROM product_metrics_snapshot WHERE snapshot_date = ? AND product_id = ?",
+                Long.class, Date.valueOf(snapshotDate), productId);
+    }
+
+    private void insertMetrics(Long productId, long likeCount, long orderCount, long viewCount) {
+        jdbcTemplate.update("""
+                INSERT INTO product_metrics (product_id, like_count, order_count, view_count, total_sales_amount, updated_at)
+                VALUES (?, ?, ?, ?, 0, NOW())
+                """, productId, likeCount, orderCount, viewCount);
+    }
+
+    private List<Long> rankedProductIds(String table, LocalDate periodStart) {
+        return jdbcTemplate.queryForList(
+                "SELECT product_id FROM " + table + " WHERE period_start = ? ORDER BY ranking",
+                Long.class, Date.valueOf(periodStart));
+    }
+}
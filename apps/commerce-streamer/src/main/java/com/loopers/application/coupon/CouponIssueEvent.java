@@ -0,0 +1,16 @@
+package com.loopers.application.coupon;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 발급 요청 메시지 한 건. couponExpiredAt 은 만료 시각 도입 이전에 발행된 메시지에서는 null 이다.
+ */
+public record CouponIssueEvent(
+        Long eventId,
+        Long requestId,
+        Long couponId,
+        String userId,
+        int maxIssuance,
+        LocalDateTime couponExpiredAt
+) {
+}
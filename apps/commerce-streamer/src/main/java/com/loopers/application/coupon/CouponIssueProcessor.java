@@ -0,0 +1,150 @@
+package com.loopers.application.coupon;
+
+import com.loopers.infrastructure.coupon.CouponIssueBatchRepository;
+import com.loopers.infrastructure.coupon.CouponIssueBatchRepository.IssuedCoupon;
+import com.loopers.infrastructure.coupon.CouponIssueBatchRepository.RequestResult;
+import com.loopers.infrastructure.coupon.CouponIssueGate;
+import com.loopers.infrastructure.coupon.CouponIssueGate.Result;
+import com.loopers.infrastructure.coupon.CouponIssueGate.Ticket;
+import com.loopers.infrastructure.coupon.CouponIssueResultPublisher;
+import com.loopers.infrastructure.idempotency.EventHandledBatchRepository;
+import com.loopers.infrastructure.idempotency.EventHandledBatchRepository.HandledEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 쿠폰 발급 요청 묶음을 한 트랜잭션으로 처리한다.
+ * 선착순 판정(중복/수량)은 CouponIssueGate 의 Lua 스크립트가 맡고, Postgres 에는 통과한 요청만 발급으로 기록한다.
+ * 트랜잭션이 롤백되면 이 묶음에서 통과시킨 유저를 발급 Set 에서 빼 수량을 돌려주고,
+ * 커밋되면 확정된 결과를 대기 중인 클라이언트에게 알린다.
+ * <p>
+ * 게이트가 DUPLICATE 를 돌려줬는데 Postgres 에 발급 내역이 없으면, 이전 시도가 Set 기록 후 커밋 전에 중단된 경우다.
+ * 이때는 이미 확보해 둔 자리이므로 발급으로 처리한다.
+ * 수량 제한이 없는 쿠폰은 게이트가 Set 에 기록하지 않으므로, 중복 여부를 Postgres 발급 내역으로만 판단한다.
+ */
+@Component
+public class CouponIssueProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponIssueProcessor.class);
+    private static final String EVENT_TYPE = "COUPON_ISSUE_REQUESTED";
+
+    private final CouponIssueGate couponIssueGate;
+    private final CouponIssueResultPublisher resultPublisher;
+    private final CouponIssueBatchRepository couponIssueRepository;
+    private final EventHandledBatchRepository eventHandledRepository;
+
+    public CouponIssueProcessor(CouponIssueGate couponIssueGate,
+                                CouponIssueResultPublisher resultPublisher,
+                                CouponIssueBatchRepository couponIssueRepository,
+                                EventHandledBatchRepository eventHandledRepository) {
+        this.couponIssueGate = couponIssueGate;
+        this.resultPublisher = resultPublisher;
+        this.couponIssueRepository = couponIssueRepository;
+        this.eventHandledRepository = eventHandledRepository;
+    }
+
+    @Transactional
+    public void process(List<CouponIssueEvent> events) {
+        Map<Long, CouponIssueEvent> byEventId = new LinkedHashMap<>();
+        for (CouponIssueEvent event : events) {
+            byEventId.putIfAbsent(event.eventId(), event);
+        }
+        // 처리 기록을 먼저 남기고 새로 기록된 이벤트만 처리한다. 동시에 같은 이벤트를 받은 트랜잭션은 여기서 빠진다.
+        Set<Long> newIds = eventHandledRepository.insertNew(byEventId.values().stream()
+                .map(event -> new HandledEvent(event.eventId(), EVENT_TYPE))
+                .toList());
+        List<CouponIssueEvent> pending = byEventId.values().stream()
+                .filter(event -> newIds.contains(event.eventId()))
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Set<Long> existingRequestIds = couponIssueRepository.findExistingRequestIds(
+                pending.stream().map(CouponIssueEvent::requestId).toList());
+        List<CouponIssueEvent> requested = new ArrayList<>();
+        for (CouponIssueEvent event : pending) {
+            if (existingRequestIds.contains(event.requestId())) {
+                requested.add(event);
+            } else {
+                log.warn("발급 요청을 찾을 수 없음 - requestId: {}", event.requestId());
+            }
+        }
+
+        List<Ticket> tickets = requested.stream()
+                .map(event -> new Ticket(event.couponId(), event.userId(), event.maxIssuance(), event.couponExpiredAt()))
+                .toList();
+        List<Result> gateResults = couponIssueGate.tryIssue(tickets);
+        List<Ticket> admitted = new ArrayList<>();
+        List<RequestResult> results = new ArrayList<>();
+        registerCompletion(admitted, results);
+
+        // DUPLICATE 이거나 수량 제한이 없는 요청만 Postgres 발급 내역을 확인한다
+        List<IssuedCoupon> duplicateCandidates = new ArrayList<>();
+        for (int i = 0; i < requested.size(); i++) {
+            if (gateResults.get(i) == Result.DUPLICATE || tickets.get(i).unlimited()) {
+                duplicateCandidates.add(new IssuedCoupon(requested.get(i).couponId(), requested.get(i).userId()));
+            }
+        }
+        Set<IssuedCoupon> issued = new HashSet<>(couponIssueRepository.findIssued(duplicateCandidates));
+
+        List<IssuedCoupon> newCoupons = new ArrayList<>();
+        for (int i = 0; i < requested.size(); i++) {
+            CouponIssueEvent event = requested.get(i);
+            IssuedCoupon coupon = new IssuedCoupon(event.couponId(), event.userId());
+            Result result = gateResults.get(i);
+            if (result == Result.SOLD_OUT) {
+                results.add(new RequestResult(event.requestId(), "REJECTED", "발급 수량 초과"));
+                log.info("쿠폰 발급 거절 (수량 초과) - couponId: {}, userId: {}", event.couponId(), event.userId());
+                continue;
+            }
+            if (result == Result.DUPLICATE) {
+                // 이 묶음 또는 이전에 커밋된 발급이 있으면 중복, 없으면 중단된 이전 시도가 확보한 자리
+                if (issued.contains(coupon)) {
+                    results.add(new RequestResult(event.requestId(), "REJECTED", "이미 발급된 쿠폰입니다."));
+                    continue;
+                }
+                log.info("커밋되지 않은 이전 발급 재처리 - couponId: {}, userId: {}", event.couponId(), event.userId());
+            }
+            if (tickets.get(i).unlimited() && issued.contains(coupon)) {
+                results.add(new RequestResult(event.requestId(), "REJECTED", "이미 발급된 쿠폰입니다."));
+                continue;
+            }
+            admitted.add(tickets.get(i));
+            issued.add(coupon);
+            newCoupons.add(coupon);
+            results.add(new RequestResult(event.requestId(), "SUCCESS", null));
+        }
+
+        couponIssueRepository.insertUserCoupons(newCoupons);
+        couponIssueRepository.updateRequestResults(results);
+        log.info("쿠폰 발급 배치 처리 - 대상: {}건, 발급: {}건", pending.size(), newCoupons.size());
+    }
+
+    private void registerCompletion(List<Ticket> admitted, List<RequestResult> results) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    resultPublisher.publish(results);
+                } else {
+                    couponIssueGate.release(admitted);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.loopers.application.metrics;
+
+import com.loopers.infrastructure.metrics.ProductMetricsDelta;
+
+import java.util.List;
+
+/**
+ * 집계에 반영할 이벤트 한 건. 컨슈머가 메시지를 해석해 상품별 변화량으로 바꿔 둔다.
+ * 반영할 변화량이 없는 이벤트도 처리 완료로 기록하기 위해 전달한다.
+ */
+public record ProductMetricsEvent(
+        Long eventId,
+        String eventType,
+        List<ProductMetricsDelta> deltas
+) {
+}
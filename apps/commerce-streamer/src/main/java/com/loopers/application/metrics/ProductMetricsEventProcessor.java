@@ -0,0 +1,97 @@
+package com.loopers.application.metrics;
+
+import com.loopers.infrastructure.idempotency.EventHandledBatchRepository;
+import com.loopers.infrastructure.idempotency.EventHandledBatchRepository.HandledEvent;
+import com.loopers.infrastructure.metrics.ProductMetricsBatch;
+import com.loopers.infrastructure.metrics.ProductMetricsBatchWriter;
+import com.loopers.infrastructure.metrics.ProductMetricsDelta;
+import com.loopers.infrastructure.ranking.RankingScoreWriter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이벤트 묶음을 한 트랜잭션으로 product_metrics 에 반영한다.
+ * event_handled 에 처리 기록을 먼저 남겨 새로 기록된 이벤트만 반영하고, 집계 upsert 와 처리 기록을 함께 커밋한다.
+ * 같은 상품의 변화량은 묶음 안에서 먼저 합산해 상품당 한 행만 upsert 한다.
+ * 랭킹 점수는 커밋된 변화량만 반영하도록 커밋 이후에 더한다.
+ * eventId 가 없는 이벤트(eventId 도입 이전에 발행된 조회수 메시지)는 중복 확인 없이 변화량만 반영한다.
+ */
+@Component
+public class ProductMetricsEventProcessor {
+
+    private final EventHandledBatchRepository eventHandledRepository;
+    private final ProductMetricsBatchWriter metricsWriter;
+    private final RankingScoreWriter rankingScoreWriter;
+
+    public ProductMetricsEventProcessor(EventHandledBatchRepository eventHandledRepository,
+                                        ProductMetricsBatchWriter metricsWriter,
+                                        RankingScoreWriter rankingScoreWriter) {
+        this.eventHandledRepository = eventHandledRepository;
+        this.metricsWriter = metricsWriter;
+        this.rankingScoreWriter = rankingScoreWriter;
+    }
+
+    /**
+     * 새로 반영한 이벤트 수를 반환한다.
+     */
+    @Transactional
+    public int process(List<ProductMetricsEvent> events) {
+        Map<Long, ProductMetricsEvent> byEventId = new LinkedHashMap<>();
+        List<ProductMetricsEvent> untracked = new ArrayList<>();
+        for (ProductMetricsEvent event : events) {
+            if (event.eventId() == null) {
+                untracked.add(event);
+            } else {
+                byEventId.putIfAbsent(event.eventId(), event);
+            }
+        }
+        Set<Long> newIds = eventHandledRepository.insertNew(byEventId.values().stream()
+                .map(event -> new HandledEvent(event.eventId(), event.eventType()))
+                .toList());
+
+        ProductMetricsBatch batch = new ProductMetricsBatch();
+        for (ProductMetricsEvent event : untracked) {
+            for (ProductMetricsDelta delta : event.deltas()) {
+                batch.add(delta);
+            }
+        }
+        for (ProductMetricsEvent event : byEventId.values()) {
+            if (!newIds.contains(event.eventId())) {
+                continue;
+            }
+            for (ProductMetricsDelta delta : event.deltas()) {
+                batch.add(delta);
+            }
+        }
+
+        ProductMetricsBatch.Rows rows = batch.rows();
+        metricsWriter.upsert(rows);
+        incrementRankingAfterCommit(rows);
+        return newIds.size() + untracked.size();
+    }
+
+    private void incrementRankingAfterCommit(ProductMetricsBatch.Rows rows) {
+        if (rows.size() == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rankingScoreWriter.increment(rows, LocalDateTime.now());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rankingScoreWriter.increment(rows, LocalDateTime.now());
+            }
+        });
+    }
+}
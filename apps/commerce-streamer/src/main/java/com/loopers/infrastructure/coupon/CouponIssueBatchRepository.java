@@ -0,0 +1,98 @@
+package com.loopers.infrastructure.coupon;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 쿠폰 발급 요청 묶음을 처리할 때 필요한 조회/기록을 배치 단위로 실행한다.
+ * 시각 컬럼은 JPA(hibernate.jdbc.time_zone=UTC)와 같이 UTC 기준 LocalDateTime 으로 기록한다.
+ */
+@Component
+public class CouponIssueBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CouponIssueBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record IssuedCoupon(Long couponId, String userId) {}
+
+    public record RequestResult(Long requestId, String status, String rejectReason) {}
+
+    public Set<Long> findExistingRequestIds(Collection<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(
+                "SELECT id FROM coupon_issue_requests WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", requestIds.toArray())),
+                (rs, rowNum) -> rs.getLong(1)));
+    }
+
+    /**
+     * 후보 (couponId, userId) 중 이미 발급된 조합을 반환한다.
+     */
+    public Set<IssuedCoupon> findIssued(Collection<IssuedCoupon> candidates) {
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        Object[] couponIds = candidates.stream().map(IssuedCoupon::couponId).distinct().toArray();
+        Object[] userIds = candidates.stream().map(IssuedCoupon::userId).distinct().toArray();
+        List<IssuedCoupon> issued = jdbcTemplate.query(
+                "SELECT coupon_id, user_id FROM user_coupons WHERE coupon_id = ANY(?) AND user_id = ANY(?)",
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", couponIds));
+                    ps.setArray(2, ps.getConnection().createArrayOf("varchar", userIds));
+                },
+                (rs, rowNum) -> new IssuedCoupon(rs.getLong(1), rs.getString(2)));
+        Set<IssuedCoupon> result = new HashSet<>(issued);
+        result.retainAll(new HashSet<>(candidates));
+        return result;
+    }
+
+    public void insertUserCoupons(List<IssuedCoupon> coupons) {
+        if (coupons.isEmpty()) {
+            return;
+        }
+        LocalDateTime issuedAt = LocalDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_coupons (coupon_id, user_id, status, issued_at) VALUES (?, ?, 'AVAILABLE', ?)",
+                coupons,
+                coupons.size(),
+                (ps, coupon) -> {
+                    ps.setLong(1, coupon.couponId());
+                    ps.setString(2, coupon.userId());
+                    ps.setObject(3, issuedAt);
+                });
+    }
+
+    public void updateRequestResults(List<RequestResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        LocalDateTime processedAt = LocalDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(
+                "UPDATE coupon_issue_requests SET status = ?, reject_reason = ?, processed_at = ? WHERE id = ?",
+                results,
+                results.size(),
+                (ps, result) -> {
+                    ps.setString(1, result.status());
+                    if (result.rejectReason() == null) {
+                        ps.setNull(2, Types.VARCHAR);
+                    } else {
+                        ps.setString(2, result.rejectReason());
+                    }
+                    ps.setObject(3, processedAt);
+                    ps.setLong(4, result.requestId());
+                });
+    }
+}
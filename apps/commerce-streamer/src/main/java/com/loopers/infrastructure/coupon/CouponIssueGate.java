@@ -0,0 +1,159 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 선착순 쿠폰 발급 가능 여부를 Redis Lua 스크립트 한 번으로 판정하고, 통과한 유저를 발급 Set 에 기록한다.
+ * <p>
+ * 쿠폰별 Set(coupon:issue:users:{couponId}) 하나에 발급된 유저를 담고 SCARD 를 발급 수량으로 쓴다.
+ * 중복 확인, 수량 확인, 기록이 한 스크립트 안에서 끝나므로 INCR/DECR 보정 없이도 수량이 어긋나지 않는다.
+ * 묶음 단위 호출은 EVALSHA 파이프라인 한 번으로 보내고, 스크립트가 캐시에 없으면(NOSCRIPT) 적재한 뒤 한 번 더 보낸다.
+ * commerce-api 의 선착순 입장 판정도 같은 키를 읽는다.
+ * <p>
+ * Set 은 쿠폰 만료 시각 + {@link #RETENTION_AFTER_EXPIRY} 에 만료되도록 기록할 때마다 EXPIREAT 을 건다.
+ * 수량 제한이 없는 쿠폰은 Set 에 기록하지 않는다. 중복 발급은 {@code CouponIssueProcessor} 가 user_coupons 로 확인한다.
+ */
+@Component
+public class CouponIssueGate {
+
+    public static final String ISSUED_USERS_KEY_PREFIX = "coupon:issue:users:";
+    private static final Duration RETENTION_AFTER_EXPIRY = Duration.ofDays(1);
+    // 만료 시각을 모르는 메시지(만료 시각 도입 이전에 발행된 요청)의 Set 보관 기간
+    private static final Duration DEFAULT_RETENTION = Duration.ofDays(30);
+
+    /**
+     * KEYS[1] = 발급 유저 Set, ARGV[1] = userId, ARGV[2] = 최대 발급 수량(0 이하면 무제한), ARGV[3] = Set 만료 시각(epoch 초)
+     * 반환: 0 = 발급, 1 = 이미 발급된 유저, 2 = 수량 소진
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            local max = tonumber(ARGV[2])
+            if max <= 0 then
+                return 0
+            end
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                return 1
+            end
+            if redis.call('SCARD', KEYS[1]) >= max then
+                return 2
+            end
+            redis.call('SADD', KEYS[1], ARGV[1])
+            redis.call('EXPIREAT', KEYS[1], ARGV[3])
+            return 0
+            """, Long.class);
+    private static final byte[] ISSUE_SCRIPT_BYTES = ISSUE_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+
+    public enum Result {
+        ISSUED,
+        DUPLICATE,
+        SOLD_OUT
+    }
+
+    /**
+     * @param couponExpiredAt 쿠폰 만료 시각. null 이면 기록 시점부터 {@link #DEFAULT_RETENTION} 동안 보관한다.
+     */
+    public record Ticket(Long couponId, String userId, int maxIssuance, LocalDateTime couponExpiredAt) {
+
+        public boolean unlimited() {
+            return maxIssuance <= 0;
+        }
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public CouponIssueGate(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 요청 순서대로 판정한 결과를 같은 순서로 반환한다. 같은 묶음 안의 중복 요청은 뒤의 것이 DUPLICATE 가 된다.
+     * 수량 제한이 없는 쿠폰은 항상 ISSUED 를 반환한다.
+     */
+    public List<Result> tryIssue(List<Ticket> tickets) {
+        if (tickets.isEmpty()) {
+            return List.of();
+        }
+        List<Object> replies;
+        try {
+            replies = evalIssue(tickets);
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            // Redis 재시작/페일오버로 스크립트 캐시가 비었으면 모든 명령이 실행되지 않고 NOSCRIPT 로 끝난다
+            redisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.scriptingCommands().scriptLoad(ISSUE_SCRIPT_BYTES));
+            replies = evalIssue(tickets);
+        }
+        List<Result> results = new ArrayList<>(replies.size());
+        for (Object reply : replies) {
+            results.add(Result.values()[((Number) reply).intValue()]);
+        }
+        return results;
+    }
+
+    /**
+     * 발급이 커밋되지 못한 유저를 Set 에서 빼 수량을 돌려준다.
+     */
+    public void release(List<Ticket> tickets) {
+        List<Ticket> limited = tickets.stream().filter(ticket -> !ticket.unlimited()).toList();
+        if (limited.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Ticket ticket : limited) {
+                connection.setCommands().sRem(key(ticket.couponId()), ticket.userId().getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+
+    private List<Object> evalIssue(List<Ticket> tickets) {
+        long now = System.currentTimeMillis() / 1000;
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Ticket ticket : tickets) {
+                connection.scriptingCommands().evalSha(ISSUE_SCRIPT.getSha1(), ReturnType.INTEGER, 1,
+                        key(ticket.couponId()),
+                        ticket.userId().getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(ticket.maxIssuance()).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(expireAt(ticket, now)).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+
+    private long expireAt(Ticket ticket, long now) {
+        if (ticket.couponExpiredAt() == null) {
+            return now + DEFAULT_RETENTION.toSeconds();
+        }
+        return ticket.couponExpiredAt().plus(RETENTION_AFTER_EXPIRY)
+                .atZone(ZoneId.systemDefault())
+                .toEpochSecond();
+    }
+
+    private boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private byte[] key(Long couponId) {
+        return (ISSUED_USERS_KEY_PREFIX + couponId).getBytes(StandardCharsets.UTF_8);
+    }
+}
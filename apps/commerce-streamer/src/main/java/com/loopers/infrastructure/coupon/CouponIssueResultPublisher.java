@@ -0,0 +1,52 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.infrastructure.coupon.CouponIssueBatchRepository.RequestResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 확정된 쿠폰 발급 결과를 Redis Pub/Sub 으로 알린다. commerce-api 가 SSE 로 대기 중인 클라이언트에게 전달한다.
+ * 메시지 형식: {@code requestId|status|rejectReason} (rejectReason 은 비어 있을 수 있다)
+ * Pub/Sub 은 유실될 수 있으므로 결과의 기준은 여전히 coupon_issue_requests 이다.
+ */
+@Component
+public class CouponIssueResultPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponIssueResultPublisher.class);
+
+    public static final String CHANNEL = "coupon:issue:result";
+    private static final String DELIMITER = "|";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public CouponIssueResultPublisher(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void publish(List<RequestResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        byte[] channel = CHANNEL.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (RequestResult result : results) {
+                    String message = result.requestId() + DELIMITER + result.status() + DELIMITER
+                            + (result.rejectReason() != null ? result.rejectReason() : "");
+                    connection.publish(channel, message.getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 발급 결과 알림 실패 - size: {}, error: {}", results.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.loopers.infrastructure.idempotency;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 배치 단위로 event_handled 를 기록한다. 한 번의 unnest INSERT 로 묶음 전체의 처리 기록을 남긴다.
+ * handled_at 은 JPA(hibernate.jdbc.time_zone=UTC)와 같이 UTC 기준으로 기록한다.
+ */
+@Component
+public class EventHandledBatchRepository {
+
+    private static final String INSERT_NEW_SQL = """
+            INSERT INTO event_handled (event_id, event_type, handled_at)
+            SELECT e.event_id, e.event_type, ?
+              FROM unnest(?::bigint[], ?::text[]) AS e(event_id, event_type)
+            ON CONFLICT (event_id) DO NOTHING
+            RETURNING event_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventHandledBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record HandledEvent(Long eventId, String eventType) {}
+
+    /**
+     * 처리 기록을 먼저 남기고, 이번에 새로 기록된 event_id 만 반환한다.
+     * 같은 이벤트를 동시에 처리하는 다른 트랜잭션은 유니크 인덱스에서 기다렸다가 DO NOTHING 으로 빠지므로,
+     * 반환된 이벤트의 변화량만 반영하면 확인과 기록 사이의 경쟁 없이 한 번만 반영된다.
+     * 변화량과 같은 트랜잭션 안에서 호출해야 롤백 시 처리 기록도 함께 사라진다.
+     */
+    public Set<Long> insertNew(List<HandledEvent> events) {
+        if (events.isEmpty()) {
+            return Set.of();
+        }
+        LocalDateTime handledAt = LocalDateTime.now(ZoneOffset.UTC);
+        Object[] eventIds = events.stream().map(HandledEvent::eventId).toArray();
+        Object[] eventTypes = events.stream().map(HandledEvent::eventType).toArray();
+        List<Long> inserted = jdbcTemplate.query(
+                INSERT_NEW_SQL,
+                ps -> {
+                    ps.setObject(1, handledAt);
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint", eventIds));
+                    ps.setArray(3, ps.getConnection().createArrayOf("text", eventTypes));
+                },
+                (rs, rowNum) -> rs.getLong(1));
+        return new HashSet<>(inserted);
+    }
+}
@@ -0,0 +1,160 @@
+package com.loopers.infrastructure.metrics;
+
+import java.util.Arrays;
+
+/**
+ * 한 배치의 상품별 변화량을 productId 기준으로 합산한다.
+ * 배치당 수천 건을 다루므로 Long 박싱 없이 long 키 오픈 어드레싱 테이블에 누적한다.
+ */
+public class ProductMetricsBatch {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] productIds;
+    private long[] likeCounts;
+    private long[] orderCounts;
+    private long[] viewCounts;
+    private long[] salesAmounts;
+    private boolean[] used;
+    private int size;
+
+    public ProductMetricsBatch() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public void add(ProductMetricsDelta delta) {
+        add(delta.productId(), delta.likeCount(), delta.orderCount(), delta.viewCount(), delta.totalSalesAmount());
+    }
+
+    public void add(long productId, long likeCount, long orderCount, long viewCount, long salesAmount) {
+        if ((size + 1) * 2 > productIds.length) {
+            resize();
+        }
+        int slot = slotOf(productId);
+        if (!used[slot]) {
+            used[slot] = true;
+            productIds[slot] = productId;
+            size++;
+        }
+        likeCounts[slot] += likeCount;
+        orderCounts[slot] += orderCount;
+        viewCounts[slot] += viewCount;
+        salesAmounts[slot] += salesAmount;
+    }
+
+    /**
+     * 합산 결과가 0 이 아닌 상품만 productId 오름차순으로 반환한다. 정렬해 두면 동시에 upsert 하는 배치끼리 같은 순서로 행을 잠근다.
+     */
+    public Rows rows() {
+        int[] order = new int[size];
+        int count = 0;
+        for (int slot = 0; slot < productIds.length; slot++) {
+            if (used[slot] && (likeCounts[slot] != 0 || orderCounts[slot] != 0
+                    || viewCounts[slot] != 0 || salesAmounts[slot] != 0)) {
+                order[count++] = slot;
+            }
+        }
+        long[] sortKeys = new long[count];
+        for (int i = 0; i < count; i++) {
+            sortKeys[i] = productIds[order[i]];
+        }
+        Arrays.sort(sortKeys);
+
+        Rows rows = new Rows(count);
+        for (int i = 0; i < count; i++) {
+            int slot = slotOf(sortKeys[i]);
+            rows.productIds[i] = productIds[slot];
+            rows.likeCounts[i] = likeCounts[slot];
+            rows.orderCounts[i] = orderCounts[slot];
+            rows.viewCounts[i] = viewCounts[slot];
+            rows.salesAmounts[i] = salesAmounts[slot];
+        }
+        return rows;
+    }
+
+    public int productCount() {
+        return size;
+    }
+
+    /**
+     * upsert 파라미터로 그대로 넘길 컬럼별 배열.
+     */
+    public static final class Rows {
+        final long[] productIds;
+        final long[] likeCounts;
+        final long[] orderCounts;
+        final long[] viewCounts;
+        final long[] salesAmounts;
+
+        private Rows(int count) {
+            this.productIds = new long[count];
+            this.likeCounts = new long[count];
+            this.orderCounts = new long[count];
+            this.viewCounts = new long[count];
+            this.salesAmounts = new long[count];
+        }
+
+        public int size() {
+            return productIds.length;
+        }
+
+        public long productId(int index) {
+            return productIds[index];
+        }
+
+        public long likeCount(int index) {
+            return likeCounts[index];
+        }
+
+        public long orderCount(int index) {
+            return orderCounts[index];
+        }
+
+        public long viewCount(int index) {
+            return viewCounts[index];
+        }
+
+        public long salesAmount(int index) {
+            return salesAmounts[index];
+        }
+    }
+
+    private int slotOf(long productId) {
+        int mask = productIds.length - 1;
+        int slot = Long.hashCode(productId * 0x9E3779B97F4A7C15L) & mask;
+        while (used[slot] && productIds[slot] != productId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldIds = productIds;
+        long[] oldLikes = likeCounts;
+        long[] oldOrders = orderCounts;
+        long[] oldViews = viewCounts;
+        long[] oldSales = salesAmounts;
+        boolean[] oldUsed = used;
+        allocate(oldIds.length * 2);
+        for (int slot = 0; slot < oldIds.length; slot++) {
+            if (oldUsed[slot]) {
+                int newSlot = slotOf(oldIds[slot]);
+                used[newSlot] = true;
+                productIds[newSlot] = oldIds[slot];
+                likeCounts[newSlot] = oldLikes[slot];
+                orderCounts[newSlot] = oldOrders[slot];
+                viewCounts[newSlot] = oldViews[slot];
+                salesAmounts[newSlot] = oldSales[slot];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        productIds = new long[capacity];
+        likeCounts = new long[capacity];
+        orderCounts = new long[capacity];
+        viewCounts = new long[capacity];
+        salesAmounts = new long[capacity];
+        used = new boolean[capacity];
+    }
+}
@@ -0,0 +1,47 @@
+package com.loopers.infrastructure.metrics;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치에서 합산된 product_metrics 변화량을 한 번의 다중 행 upsert 로 반영한다.
+ * 컬럼별 long 배열을 unnest 로 펼쳐 상품 수와 관계없이 문장 하나, 파라미터 5개로 실행한다.
+ */
+@Component
+public class ProductMetricsBatchWriter {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO product_metrics (product_id, like_count, order_count, view_count, total_sales_amount, updated_at)
+            SELECT d.product_id, d.like_count, d.order_count, d.view_count, d.total_sales_amount, NOW()
+              FROM unnest(?::bigint[], ?::bigint[], ?::bigint[], ?::bigint[], ?::bigint[])
+                   AS d(product_id, like_count, order_count, view_count, total_sales_amount)
+            ON CONFLICT (product_id)
+            DO UPDATE SET like_count = product_metrics.like_count + EXCLUDED.like_count,
+                          order_count = product_metrics.order_count + EXCLUDED.order_count,
+                          view_count = product_metrics.view_count + EXCLUDED.view_count,
+                          total_sales_amount = product_metrics.total_sales_amount + EXCLUDED.total_sales_amount,
+                          updated_at = NOW()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductMetricsBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 반영한 상품 수를 반환한다.
+     */
+    public int upsert(ProductMetricsBatch.Rows rows) {
+        if (rows.size() == 0) {
+            return 0;
+        }
+        return jdbcTemplate.update(UPSERT_SQL, ps -> {
+            ps.setObject(1, rows.productIds);
+            ps.setObject(2, rows.likeCounts);
+            ps.setObject(3, rows.orderCounts);
+            ps.setObject(4, rows.viewCounts);
+            ps.setObject(5, rows.salesAmounts);
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.loopers.infrastructure.metrics;
+
+/**
+ * 상품 하나에 더할 집계 변화량.
+ */
+public record ProductMetricsDelta(
+        long productId,
+        long likeCount,
+        long orderCount,
+        long viewCount,
+        long totalSalesAmount
+) {
+    public static ProductMetricsDelta like(long productId, long delta) {
+        return new ProductMetricsDelta(productId, delta, 0, 0, 0);
+    }
+
+    public static ProductMetricsDelta order(long productId, long delta) {
+        return new ProductMetricsDelta(productId, 0, delta, 0, 0);
+    }
+
+    public static ProductMetricsDelta view(long productId, long count) {
+        return new ProductMetricsDelta(productId, 0, 0, count, 0);
+    }
+
+    public static ProductMetricsDelta sales(long productId, long amount) {
+        return new ProductMetricsDelta(productId, 0, 0, 0, amount);
+    }
+}
@@ -0,0 +1,87 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.RedisConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 윈도우가 바뀌기 전에 현재 점수의 일부를 다음 윈도우 키로 미리 넘겨 둔다.
+ * 새 윈도우가 빈 상태로 시작하면 첫 몇 분의 순위가 소수 이벤트에 크게 흔들리므로 이를 완화한다.
+ * 여러 인스턴스가 같은 시각에 실행해도 한 번만 더해지도록 대상 키별 표식을 SET NX 로 잡는다.
+ * 표식은 ZUNIONSTORE 가 실패하면 지워, 이월되지 않은 윈도우가 표식만 남아 다시 시도되지 못하는 일이 없게 한다.
+ */
+@Component
+public class RankingCarryOverScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingCarryOverScheduler.class);
+    private static final Duration MARKER_TTL = Duration.ofDays(2);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RankingProperties rankingProperties;
+
+    public RankingCarryOverScheduler(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+                                     RankingProperties rankingProperties) {
+        this.redisTemplate = redisTemplate;
+        this.rankingProperties = rankingProperties;
+    }
+
+    @Scheduled(cron = "0 50 * * * *")
+    public void carryOverHourly() {
+        LocalDateTime now = LocalDateTime.now();
+        carryOver(RankingKeys.hourly(now), RankingKeys.hourly(now.plusHours(1)), Duration.ofHours(48));
+    }
+
+    @Scheduled(cron = "0 50 23 * * *")
+    public void carryOverDaily() {
+        LocalDateTime now = LocalDateTime.now();
+        carryOver(RankingKeys.daily(now.toLocalDate()), RankingKeys.daily(now.toLocalDate().plusDays(1)), Duration.ofDays(3));
+    }
+
+    void carryOver(String currentKey, String nextKey, Duration ttl) {
+        String markerKey = "ranking:carry-over:" + nextKey;
+        Boolean first;
+        try {
+            first = redisTemplate.opsForValue().setIfAbsent(markerKey, "1", MARKER_TTL);
+        } catch (RuntimeException e) {
+            log.warn("랭킹 점수 이월 표식 기록 실패 - {} -> {}, error: {}", currentKey, nextKey, e.getMessage());
+            return;
+        }
+        if (!Boolean.TRUE.equals(first)) {
+            return;
+        }
+        try {
+            // next = current x carryOverWeight + next x 1
+            redisTemplate.opsForZSet().unionAndStore(currentKey, List.of(nextKey), nextKey,
+                    Aggregate.SUM, Weights.of(rankingProperties.carryOverWeight(), 1));
+        } catch (RuntimeException e) {
+            log.warn("랭킹 점수 이월 실패 - {} -> {}, error: {}", currentKey, nextKey, e.getMessage());
+            releaseMarker(markerKey);
+            return;
+        }
+        log.info("랭킹 점수 이월 - {} -> {}, weight: {}", currentKey, nextKey, rankingProperties.carryOverWeight());
+        try {
+            redisTemplate.expire(nextKey, ttl);
+        } catch (RuntimeException e) {
+            // 이월은 이미 반영됐으므로 표식은 남겨 두고, TTL 은 이후 점수 적재 시 다시 설정된다
+            log.warn("랭킹 키 TTL 설정 실패 - key: {}, error: {}", nextKey, e.getMessage());
+        }
+    }
+
+    private void releaseMarker(String markerKey) {
+        try {
+            redisTemplate.delete(markerKey);
+        } catch (RuntimeException e) {
+            log.warn("랭킹 점수 이월 표식 삭제 실패 - key: {}, error: {}", markerKey, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.loopers.infrastructure.ranking;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 랭킹 ZSET 키. commerce-api 의 조회 쪽과 같은 형식을 사용한다.
+ * <ul>
+ *     <li>일간: ranking:all:daily:{yyyyMMdd}</li>
+ *     <li>시간: ranking:all:hourly:{yyyyMMddHH}</li>
+ * </ul>
+ */
+public final class RankingKeys {
+
+    private static final DateTimeFormatter DAILY = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter HOURLY = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    private RankingKeys() {}
+
+    public static String daily(LocalDate date) {
+        return "ranking:all:daily:" + DAILY.format(date);
+    }
+
+    public static String hourly(LocalDateTime time) {
+        return "ranking:all:hourly:" + HOURLY.format(time);
+    }
+}
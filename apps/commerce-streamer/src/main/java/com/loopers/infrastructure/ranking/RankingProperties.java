@@ -0,0 +1,11 @@
+package com.loopers.infrastructure.ranking;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(value = "ranking")
+public record RankingProperties(
+        Weight weight,
+        double carryOverWeight
+) {
+    public record Weight(double view, double like, double order) {}
+}
@@ -0,0 +1,67 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.infrastructure.metrics.ProductMetricsBatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 배치에서 합산된 변화량을 가중치로 환산해 시간/일간 랭킹 ZSET 에 더한다.
+ * 상품당 ZINCRBY 두 번을 파이프라인 한 번으로 보낸다.
+ * 윈도우는 이벤트 발생 시각이 아니라 반영 시각 기준이다.
+ */
+@Component
+public class RankingScoreWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingScoreWriter.class);
+    private static final Duration HOURLY_TTL = Duration.ofHours(48);
+    private static final Duration DAILY_TTL = Duration.ofDays(3);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RankingProperties rankingProperties;
+
+    public RankingScoreWriter(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+                              RankingProperties rankingProperties) {
+        this.redisTemplate = redisTemplate;
+        this.rankingProperties = rankingProperties;
+    }
+
+    public void increment(ProductMetricsBatch.Rows rows, LocalDateTime now) {
+        if (rows.size() == 0) {
+            return;
+        }
+        byte[] hourlyKey = RankingKeys.hourly(now).getBytes(StandardCharsets.UTF_8);
+        byte[] dailyKey = RankingKeys.daily(now.toLocalDate()).getBytes(StandardCharsets.UTF_8);
+        RankingProperties.Weight weight = rankingProperties.weight();
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < rows.size(); i++) {
+                    double score = weight.view() * rows.viewCount(i)
+                            + weight.like() * rows.likeCount(i)
+                            + weight.order() * rows.orderCount(i);
+                    if (score == 0) {
+                        continue;
+                    }
+                    byte[] member = String.valueOf(rows.productId(i)).getBytes(StandardCharsets.UTF_8);
+                    connection.zSetCommands().zIncrBy(hourlyKey, score, member);
+                    connection.zSetCommands().zIncrBy(dailyKey, score, member);
+                }
+                connection.keyCommands().expire(hourlyKey, HOURLY_TTL.toSeconds());
+                connection.keyCommands().expire(dailyKey, DAILY_TTL.toSeconds());
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 랭킹은 집계(product_metrics)의 파생 데이터이므로 반영 실패가 배치 처리를 막지 않는다
+            log.warn("랭킹 점수 반영 실패 - products: {}, error: {}", rows.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.loopers.interfaces.consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨슈머 배치 한 번의 처리 시간, 처리 건수, 초당 처리량을 토픽별로 기록한다.
+ * 컨슈머 그룹을 함께 넘기면 그룹별 lag(streamer.consumer.lag)과 최근 배치 처리량(streamer.consumer.throughput) 게이지도 갱신한다.
+ */
+@Component
+public class BatchConsumeMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchConsumeMetrics.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, GroupState> groups = new ConcurrentHashMap<>();
+
+    public BatchConsumeMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * lag 은 리스너 스레드에서 consumer 가 이미 알고 있는 값(currentLag)만 읽으므로 브로커 호출이 없다.
+     * 리스너 스레드(= 컨테이너의 컨슈머)마다 자기 할당 파티션의 lag 합을 덮어쓰고, 게이지는 그 합을 보여준다.
+     */
+    public void record(String topic, String group, Consumer<?, ?> consumer, int recordCount, long startNanos) {
+        double recordsPerSecond = record(topic, recordCount, startNanos);
+        GroupState state = groups.computeIfAbsent(group, this::registerGroup);
+        state.throughput = recordsPerSecond;
+        if (consumer == null) {
+            return;
+        }
+        long lag = 0;
+        for (TopicPartition partition : consumer.assignment()) {
+            OptionalLong partitionLag = consumer.currentLag(partition);
+            if (partitionLag.isPresent()) {
+                lag += partitionLag.getAsLong();
+            }
+        }
+        state.lagByThread.put(Thread.currentThread().getName(), lag);
+    }
+
+    public double record(String topic, int recordCount, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        double recordsPerSecond = elapsedNanos > 0 ? recordCount * 1_000_000_000.0 / elapsedNanos : 0;
+
+        Timer.builder("streamer.batch.duration")
+                .description("컨슈머 배치 한 번을 처리하는 데 걸린 시간")
+                .tag("topic", topic)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Counter.builder("streamer.batch.records")
+                .description("컨슈머가 처리한 레코드 수")
+                .tag("topic", topic)
+                .register(meterRegistry)
+                .increment(recordCount);
+        DistributionSummary.builder("streamer.batch.throughput")
+                .description("배치별 초당 처리 레코드 수")
+                .baseUnit("records/s")
+                .tag("topic", topic)
+                .register(meterRegistry)
+                .record(recordsPerSecond);
+
+        log.debug("{} 배치 처리 - {}건, {}ms, {} records/s",
+                topic, recordCount, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), (long) recordsPerSecond);
+        return recordsPerSecond;
+    }
+
+    private GroupState registerGroup(String group) {
+        GroupState state = new GroupState();
+        Gauge.builder("streamer.consumer.lag", state, GroupState::lag)
+                .description("컨슈머 그룹의 할당 파티션 lag 합")
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder("streamer.consumer.throughput", state, s -> s.throughput)
+                .description("컨슈머 그룹의 최근 배치 초당 처리 레코드 수")
+                .baseUnit("records/s")
+                .tag("group", group)
+                .register(meterRegistry);
+        return state;
+    }
+
+    private static final class GroupState {
+        private final Map<String, Long> lagByThread = new ConcurrentHashMap<>();
+        private volatile double throughput;
+
+        private double lag() {
+            return lagByThread.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
@@ -1,17 +1,18 @@
 package com.loopers.interfaces.consumer;
 
+import com.loopers.application.metrics.ProductMetricsEvent;
+import com.loopers.application.metrics.ProductMetricsEventProcessor;
 import com.loopers.confg.kafka.KafkaConfig;
-import com.loopers.infrastructure.idempotency.EventHandledJpaEntity;
-import com.loopers.infrastructure.idempotency.EventHandledJpaRepository;
-import com.loopers.infrastructure.metrics.ProductMetricsJpaRepository;
+import com.loopers.infrastructure.metrics.ProductMetricsDelta;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -19,55 +20,84 @@ import java.util.Map;
 public class CatalogEventConsumer {
 
     private static final Logger log = LoggerFactory.getLogger(CatalogEventConsumer.class);
+    private static final String GROUP = "streamer-catalog";
+    private static final String TOPIC = "catalog-events";
 
-    private final ProductMetricsJpaRepository metricsRepository;
-    private final EventHandledJpaRepository eventHandledRepository;
+    private final ProductMetricsEventProcessor metricsEventProcessor;
+    private final BatchConsumeMetrics batchConsumeMetrics;
+    private final KeyOrderedBatchExecutor batchExecutor;
 
-    public CatalogEventConsumer(ProductMetricsJpaRepository metricsRepository,
-                                EventHandledJpaRepository eventHandledRepository) {
-        this.metricsRepository = metricsRepository;
-        this.eventHandledRepository = eventHandledRepository;
+    public CatalogEventConsumer(ProductMetricsEventProcessor metricsEventProcessor,
+                                BatchConsumeMetrics batchConsumeMetrics,
+                                KeyOrderedBatchExecutor batchExecutor) {
+        this.metricsEventProcessor = metricsEventProcessor;
+        this.batchConsumeMetrics = batchConsumeMetrics;
+        this.batchExecutor = batchExecutor;
     }
 
     @KafkaListener(
-            topics = "catalog-events",
-            groupId = "streamer-catalog",
+            topics = TOPIC,
+            groupId = GROUP,
             containerFactory = KafkaConfig.BATCH_LISTENER
     )
-    public void consume(List<ConsumerRecord<Object, Object>> records, Acknowledgment ack) {
+    public void consume(List<ConsumerRecord<Object, Object>> records, Acknowledgment ack, Consumer<?, ?> consumer) {
+        long startNanos = System.nanoTime();
+        List<ProductMetricsEvent> events = new ArrayList<>(records.size());
         for (ConsumerRecord<Object, Object> record : records) {
             try {
-                processRecord(record);
+                events.add(toEvent(record));
             } catch (RuntimeException e) {
-                log.error("catalog-events 처리 실패 - offset: {}, error: {}",
+                log.error("catalog-events 해석 실패 - offset: {}, error: {}",
                         record.offset(), e.getMessage(), e);
             }
         }
+
+        // 같은 상품의 이벤트는 한 슬라이스에서 순서대로 처리되고, 모든 슬라이스가 끝난 뒤에 커밋한다
+        batchExecutor.execute(events, CatalogEventConsumer::productKey, this::processSlice);
         ack.acknowledge();
+        batchConsumeMetrics.record(TOPIC, GROUP, consumer, records.size(), startNanos);
+    }
+
+    private void processSlice(List<ProductMetricsEvent> events) {
+        try {
+            metricsEventProcessor.process(events);
+        } catch (RuntimeException e) {
+            // 배치 전체가 롤백되면 이벤트별 트랜잭션으로 다시 처리해 실패한 이벤트만 건너뛴다
+            log.warn("catalog-events 배치 처리 실패, 건별 재처리 - size: {}, error: {}", events.size(), e.getMessage());
+            for (ProductMetricsEvent event : events) {
+                try {
+                    metricsEventProcessor.process(List.of(event));
+                } catch (RuntimeException ex) {
+                    log.error("catalog-events 처리 실패 - eventId: {}, error: {}", event.eventId(), ex.getMessage(), ex);
+                }
+            }
+        }
     }
 
-    @Transactional
-    protected void processRecord(ConsumerRecord<Object, Object> record) {
+    private ProductMetricsEvent toEvent(ConsumerRecord<Object, Object> record) {
         @SuppressWarnings("unchecked")
         Map<String, Object> message = (Map<String, Object>) record.value();
 
-        Long eventId = toLong(message.get("eventId"));
+        Object rawEventId = message.get("eventId");
+        Long eventId = rawEventId == null ? null : toLong(rawEventId);
         String eventType = (String) message.get("eventType");
-
-        if (eventHandledRepository.existsById(eventId)) {
-            log.debug("이미 처리된 이벤트 skip - eventId: {}", eventId);
-            return;
-        }
-
         Long productId = toLong(message.get("productId"));
 
-        switch (eventType) {
-            case "PRODUCT_LIKED" -> metricsRepository.upsertLikeCount(productId, 1);
-            case "PRODUCT_UNLIKED" -> metricsRepository.upsertLikeCount(productId, -1);
-            default -> log.warn("알 수 없는 이벤트 타입: {}", eventType);
-        }
+        List<ProductMetricsDelta> deltas = switch (eventType) {
+            case "PRODUCT_LIKED" -> List.of(ProductMetricsDelta.like(productId, 1));
+            case "PRODUCT_UNLIKED" -> List.of(ProductMetricsDelta.like(productId, -1));
+            // 조회수는 API 가 구간 단위로 합산해 보내는 근사 집계이며, 메시지별 eventId 로 재전달만 걸러진다
+            case "PRODUCT_VIEWED" -> List.of(ProductMetricsDelta.view(productId, toLong(message.get("count"))));
+            default -> {
+                log.warn("알 수 없는 이벤트 타입: {}", eventType);
+                yield List.of();
+            }
+        };
+        return new ProductMetricsEvent(eventId, eventType, deltas);
+    }
 
-        eventHandledRepository.save(new EventHandledJpaEntity(eventId, eventType));
+    private static Long productKey(ProductMetricsEvent event) {
+        return event.deltas().isEmpty() ? null : event.deltas().get(0).productId();
     }
 
     private Long toLong(Object value) {
@@ -1,21 +1,18 @@
 package com.loopers.interfaces.consumer;
 
+import com.loopers.application.coupon.CouponIssueEvent;
+import com.loopers.application.coupon.CouponIssueProcessor;
 import com.loopers.confg.kafka.KafkaConfig;
-import com.loopers.infrastructure.coupon.CouponIssueRequestEntity;
-import com.loopers.infrastructure.coupon.CouponIssueRequestRepository;
-import com.loopers.infrastructure.coupon.UserCouponEntity;
-import com.loopers.infrastructure.coupon.UserCouponEntityRepository;
-import com.loopers.infrastructure.idempotency.EventHandledJpaEntity;
-import com.loopers.infrastructure.idempotency.EventHandledJpaRepository;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -23,88 +20,72 @@ import java.util.Map;
 public class CouponIssueConsumer {
 
     private static final Logger log = LoggerFactory.getLogger(CouponIssueConsumer.class);
-    private static final String COUPON_COUNT_KEY_PREFIX = "coupon:issue:count:";
-
-    private final StringRedisTemplate redisTemplate;
-    private final UserCouponEntityRepository userCouponRepository;
-    private final CouponIssueRequestRepository issueRequestRepository;
-    private final EventHandledJpaRepository eventHandledRepository;
-
-    public CouponIssueConsumer(StringRedisTemplate redisTemplate,
-                               UserCouponEntityRepository userCouponRepository,
-                               CouponIssueRequestRepository issueRequestRepository,
-                               EventHandledJpaRepository eventHandledRepository) {
-        this.redisTemplate = redisTemplate;
-        this.userCouponRepository = userCouponRepository;
-        this.issueRequestRepository = issueRequestRepository;
-        this.eventHandledRepository = eventHandledRepository;
+    private static final String GROUP = "streamer-coupon";
+    private static final String TOPIC = "coupon-issue-requests";
+
+    private final CouponIssueProcessor couponIssueProcessor;
+    private final BatchConsumeMetrics batchConsumeMetrics;
+    private final KeyOrderedBatchExecutor batchExecutor;
+
+    public CouponIssueConsumer(CouponIssueProcessor couponIssueProcessor,
+                               BatchConsumeMetrics batchConsumeMetrics,
+                               KeyOrderedBatchExecutor batchExecutor) {
+        this.couponIssueProcessor = couponIssueProcessor;
+        this.batchConsumeMetrics = batchConsumeMetrics;
+        this.batchExecutor = batchExecutor;
     }
 
     @KafkaListener(
-            topics = "coupon-issue-requests",
-            groupId = "streamer-coupon",
+            topics = TOPIC,
+            groupId = GROUP,
             containerFactory = KafkaConfig.BATCH_LISTENER
     )
-    public void consume(List<ConsumerRecord<Object, Object>> records, Acknowledgment ack) {
+    public void consume(List<ConsumerRecord<Object, Object>> records, Acknowledgment ack, Consumer<?, ?> consumer) {
+        long startNanos = System.nanoTime();
+        List<CouponIssueEvent> events = new ArrayList<>(records.size());
         for (ConsumerRecord<Object, Object> record : records) {
             try {
-                processRecord(record);
+                events.add(toEvent(record));
             } catch (RuntimeException e) {
-                log.error("coupon-issue-requests 처리 실패 - offset: {}, error: {}",
+                log.error("coupon-issue-requests 해석 실패 - offset: {}, error: {}",
                         record.offset(), e.getMessage(), e);
             }
         }
+
+        // 같은 쿠폰의 요청은 한 슬라이스에서 도착 순서대로 판정되고, 모든 슬라이스가 끝난 뒤에 커밋한다
+        batchExecutor.execute(events, CouponIssueEvent::couponId, this::processSlice);
         ack.acknowledge();
+        batchConsumeMetrics.record(TOPIC, GROUP, consumer, records.size(), startNanos);
     }
 
-    @Transactional
-    @SuppressWarnings("unchecked")
-    protected void processRecord(ConsumerRecord<Object, Object> record) {
-        Map<String, Object> message = (Map<String, Object>) record.value();
-
-        Long eventId = toLong(message.get("eventId"));
-        if (eventHandledRepository.existsById(eventId)) {
-            return;
-        }
-
-        Long requestId = toLong(message.get("requestId"));
-        Long couponId = toLong(message.get("couponId"));
-        String userId = (String) message.get("userId");
-        int maxIssuance = toInt(message.get("maxIssuance"));
-
-        CouponIssueRequestEntity request = issueRequestRepository.findById(requestId)
-                .orElse(null);
-        if (request == null) {
-            log.warn("발급 요청을 찾을 수 없음 - requestId: {}", requestId);
-            eventHandledRepository.save(new EventHandledJpaEntity(eventId, "COUPON_ISSUE_REQUESTED"));
-            return;
-        }
-
-        // 중복 발급 방지
-        if (userCouponRepository.existsByCouponIdAndUserId(couponId, userId)) {
-            request.markRejected("이미 발급된 쿠폰입니다.");
-            eventHandledRepository.save(new EventHandledJpaEntity(eventId, "COUPON_ISSUE_REQUESTED"));
-            return;
-        }
-
-        // Redis 원자적 수량 체크
-        if (maxIssuance > 0) {
-            String key = COUPON_COUNT_KEY_PREFIX + couponId;
-            Long currentCount = redisTemplate.opsForValue().increment(key);
-            if (currentCount != null && currentCount > maxIssuance) {
-                redisTemplate.opsForValue().decrement(key);
-                request.markRejected("발급 수량 초과");
-                eventHandledRepository.save(new EventHandledJpaEntity(eventId, "COUPON_ISSUE_REQUESTED"));
-                log.info("쿠폰 발급 거절 (수량 초과) - couponId: {}, userId: {}", couponId, userId);
-                return;
+    private void processSlice(List<CouponIssueEvent> events) {
+        try {
+            couponIssueProcessor.process(events);
+        } catch (RuntimeException e) {
+            // 배치 전체가 롤백되면 요청별 트랜잭션으로 다시 처리해 실패한 요청만 건너뛴다
+            log.warn("coupon-issue-requests 배치 처리 실패, 건별 재처리 - size: {}, error: {}",
+                    events.size(), e.getMessage());
+            for (CouponIssueEvent event : events) {
+                try {
+                    couponIssueProcessor.process(List.of(event));
+                } catch (RuntimeException ex) {
+                    log.error("coupon-issue-requests 처리 실패 - eventId: {}, error: {}",
+                            event.eventId(), ex.getMessage(), ex);
+                }
             }
         }
+    }
 
-        // 쿠폰 발급
-        userCouponRepository.save(UserCouponEntity.issue(couponId, userId));
-        request.markSuccess();
-        eventHandledRepository.save(new EventHandledJpaEntity(eventId, "COUPON_ISSUE_REQUESTED"));
-        log.info("쿠폰 발급 성공 - couponId: {}, userId: {}", couponId, userId);
+    @SuppressWarnings("unchecked")
+    private CouponIssueEvent toEvent(ConsumerRecord<Object, Object> record) {
+        Map<String, Object> message = (Map<String, Object>) record.value();
+        return new CouponIssueEvent(
+                toLong(message.get("eventId")),
+                toLong(message.get("requestId")),
+                toLong(message.get("couponId")),
+                (String) message.get("userId"),
+                toInt(message.get("maxIssuance")),
+                toDateTime(message.get("couponExpiredAt")));
     }
 
     private Long toLong(Object value) {
@@ -112,6 +93,10 @@ public class CouponIssueConsumer {
         return Long.valueOf(String.valueOf(value));
     }
 
+    private LocalDateTime toDateTime(Object value) {
+        return value == null ? null : LocalDateTime.parse(String.valueOf(value));
+    }
+
     private int toInt(Object value) {
         if (value instanceof Number n) return n.intValue();
         return Integer.parseInt(String.valueOf(value));
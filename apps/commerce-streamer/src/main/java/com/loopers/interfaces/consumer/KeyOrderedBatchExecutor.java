@@ -0,0 +1,77 @@
+package com.loopers.interfaces.consumer;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 컨슈머 배치 하나를 키(쿠폰/상품) 기준 슬라이스로 나눠 작업 스레드에서 동시에 처리한다.
+ * 여러 리스너 스레드가 함께 쓰므로 스레드 수를 고정하지 않는 캐시 풀을 사용해, 한 리스너의 슬라이스가 다른 리스너를 기다리지 않게 한다.
+ * 같은 키는 항상 같은 슬라이스에 원래 순서대로 들어가므로 키 단위 순서는 유지되고, 슬라이스끼리는 다루는 행이 겹치지 않는다.
+ * 모든 슬라이스가 끝난 뒤에 반환하므로 호출한 리스너는 그 다음에 오프셋을 커밋하면 된다.
+ * 슬라이스 하나라도 예외로 끝나면 나머지를 기다린 뒤 예외를 던져 배치 전체를 다시 받게 한다. (재처리는 event_handled 로 걸러진다)
+ */
+@Component
+public class KeyOrderedBatchExecutor {
+
+    private final int parallelism;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    public KeyOrderedBatchExecutor(@Value("${streamer.consumer.parallelism:4}") int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public <T> void execute(List<T> events, Function<T, ?> keyOf, Consumer<List<T>> handler) {
+        List<List<T>> slices = partition(events, keyOf);
+        if (slices.size() <= 1) {
+            slices.forEach(handler);
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(slices.size());
+        for (List<T> slice : slices) {
+            futures.add(executor.submit(() -> handler.accept(slice)));
+        }
+        RuntimeException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                failure = failure != null ? failure : new IllegalStateException("슬라이스 처리 실패", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = failure != null ? failure : new IllegalStateException("슬라이스 처리 대기 중 인터럽트", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    <T> List<List<T>> partition(List<T> events, Function<T, ?> keyOf) {
+        List<List<T>> slots = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            slots.add(new ArrayList<>());
+        }
+        for (T event : events) {
+            slots.get(Math.floorMod(Objects.hashCode(keyOf.apply(event)), parallelism)).add(event);
+        }
+        slots.removeIf(List::isEmpty);
+        return slots;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,17 +1,17 @@
 package com.loopers.interfaces.consumer;
 
+import com.loopers.application.metrics.ProductMetricsEvent;
+import com.loopers.application.metrics.ProductMetricsEventProcessor;
 import com.loopers.confg.kafka.KafkaConfig;
-import com.loopers.infrastructure.idempotency.EventHandledJpaEntity;
-import com.loopers.infrastructure.idempotency.EventHandledJpaRepository;
-import com.loopers.infrastructure.metrics.ProductMetricsJpaRepository;
+import com.loopers.infrastructure.metrics.ProductMetricsDelta;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -19,64 +19,96 @@ import java.util.Map;
 public class OrderEventConsumer {
 
     private static final Logger log = LoggerFactory.getLogger(OrderEventConsumer.class);
+    private static final String TOPIC = "order-events";
 
-    private final ProductMetricsJpaRepository metricsRepository;
-    private final EventHandledJpaRepository eventHandledRepository;
+    private final ProductMetricsEventProcessor metricsEventProcessor;
+    private final BatchConsumeMetrics batchConsumeMetrics;
 
-    public OrderEventConsumer(ProductMetricsJpaRepository metricsRepository,
-                              EventHandledJpaRepository eventHandledRepository) {
-        this.metricsRepository = metricsRepository;
-        this.eventHandledRepository = eventHandledRepository;
+    public OrderEventConsumer(ProductMetricsEventProcessor metricsEventProcessor,
+                              BatchConsumeMetrics batchConsumeMetrics) {
+        this.metricsEventProcessor = metricsEventProcessor;
+        this.batchConsumeMetrics = batchConsumeMetrics;
     }
 
     @KafkaListener(
-            topics = "order-events",
+            topics = TOPIC,
             groupId = "streamer-order",
             containerFactory = KafkaConfig.BATCH_LISTENER
     )
     public void consume(List<ConsumerRecord<Object, Object>> records, Acknowledgment ack) {
+        long startNanos = System.nanoTime();
+        List<ProductMetricsEvent> events = new ArrayList<>(records.size());
         for (ConsumerRecord<Object, Object> record : records) {
             try {
-                processRecord(record);
+                events.add(toEvent(record));
             } catch (RuntimeException e) {
-                log.error("order-events 처리 실패 - offset: {}, error: {}",
+                log.error("order-events 해석 실패 - offset: {}, error: {}",
                         record.offset(), e.getMessage(), e);
             }
         }
+
+        try {
+            metricsEventProcessor.process(events);
+        } catch (RuntimeException e) {
+            // 배치 전체가 롤백되면 이벤트별 트랜잭션으로 다시 처리해 실패한 이벤트만 건너뛴다
+            log.warn("order-events 배치 처리 실패, 건별 재처리 - size: {}, error: {}", events.size(), e.getMessage());
+            for (ProductMetricsEvent event : events) {
+                try {
+                    metricsEventProcessor.process(List.of(event));
+                } catch (RuntimeException ex) {
+                    log.error("order-events 처리 실패 - eventId: {}, error: {}", event.eventId(), ex.getMessage(), ex);
+                }
+            }
+        }
         ack.acknowledge();
+        batchConsumeMetrics.record(TOPIC, records.size(), startNanos);
     }
 
-    @Transactional
     @SuppressWarnings("unchecked")
-    protected void processRecord(ConsumerRecord<Object, Object> record) {
+    private ProductMetricsEvent toEvent(ConsumerRecord<Object, Object> record) {
         Map<String, Object> message = (Map<String, Object>) record.value();
 
         Long eventId = toLong(message.get("eventId"));
         String eventType = (String) message.get("eventType");
 
-        if (eventHandledRepository.existsById(eventId)) {
-            return;
-        }
-
+        List<ProductMetricsDelta> deltas = new ArrayList<>();
         switch (eventType) {
             case "ORDER_CREATED" -> {
                 List<Object> productIds = (List<Object>) message.get("productIds");
                 if (productIds != null) {
                     for (Object pid : productIds) {
-                        metricsRepository.upsertOrderCount(toLong(pid), 1);
+                        deltas.add(ProductMetricsDelta.order(toLong(pid), 1));
                     }
                 }
             }
             case "PAYMENT_COMPLETED" -> {
-                Long orderId = toLong(message.get("orderId"));
-                long amount = toLong(message.get("paymentAmount"));
-                // 주문의 상품별 매출 배분은 별도 설계 필요 — 여기서는 주문 단위로 기록
-                log.info("결제 완료 집계 - orderId: {}, amount: {}", orderId, amount);
+                List<Map<String, Object>> items = (List<Map<String, Object>>) message.get("items");
+                if (items == null) {
+                    // 항목 정보가 없던 이전 형식의 이벤트는 상품별로 배분할 수 없다
+                    log.info("결제 완료 집계 (항목 없음) - orderId: {}, amount: {}",
+                            message.get("orderId"), message.get("paymentAmount"));
+                } else {
+                    deltas.addAll(toSalesDeltas(items));
+                }
             }
             default -> log.warn("알 수 없는 이벤트 타입: {}", eventType);
         }
+        return new ProductMetricsEvent(eventId, eventType, deltas);
+    }
 
-        eventHandledRepository.save(new EventHandledJpaEntity(eventId, eventType));
+    /**
+     * 항목 금액(단가 x 수량)에서 주문 할인 배분액을 뺀 실결제액을 상품 매출로 기록한다.
+     * 배분액은 발행 시점에 합계가 결제 금액과 같도록 계산되어 오므로 상품별 합계는 결제 금액과 일치한다.
+     */
+    private List<ProductMetricsDelta> toSalesDeltas(List<Map<String, Object>> items) {
+        List<ProductMetricsDelta> deltas = new ArrayList<>(items.size());
+        for (Map<String, Object> item : items) {
+            long productId = toLong(item.get("productId"));
+            long grossAmount = toLong(item.get("unitPrice")) * toLong(item.get("quantity"));
+            long discountShare = item.get("discountShare") == null ? 0 : toLong(item.get("discountShare"));
+            deltas.add(ProductMetricsDelta.sales(productId, grossAmount - discountShare));
+        }
+        return deltas;
     }
 
     private Long toLong(Object value) {
@@ -0,0 +1,176 @@
+package com.loopers.application.metrics;
+
+import com.loopers.infrastructure.idempotency.EventHandledJpaRepository;
+import com.loopers.infrastructure.metrics.ProductMetricsDelta;
+import com.loopers.infrastructure.metrics.ProductMetricsJpaEntity;
+import com.loopers.infrastructure.metrics.ProductMetricsJpaRepository;
+import com.loopers.infrastructure.ranking.RankingKeys;
+import com.loopers.testcontainers.KafkaTestContainersConfig;
+import com.loopers.testcontainers.PostgreSQLTestContainersConfig;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({PostgreSQLTestContainersConfig.class, RedisTestContainersConfig.class, KafkaTestContainersConfig.class})
+class ProductMetricsEventProcessorTest {
+
+    @Autowired private ProductMetricsEventProcessor processor;
+    @Autowired private ProductMetricsJpaRepository metricsRepository;
+    @Autowired private EventHandledJpaRepository eventHandledRepository;
+    @Autowired private DatabaseCleanUp databaseCleanUp;
+    @Autowired private RedisCleanUp redisCleanUp;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("한 묶음의 변화량을 반영하고 이벤트마다 처리 기록을 남긴다")
+    void process_appliesBatch() {
+        // when
+        int applied = processor.process(List.of(
+                liked(1L, 100L),
+                liked(2L, 100L),
+                new ProductMetricsEvent(3L, "PRODUCT_UNLIKED", List.of(ProductMetricsDelta.like(100L, -1))),
+                new ProductMetricsEvent(4L, "ORDER_CREATED", List.of(
+                        ProductMetricsDelta.order(100L, 1), ProductMetricsDelta.order(200L, 1)))));
+
+        // then
+        ProductMetricsJpaEntity first = metricsRepository.findById(100L).orElseThrow();
+        ProductMetricsJpaEntity second = metricsRepository.findById(200L).orElseThrow();
+        assertThat(applied).isEqualTo(4);
+        assertThat(first.getLikeCount()).isEqualTo(1);
+        assertThat(first.getOrderCount()).isEqualTo(1);
+        assertThat(second.getOrderCount()).isEqualTo(1);
+        assertThat(eventHandledRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("이미 처리된 이벤트와 묶음 안에서 중복된 이벤트는 한 번만 반영한다")
+    void process_skipsHandledAndDuplicated() {
+        // given
+        processor.process(List.of(liked(1L, 100L)));
+
+        // when
+        int applied = processor.process(List.of(liked(1L, 100L), liked(2L, 100L), liked(2L, 100L)));
+
+        // then
+        assertThat(applied).isEqualTo(1);
+        assertThat(metricsRepository.findById(100L).orElseThrow().getLikeCount()).isEqualTo(2);
+        assertThat(eventHandledRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 이벤트 묶음을 동시에 처리해도 변화량은 한 번만 반영된다")
+    void process_concurrentRedelivery_appliesOnce() throws InterruptedException {
+        // given - 리밸런싱 등으로 같은 묶음이 두 컨슈머에 동시에 전달된 상황
+        List<ProductMetricsEvent> events = List.of(liked(1L, 100L), liked(2L, 100L));
+        int threadCount = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger applied = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    applied.addAndGet(processor.process(events));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(applied.get()).isEqualTo(2);
+        assertThat(metricsRepository.findById(100L).orElseThrow().getLikeCount()).isEqualTo(2);
+        assertThat(eventHandledRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 상품에 몰린 이벤트는 합산되어 반영된다")
+    void process_coalescesHotProduct() {
+        // given
+        List<ProductMetricsEvent> events = new ArrayList<>();
+        for (long eventId = 1; eventId <= 500; eventId++) {
+            events.add(liked(eventId, 100L));
+        }
+
+        // when
+        int applied = processor.process(events);
+
+        // then
+        assertThat(applied).isEqualTo(500);
+        assertThat(metricsRepository.findById(100L).orElseThrow().getLikeCount()).isEqualTo(500);
+        assertThat(eventHandledRepository.count()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("eventId 가 없는 조회수 이벤트는 처리 기록 없이 매번 합산된다")
+    void process_appliesViewCountsWithoutDedup() {
+        // given
+        ProductMetricsEvent viewed = new ProductMetricsEvent(null, "PRODUCT_VIEWED",
+                List.of(ProductMetricsDelta.view(100L, 30)));
+
+        // when
+        processor.process(List.of(viewed, viewed));
+
+        // then
+        assertThat(metricsRepository.findById(100L).orElseThrow().getViewCount()).isEqualTo(60);
+        assertThat(eventHandledRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋된 변화량은 가중치를 적용해 일간 랭킹 점수에 더해진다")
+    void process_incrementsRankingScore() {
+        // when - 좋아요 2건(0.2) + 주문 1건(0.7)
+        processor.process(List.of(
+                liked(1L, 100L),
+                liked(2L, 100L),
+                new ProductMetricsEvent(3L, "ORDER_CREATED", List.of(ProductMetricsDelta.order(200L, 1)))));
+
+        // then
+        String dailyKey = RankingKeys.daily(LocalDate.now());
+        assertThat(redisTemplate.opsForZSet().score(dailyKey, "100")).isCloseTo(0.4, within(1e-9));
+        assertThat(redisTemplate.opsForZSet().score(dailyKey, "200")).isCloseTo(0.7, within(1e-9));
+        assertThat(redisTemplate.opsForZSet().reverseRange(dailyKey, 0, -1)).containsExactly("200", "100");
+    }
+
+    private ProductMetricsEvent liked(Long eventId, long productId) {
+        return new ProductMetricsEvent(eventId, "PRODUCT_LIKED", List.of(ProductMetricsDelta.like(productId, 1)));
+    }
+}
@@ -0,0 +1,118 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.infrastructure.coupon.CouponIssueGate.Result;
+import com.loopers.infrastructure.coupon.CouponIssueGate.Ticket;
+import com.loopers.testcontainers.KafkaTestContainersConfig;
+import com.loopers.testcontainers.PostgreSQLTestContainersConfig;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({PostgreSQLTestContainersConfig.class, RedisTestContainersConfig.class, KafkaTestContainersConfig.class})
+class CouponIssueGateTest {
+
+    private static final long COUPON_ID = 1L;
+    private static final LocalDateTime EXPIRED_AT = LocalDateTime.now().plusDays(7);
+
+    @Autowired private CouponIssueGate gate;
+    @Autowired private RedisCleanUp redisCleanUp;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("수량까지만 발급하고 이후 요청은 수량 소진, 같은 유저의 재요청은 중복으로 판정한다")
+    void tryIssue_returnsReasonCodes() {
+        // given
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tickets.add(new Ticket(COUPON_ID, "user" + i, 3, EXPIRED_AT));
+        }
+        tickets.add(new Ticket(COUPON_ID, "user0", 3, EXPIRED_AT));
+
+        // when
+        List<Result> results = gate.tryIssue(tickets);
+
+        // then
+        assertThat(results).containsExactly(
+                Result.ISSUED, Result.ISSUED, Result.ISSUED, Result.SOLD_OUT, Result.SOLD_OUT, Result.DUPLICATE);
+        assertThat(redisTemplate.opsForSet().size(CouponIssueGate.ISSUED_USERS_KEY_PREFIX + COUPON_ID)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최대 수량이 0 이하면 Set 에 기록하지 않고 모두 통과시킨다")
+    void tryIssue_unlimited() {
+        // when
+        List<Result> results = gate.tryIssue(List.of(
+                new Ticket(COUPON_ID, "user1", -1, EXPIRED_AT),
+                new Ticket(COUPON_ID, "user2", -1, EXPIRED_AT),
+                new Ticket(COUPON_ID, "user1", -1, EXPIRED_AT)));
+
+        // then - 중복은 CouponIssueProcessor 가 user_coupons 로 거른다
+        assertThat(results).containsExactly(Result.ISSUED, Result.ISSUED, Result.ISSUED);
+        assertThat(redisTemplate.hasKey(CouponIssueGate.ISSUED_USERS_KEY_PREFIX + COUPON_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("발급 Set 은 쿠폰 만료 이후에 만료되도록 TTL 이 걸린다")
+    void tryIssue_setsExpiryFromCouponLifetime() {
+        // when
+        gate.tryIssue(List.of(new Ticket(COUPON_ID, "user1", 3, EXPIRED_AT)));
+
+        // then - 만료 시각 + 1일
+        Long ttlSeconds = redisTemplate.getExpire(CouponIssueGate.ISSUED_USERS_KEY_PREFIX + COUPON_ID);
+        long expected = Duration.between(LocalDateTime.now(), EXPIRED_AT.plusDays(1)).toSeconds();
+        assertThat(ttlSeconds).isBetween(expected - 60, expected + 60);
+    }
+
+    @Test
+    @DisplayName("스크립트 캐시가 비어 있어도 다시 적재해 판정한다")
+    void tryIssue_reloadsFlushedScript() {
+        // given
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+
+        // when
+        List<Result> results = gate.tryIssue(List.of(new Ticket(COUPON_ID, "user1", 3, EXPIRED_AT)));
+
+        // then
+        assertThat(results).containsExactly(Result.ISSUED);
+    }
+
+    @Test
+    @DisplayName("release 한 유저의 자리는 다른 유저가 다시 받을 수 있다")
+    void release_returnsSlot() {
+        // given
+        Ticket first = new Ticket(COUPON_ID, "user1", 1, EXPIRED_AT);
+        gate.tryIssue(List.of(first));
+
+        // when
+        gate.release(List.of(first));
+        List<Result> results = gate.tryIssue(List.of(new Ticket(COUPON_ID, "user2", 1, EXPIRED_AT)));
+
+        // then
+        assertThat(results).containsExactly(Result.ISSUED);
+    }
+}
@@ -0,0 +1,70 @@
+package com.loopers.infrastructure.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductMetricsBatchTest {
+
+    @Test
+    @DisplayName("같은 상품의 변화량은 한 행으로 합산되고 productId 오름차순으로 나온다")
+    void rows_areCoalescedAndSorted() {
+        // given
+        ProductMetricsBatch batch = new ProductMetricsBatch();
+        for (int i = 0; i < 300; i++) {
+            batch.add(ProductMetricsDelta.like(42L, 1));
+        }
+        batch.add(ProductMetricsDelta.order(7L, 1));
+        batch.add(ProductMetricsDelta.sales(42L, 15000));
+        batch.add(ProductMetricsDelta.view(7L, 25));
+
+        // when
+        ProductMetricsBatch.Rows rows = batch.rows();
+
+        // then
+        assertThat(rows.size()).isEqualTo(2);
+        assertThat(rows.productIds).containsExactly(7L, 42L);
+        assertThat(rows.likeCounts).containsExactly(0L, 300L);
+        assertThat(rows.orderCounts).containsExactly(1L, 0L);
+        assertThat(rows.viewCounts).containsExactly(25L, 0L);
+        assertThat(rows.salesAmounts).containsExactly(0L, 15000L);
+    }
+
+    @Test
+    @DisplayName("합산 결과가 0 인 상품은 upsert 대상에서 빠진다")
+    void rows_skipZeroNet() {
+        // given
+        ProductMetricsBatch batch = new ProductMetricsBatch();
+        batch.add(ProductMetricsDelta.like(1L, 1));
+        batch.add(ProductMetricsDelta.like(1L, -1));
+        batch.add(ProductMetricsDelta.like(2L, 1));
+
+        // when
+        ProductMetricsBatch.Rows rows = batch.rows();
+
+        // then
+        assertThat(rows.productIds).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("상품 수가 초기 용량을 넘어도 모든 상품이 누적된다")
+    void add_growsBeyondInitialCapacity() {
+        // given
+        ProductMetricsBatch batch = new ProductMetricsBatch();
+        for (long productId = 1; productId <= 3000; productId++) {
+            batch.add(ProductMetricsDelta.order(productId, 1));
+            batch.add(ProductMetricsDelta.order(productId, 1));
+        }
+
+        // when
+        ProductMetricsBatch.Rows rows = batch.rows();
+
+        // then
+        assertThat(batch.productCount()).isEqualTo(3000);
+        assertThat(rows.size()).isEqualTo(3000);
+        assertThat(rows.productIds[0]).isEqualTo(1L);
+        assertThat(rows.productIds[2999]).isEqualTo(3000L);
+        assertThat(rows.orderCounts).containsOnly(2L);
+    }
+}
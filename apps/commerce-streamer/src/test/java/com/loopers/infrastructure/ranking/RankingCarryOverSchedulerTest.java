@@ -0,0 +1,83 @@
+package com.loopers.infrastructure.ranking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RankingCarryOverSchedulerTest {
+
+    private static final String CURRENT_KEY = "ranking:all:20260101";
+    private static final String NEXT_KEY = "ranking:all:20260102";
+    private static final String MARKER_KEY = "ranking:carry-over:" + NEXT_KEY;
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private ZSetOperations<String, String> zSetOperations;
+    private RankingCarryOverScheduler scheduler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        scheduler = new RankingCarryOverScheduler(redisTemplate,
+                new RankingProperties(new RankingProperties.Weight(0.1, 0.2, 0.7), 0.1));
+    }
+
+    @Test
+    @DisplayName("이월에 성공하면 표식을 남겨 같은 윈도우를 다시 이월하지 않는다")
+    void carryOver_keepsMarkerOnSuccess() {
+        // given
+        when(valueOperations.setIfAbsent(eq(MARKER_KEY), eq("1"), any(Duration.class))).thenReturn(true);
+
+        // when
+        scheduler.carryOver(CURRENT_KEY, NEXT_KEY, Duration.ofDays(3));
+
+        // then
+        verify(zSetOperations).unionAndStore(eq(CURRENT_KEY), anyList(), eq(NEXT_KEY), any(), any());
+        verify(redisTemplate).expire(NEXT_KEY, Duration.ofDays(3));
+        verify(redisTemplate, never()).delete(MARKER_KEY);
+    }
+
+    @Test
+    @DisplayName("ZUNIONSTORE 가 실패하면 표식을 지워 다시 이월할 수 있게 한다")
+    void carryOver_releasesMarkerOnFailure() {
+        // given
+        when(valueOperations.setIfAbsent(eq(MARKER_KEY), eq("1"), any(Duration.class))).thenReturn(true);
+        when(zSetOperations.unionAndStore(eq(CURRENT_KEY), anyList(), eq(NEXT_KEY), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("connection reset"));
+
+        // when
+        scheduler.carryOver(CURRENT_KEY, NEXT_KEY, Duration.ofDays(3));
+
+        // then
+        verify(redisTemplate).delete(MARKER_KEY);
+        verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 표식을 잡았으면 이월하지 않는다")
+    void carryOver_skipsWhenMarkerExists() {
+        // given
+        when(valueOperations.setIfAbsent(eq(MARKER_KEY), eq("1"), any(Duration.class))).thenReturn(false);
+
+        // when
+        scheduler.carryOver(CURRENT_KEY, NEXT_KEY, Duration.ofDays(3));
+
+        // then
+        verifyNoInteractions(zSetOperations);
+        verify(redisTemplate, never()).delete(MARKER_KEY);
+    }
+}
@@ -0,0 +1,95 @@
+package com.loopers.interfaces.consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class KeyOrderedBatchExecutorTest {
+
+    private KeyOrderedBatchExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KeyOrderedBatchExecutor(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    record Event(long key, int seq) {}
+
+    @Test
+    @DisplayName("같은 키의 이벤트는 한 슬라이스에 원래 순서대로 들어간다")
+    void execute_preservesOrderPerKey() {
+        // given
+        List<Event> events = IntStream.range(0, 1000)
+                .mapToObj(i -> new Event(i % 7, i))
+                .toList();
+        Map<Long, List<Integer>> processed = new ConcurrentHashMap<>();
+
+        // when
+        executor.execute(events, Event::key, slice -> slice.forEach(event ->
+                processed.computeIfAbsent(event.key(), key -> new CopyOnWriteArrayList<>()).add(event.seq())));
+
+        // then
+        Map<Long, List<Integer>> expected = events.stream().collect(Collectors.groupingBy(Event::key,
+                Collectors.mapping(Event::seq, Collectors.toList())));
+        assertThat(processed).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("모든 슬라이스가 끝난 뒤에 반환한다")
+    void execute_waitsForAllSlices() {
+        // given
+        List<Event> events = IntStream.range(0, 40).mapToObj(i -> new Event(i, i)).toList();
+        AtomicInteger processed = new AtomicInteger();
+
+        // when
+        executor.execute(events, Event::key, slice -> {
+            sleep(50);
+            processed.addAndGet(slice.size());
+        });
+
+        // then
+        assertThat(processed.get()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("슬라이스 하나가 실패하면 나머지를 마친 뒤 예외를 던져 커밋하지 않게 한다")
+    void execute_propagatesSliceFailure() {
+        // given
+        List<Event> events = IntStream.range(0, 40).mapToObj(i -> new Event(i, i)).toList();
+        AtomicInteger processed = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(events, Event::key, slice -> {
+            if (slice.stream().anyMatch(event -> event.key() == 0)) {
+                throw new IllegalStateException("db down");
+            }
+            sleep(50);
+            processed.addAndGet(slice.size());
+        })).isInstanceOf(IllegalStateException.class).hasRootCauseMessage("db down");
+        assertThat(processed.get()).isEqualTo(30);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
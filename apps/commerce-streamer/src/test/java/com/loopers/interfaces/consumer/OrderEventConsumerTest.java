@@ -0,0 +1,81 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.application.metrics.ProductMetricsEvent;
+import com.loopers.application.metrics.ProductMetricsEventProcessor;
+import com.loopers.infrastructure.metrics.ProductMetricsDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class OrderEventConsumerTest {
+
+    private ProductMetricsEventProcessor processor;
+    private Acknowledgment ack;
+    private OrderEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        processor = mock(ProductMetricsEventProcessor.class);
+        ack = mock(Acknowledgment.class);
+        consumer = new OrderEventConsumer(processor, new BatchConsumeMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("결제 완료 이벤트는 항목별 실결제액을 상품 매출로 배분한다")
+    @SuppressWarnings("unchecked")
+    void paymentCompleted_apportionsSalesPerProduct() {
+        // given - 총 40,000원 중 1,000원 할인
+        Map<String, Object> message = Map.of(
+                "eventId", 10L,
+                "eventType", "PAYMENT_COMPLETED",
+                "orderId", 1L,
+                "paymentAmount", 39000,
+                "items", List.of(
+                        Map.of("productId", 100L, "quantity", 2, "unitPrice", 10000, "discountShare", 500),
+                        Map.of("productId", 200L, "quantity", 1, "unitPrice", 20000, "discountShare", 500)));
+
+        // when
+        consumer.consume(List.of(new ConsumerRecord<>("order-events", 0, 0L, "1", message)), ack);
+
+        // then
+        ArgumentCaptor<List<ProductMetricsEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(processor).process(captor.capture());
+        List<ProductMetricsDelta> deltas = captor.getValue().get(0).deltas();
+        assertThat(deltas).containsExactly(
+                ProductMetricsDelta.sales(100L, 19500),
+                ProductMetricsDelta.sales(200L, 19500));
+        assertThat(deltas.stream().mapToLong(ProductMetricsDelta::totalSalesAmount).sum()).isEqualTo(39000);
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    @DisplayName("항목 정보가 없는 이전 형식의 결제 완료 이벤트는 매출 없이 처리 완료만 기록한다")
+    @SuppressWarnings("unchecked")
+    void paymentCompleted_withoutItems() {
+        // given
+        Map<String, Object> message = Map.of(
+                "eventId", 11L,
+                "eventType", "PAYMENT_COMPLETED",
+                "orderId", 2L,
+                "paymentAmount", 5000);
+
+        // when
+        consumer.consume(List.of(new ConsumerRecord<>("order-events", 0, 1L, "2", message)), ack);
+
+        // then
+        ArgumentCaptor<List<ProductMetricsEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(processor).process(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+                .satisfies(event -> assertThat(event.deltas()).isEmpty());
+    }
+}
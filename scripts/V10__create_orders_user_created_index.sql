@@ -0,0 +1,17 @@
+-- ============================================
+-- V10: 내 주문 목록 조회용 복합 인덱스
+-- 목적: GET /api/v1/orders, GET /api/v1/orders/cursor 의 user_id 필터 + 최신순 정렬을 인덱스 범위 스캔으로 처리
+-- Target: PostgreSQL 16
+-- ============================================
+-- 목록 조회는 orders 의 요약 컬럼(id, status, payment_amount, created_at)만 읽고 order_items / order_snapshots 는 조인하지 않는다.
+-- created_at 이 같은 주문이 커서 경계에서 누락/중복되지 않도록 id 를 보조 정렬 컬럼으로 포함한다.
+-- 기간 필터(created_at BETWEEN)도 같은 인덱스의 두 번째 컬럼 범위 조건으로 처리된다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_user_created_id
+    ON orders (user_id, created_at DESC, id DESC);
+
+-- 검증 쿼리 (Index Cond 에 user_id 와 행 비교가 포함되고, Sort 노드가 없어야 함)
+-- EXPLAIN ANALYZE
+-- SELECT o.id, o.status, o.payment_amount, o.created_at FROM orders o
+-- WHERE o.user_id = 'user1' AND (o.created_at, o.id) < ('2025-06-01 12:00:00', 53210)
+-- ORDER BY o.created_at DESC, o.id DESC LIMIT 21;
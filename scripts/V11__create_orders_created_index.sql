@@ -0,0 +1,17 @@
+-- ============================================
+-- V11: 관리자 주문 목록 조회용 인덱스
+-- 목적: GET /api-admin/v1/orders 의 최신순 페이지 조회와 기간 필터를 인덱스 범위 스캔으로 처리
+-- Target: PostgreSQL 16
+-- ============================================
+-- 관리자 목록은 user_id 조건이 없어 V10 인덱스를 쓰지 못하고, 인덱스가 없으면 매 페이지마다 전체 정렬이 발생한다.
+-- status 필터는 인덱스 스캔 중 Filter 로 처리한다. 상태 값 종류가 적어 별도 인덱스의 선택도가 낮다.
+-- 내보내기(GET /api-admin/v1/orders/export)는 id 순으로 PK 인덱스를 따라 읽으므로 별도 인덱스가 필요 없다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_created_id
+    ON orders (created_at DESC, id DESC);
+
+-- 검증 쿼리 (Index Scan using idx_orders_created_id, Sort 노드가 없어야 함)
+-- EXPLAIN ANALYZE
+-- SELECT o.id, o.status, o.payment_amount, o.created_at FROM orders o
+-- WHERE o.created_at >= '2025-06-01 00:00:00' AND o.created_at <= '2025-06-30 23:59:59.999999'
+-- ORDER BY o.created_at DESC, o.id DESC LIMIT 20 OFFSET 0;
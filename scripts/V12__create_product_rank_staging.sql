@@ -0,0 +1,20 @@
+-- ============================================
+-- V12: 기간 랭킹 스테이징 테이블
+-- 목적: productRankingJob 이 점수를 먼저 스테이징에 쌓고, 게시 단계에서 한 트랜잭션으로 mv_product_rank_* 의
+--       해당 기간 행을 교체하며 순위를 매긴다. 배치가 도는 동안에도 API 는 이전 순위 전체를 읽는다.
+-- Target: PostgreSQL 16
+-- ============================================
+
+-- period: DAILY / WEEKLY / MONTHLY
+CREATE TABLE IF NOT EXISTS product_rank_staging (
+    id           BIGSERIAL PRIMARY KEY,
+    period       VARCHAR(10)      NOT NULL,
+    period_start DATE             NOT NULL,
+    product_id   BIGINT           NOT NULL,
+    like_count   BIGINT           NOT NULL,
+    order_count  BIGINT           NOT NULL,
+    view_count   BIGINT           NOT NULL,
+    sales_amount BIGINT           NOT NULL,
+    score        DOUBLE PRECISION NOT NULL,
+    CONSTRAINT uk_product_rank_staging UNIQUE (period, period_start, product_id)
+);
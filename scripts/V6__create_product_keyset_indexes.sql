@@ -0,0 +1,54 @@
+-- ============================================
+-- V6: 상품 목록 커서(keyset) 페이징용 Partial Index
+-- 목적: GET /api/v1/products/cursor 의 (정렬값, id) 행 비교를 인덱스 범위 스캔으로 처리
+-- Target: PostgreSQL 16
+-- ============================================
+-- V5 인덱스에 id 를 보조 정렬 컬럼으로 추가한다.
+-- (정렬값, id) 복합 인덱스는 기존 offset 목록 조회의 ORDER BY 도 그대로 커버하므로 V5 인덱스는 제거한다.
+-- 운영 반영 시에는 CONCURRENTLY 로 생성 후 기존 인덱스를 제거한다.
+
+-- 1. 최신순 (기본 정렬)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_created_id
+    ON products (created_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 2. 가격순 (price_asc 는 정방향, price_desc 는 역방향 스캔)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_price_id
+    ON products (price ASC, id ASC)
+    WHERE deleted_at IS NULL;
+
+-- 3. 좋아요 순 (브랜드 필터 없이)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_likes_id
+    ON products (like_count DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 4. 브랜드 필터 + 좋아요 순
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_brand_likes_id
+    ON products (brand_id, like_count DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 5. 브랜드 필터 + 최신순
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_brand_created_id
+    ON products (brand_id, created_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 6. 브랜드 필터 + 가격순 (price_desc 는 역방향 스캔)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_brand_price_id
+    ON products (brand_id, price ASC, id ASC)
+    WHERE deleted_at IS NULL;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_active_created;
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_active_price;
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_active_likes;
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_active_brand_likes;
+
+-- 검증 쿼리 (Index Cond 에 행 비교가 포함되어야 함)
+-- EXPLAIN ANALYZE
+-- SELECT * FROM products p
+-- WHERE p.deleted_at IS NULL AND (p.like_count, p.id) < (120, 53210)
+-- ORDER BY p.like_count DESC, p.id DESC LIMIT 21;
+--
+-- EXPLAIN ANALYZE
+-- SELECT * FROM products p
+-- WHERE p.deleted_at IS NULL AND p.brand_id = 7 AND (p.price, p.id) > (39000, 1204)
+-- ORDER BY p.price ASC, p.id ASC LIMIT 21;
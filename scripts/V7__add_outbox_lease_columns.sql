@@ -0,0 +1,17 @@
+-- ============================================
+-- V7: Outbox 다중 인스턴스 릴레이용 임대(lease) 컬럼
+-- 목적: 여러 인스턴스가 FOR UPDATE SKIP LOCKED 로 레인(topic, partition_key)을 나눠 가져가고,
+--       임대가 만료된 레인은 다른 인스턴스가 다시 가져가도록 한다.
+-- Target: PostgreSQL 16
+-- ============================================
+
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS lease_owner VARCHAR(255);
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP;
+
+-- 레인의 head(가장 앞선 PENDING 행) 판별과 레인 단위 임대 UPDATE 에 사용
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_outbox_lane
+    ON outbox_events (topic, partition_key, id);
+
+-- 인스턴스별 임대 행 조회/연장에 사용
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_outbox_lease_owner
+    ON outbox_events (lease_owner);
@@ -0,0 +1,36 @@
+-- ============================================
+-- V8: Outbox Partial Index 와 PUBLISHED 정리용 인덱스
+-- 목적: 발행 대기 스캔 비용이 누적된 발행 이력과 무관하도록 PENDING 행만 인덱싱하고,
+--       OutboxArchiver 의 보관 기간 초과 행 삭제를 인덱스 범위 스캔으로 처리
+-- Target: PostgreSQL 16
+-- ============================================
+-- PUBLISHED 행은 OutboxArchiver 가 보관 기간(7일) 이후 청크 단위로 삭제한다.
+-- 파티셔닝 대신 Partial Index + 청크 삭제를 택했다. (PK 가 id 단독이라 created_at 파티션 키를 넣으려면 PK 변경이 필요)
+-- 삭제로 생기는 dead tuple 은 autovacuum 이 회수하도록 테이블 단위 임계치를 낮춘다.
+
+-- 1. 레인 head 판별 / 레인 임대 (V7 idx_outbox_lane 대체)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_outbox_pending_lane
+    ON outbox_events (topic, partition_key, id)
+    WHERE status = 'PENDING';
+
+-- 2. 인스턴스별 임대 행 조회 (V7 idx_outbox_lease_owner 대체)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_outbox_pending_lease_owner
+    ON outbox_events (lease_owner, id)
+    WHERE status = 'PENDING';
+
+-- 3. 보관 기간이 지난 PUBLISHED 행 정리
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_outbox_published_at
+    ON outbox_events (published_at)
+    WHERE status = 'PUBLISHED';
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_outbox_status;
+DROP INDEX CONCURRENTLY IF EXISTS idx_outbox_lane;
+DROP INDEX CONCURRENTLY IF EXISTS idx_outbox_lease_owner;
+
+ALTER TABLE outbox_events SET (autovacuum_vacuum_scale_factor = 0.02, autovacuum_vacuum_threshold = 1000);
+
+-- 검증 쿼리 (Index Cond 에 published_at 범위가 포함되고, Sort 노드가 없어야 함)
+-- EXPLAIN ANALYZE
+-- SELECT id FROM outbox_events
+-- WHERE status = 'PUBLISHED' AND published_at < now() - interval '7 days'
+-- ORDER BY published_at LIMIT 1000;
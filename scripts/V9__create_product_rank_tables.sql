@@ -0,0 +1,67 @@
+-- ============================================
+-- V9: 기간 랭킹 적재(materialized) 테이블
+-- 목적: commerce-batch productRankingJob 이 product_metrics 스냅샷 차이로 일간/주간/월간 순위를 적재하고,
+--       commerce-api 는 (period_start, ranking) 인덱스 한 번으로 순위 구간을 읽는다.
+-- Target: PostgreSQL 16
+-- ============================================
+
+-- 기준일별 누적값 스냅샷 (기간 변화량 = 기준일 스냅샷 - 기간 시작 전날 스냅샷)
+CREATE TABLE IF NOT EXISTS product_metrics_snapshot (
+    id                 BIGSERIAL PRIMARY KEY,
+    snapshot_date      DATE   NOT NULL,
+    product_id         BIGINT NOT NULL,
+    like_count         BIGINT NOT NULL,
+    order_count        BIGINT NOT NULL,
+    view_count         BIGINT NOT NULL,
+    total_sales_amount BIGINT NOT NULL,
+    CONSTRAINT uk_product_metrics_snapshot UNIQUE (snapshot_date, product_id)
+);
+
+-- 상품별 기준일 이전 가장 최근 스냅샷 조회 (WHERE product_id = ? AND snapshot_date <= ? ORDER BY snapshot_date DESC LIMIT 1)
+CREATE INDEX IF NOT EXISTS idx_product_metrics_snapshot_product_date
+    ON product_metrics_snapshot (product_id, snapshot_date DESC);
+
+-- period_start: 일간은 기준일, 주간은 월요일, 월간은 1일
+CREATE TABLE IF NOT EXISTS mv_product_rank_daily (
+    id           BIGSERIAL PRIMARY KEY,
+    period_start DATE             NOT NULL,
+    product_id   BIGINT           NOT NULL,
+    like_count   BIGINT           NOT NULL,
+    order_count  BIGINT           NOT NULL,
+    view_count   BIGINT           NOT NULL,
+    sales_amount BIGINT           NOT NULL,
+    score        DOUBLE PRECISION NOT NULL,
+    ranking      INTEGER,
+    CONSTRAINT uk_mv_product_rank_daily UNIQUE (period_start, product_id)
+);
+
+CREATE TABLE IF NOT EXISTS mv_product_rank_weekly (
+    id           BIGSERIAL PRIMARY KEY,
+    period_start DATE             NOT NULL,
+    product_id   BIGINT           NOT NULL,
+    like_count   BIGINT           NOT NULL,
+    order_count  BIGINT           NOT NULL,
+    view_count   BIGINT           NOT NULL,
+    sales_amount BIGINT           NOT NULL,
+    score        DOUBLE PRECISION NOT NULL,
+    ranking      INTEGER,
+    CONSTRAINT uk_mv_product_rank_weekly UNIQUE (period_start, product_id)
+);
+
+CREATE TABLE IF NOT EXISTS mv_product_rank_monthly (
+    id           BIGSERIAL PRIMARY KEY,
+    period_start DATE             NOT NULL,
+    product_id   BIGINT           NOT NULL,
+    like_count   BIGINT           NOT NULL,
+    order_count  BIGINT           NOT NULL,
+    view_count   BIGINT           NOT NULL,
+    sales_amount BIGINT           NOT NULL,
+    score        DOUBLE PRECISION NOT NULL,
+    ranking      INTEGER,
+    CONSTRAINT uk_mv_product_rank_monthly UNIQUE (period_start, product_id)
+);
+
+-- 순위 구간 조회 (WHERE period_start = ? AND ranking BETWEEN ? AND ?)
+CREATE INDEX IF NOT EXISTS idx_mv_product_rank_daily_ranking ON mv_product_rank_daily (period_start, ranking);
+CREATE INDEX IF NOT EXISTS idx_mv_product_rank_weekly_ranking ON mv_product_rank_weekly (period_start, ranking);
+CREATE INDEX IF NOT EXISTS idx_mv_product_rank_monthly_ranking ON mv_product_rank_monthly (period_start, ranking);
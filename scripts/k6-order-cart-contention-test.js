@@ -0,0 +1,178 @@
+import http from 'k6/http';
+import { check, group } from 'k6';
+import { Trend, Counter, Rate } from 'k6/metrics';
+
+// ============================================
+// 5개 상품 장바구니 주문 - 재고 경합 p99 비교
+// ============================================
+// 모든 주문이 소수의 인기 상품(HOT_PRODUCT_IDS)을 공유하도록 장바구니를 구성해 같은 행에 대한 경합을 만든다.
+// 비관적 락 루프(이전 빌드)와 조건부 UPDATE 배치(현재 빌드)를 같은 데이터로 각각 실행하고
+// LABEL 환경변수로 결과를 구분해 order_create_duration p99 를 비교한다.
+//
+//   k6 run -e LABEL=lock-loop  scripts/k6-order-cart-contention-test.js   # 이전 빌드
+//   k6 run -e LABEL=batch      scripts/k6-order-cart-contention-test.js   # 현재 빌드
+//
+// 실행 전 mock-data.sql 로 상품을 적재하고, 대상 상품 재고를 충분히 올려둔다.
+//   UPDATE products SET stock_quantity = 1000000 WHERE id <= 50;
+
+const orderCreateDuration = new Trend('order_create_duration', true);
+const orderErrorRate = new Rate('order_errors');
+const stockShortfalls = new Counter('stock_shortfalls');
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const LABEL = __ENV.LABEL || 'batch';
+const USER_COUNT = 100;
+const PASSWORD = 'Passw0rd11';
+const CART_SIZE = 5;
+const HOT_PRODUCT_IDS = [1, 2, 3];       // 모든 장바구니에 1개 이상 포함되는 인기 상품
+const COLD_PRODUCT_RANGE = 47;           // 나머지 라인은 4 ~ 50번 상품 중에서 선택
+
+// ============================================
+// Setup — 테스트용 유저 생성
+// ============================================
+export function setup() {
+  console.log(`=== Setup: 테스트 유저 생성 (LABEL=${LABEL}) ===`);
+
+  const users = [];
+  for (let i = 1; i <= USER_COUNT; i++) {
+    const loginId = `cartuser${i}`;
+    const res = http.post(
+      `${BASE_URL}/api/v1/users`,
+      JSON.stringify({
+        loginId: loginId,
+        password: PASSWORD,
+        name: `장바구니유저${i}`,
+        birthday: '1990-06-20',
+        email: `cartuser${i}@test.com`,
+      }),
+      { headers: { 'Content-Type': 'application/json' } }
+    );
+
+    if (res.status === 200 || res.status === 409) {
+      users.push(loginId);
+    }
+  }
+
+  console.log(`생성된 유저 수: ${users.length}`);
+  return { users };
+}
+
+// ============================================
+// 테스트 시나리오 설정
+// ============================================
+export const options = {
+  scenarios: {
+    cart_contention: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '10s', target: 20 },   // 워밍업
+        { duration: '30s', target: 50 },   // 일반 경합
+        { duration: '30s', target: 100 },  // 고경합
+        { duration: '10s', target: 0 },    // 쿨다운
+      ],
+      exec: 'orderFiveItemCart',
+      tags: { test_type: 'cart_contention', label: LABEL },
+    },
+  },
+  summaryTrendStats: ['count', 'avg', 'med', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    order_create_duration: ['p(95)<800', 'p(99)<1500'],
+    order_errors: ['rate<0.01'],
+  },
+};
+
+// ============================================
+// 헬퍼 함수
+// ============================================
+function authHeaders(loginId) {
+  return {
+    'Content-Type': 'application/json',
+    'X-Loopers-LoginId': loginId,
+    'X-Loopers-LoginPw': PASSWORD,
+  };
+}
+
+function buildCart() {
+  const productIds = new Set();
+  productIds.add(HOT_PRODUCT_IDS[Math.floor(Math.random() * HOT_PRODUCT_IDS.length)]);
+  while (productIds.size < CART_SIZE) {
+    productIds.add(Math.floor(Math.random() * COLD_PRODUCT_RANGE) + HOT_PRODUCT_IDS.length + 1);
+  }
+  return Array.from(productIds).map((productId) => ({ productId: productId, quantity: 1 }));
+}
+
+// ============================================
+// 시나리오: 5개 상품 장바구니 주문
+// ============================================
+export function orderFiveItemCart(data) {
+  const userIndex = (__VU % USER_COUNT) + 1;
+  const loginId = `cartuser${userIndex}`;
+
+  group('5개 상품 주문', () => {
+    const res = http.post(
+      `${BASE_URL}/api/v1/orders`,
+      JSON.stringify({
+        items: buildCart(),
+        receiverName: '홍길동',
+        address: '서울시 강남구',
+        deliveryRequest: '문 앞',
+        paymentMethod: 'CARD',
+      }),
+      { headers: authHeaders(loginId) }
+    );
+
+    orderCreateDuration.add(res.timings.duration);
+    check(res, { 'order 200 OK': (r) => r.status === 200 });
+
+    if (res.status === 400 && res.body && res.body.indexOf('재고가 부족합니다') >= 0) {
+      stockShortfalls.add(1);
+      orderErrorRate.add(0);
+    } else {
+      orderErrorRate.add(res.status >= 400 ? 1 : 0);
+    }
+  });
+}
+
+// ============================================
+// 결과 요약
+// ============================================
+function getMetricP(data, name, percentile) {
+  var m = data.metrics[name];
+  if (!m || !m.values) return 'N/A';
+  var v = m.values['p(' + percentile + ')'];
+  return v ? v.toFixed(0) + 'ms' : 'N/A';
+}
+
+function getMetricCount(data, name) {
+  var m = data.metrics[name];
+  if (!m || !m.values) return 0;
+  return m.values.count || 0;
+}
+
+export function handleSummary(data) {
+  var totalOrders = getMetricCount(data, 'order_create_duration');
+  var duration = data.state ? data.state.testRunDurationMs / 1000 : 80;
+  var tps = totalOrders > 0 ? (totalOrders / duration).toFixed(1) : 'N/A';
+
+  var lines = [
+    '',
+    '╔══════════════════════════════════════════════════╗',
+    '║      5개 상품 장바구니 재고 경합 테스트 결과        ║',
+    '╚══════════════════════════════════════════════════╝',
+    '',
+    '  LABEL:              ' + LABEL,
+    '  총 주문 요청 수:     ' + totalOrders,
+    '  TPS:                ' + tps + ' req/s',
+    '  재고 부족 응답:      ' + getMetricCount(data, 'stock_shortfalls'),
+    '',
+    '── 주문 생성 ──',
+    '  med: ' + (data.metrics.order_create_duration ? data.metrics.order_create_duration.values.med.toFixed(0) + 'ms' : 'N/A'),
+    '  p95: ' + getMetricP(data, 'order_create_duration', 95),
+    '  p99: ' + getMetricP(data, 'order_create_duration', 99),
+    '',
+  ];
+
+  console.log(lines.join('\n'));
+  return {};
+}
@@ -26,6 +26,7 @@ pluginManagement {
 
     resolutionStrategy {
         val kotlinVersion: String by settings
+        val jmhPluginVersion: String by settings
 
         eachPlugin {
             when (requested.id.id) {
@@ -35,6 +36,7 @@ pluginManagement {
                 "org.jetbrains.kotlin.kapt" -> useVersion(kotlinVersion)
                 "org.jetbrains.kotlin.plugin.jpa" -> useVersion(kotlinVersion)
                 "org.jetbrains.kotlin.plugin.spring" -> useVersion(kotlinVersion)
+                "me.champeau.jmh" -> useVersion(jmhPluginVersion)
             }
         }
     }